@@ -0,0 +1,121 @@
+package io.github.orioncraftmc.meditate.benchmark;
+
+import io.github.orioncraftmc.meditate.internal.YGConfig;
+import io.github.orioncraftmc.meditate.internal.YGNode;
+import io.github.orioncraftmc.meditate.internal.YGStyle;
+import io.github.orioncraftmc.meditate.internal.enums.YGAlign;
+import io.github.orioncraftmc.meditate.internal.enums.YGFlexDirection;
+import io.github.orioncraftmc.meditate.internal.enums.YGPositionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the packed int flag storage of {@link YGStyle} and {@link YGNode} against the map based storage they
+ * used before, which is replicated here as {@link MapFlags}. Each benchmark performs the reads a single node sees
+ * in one pass of {@code YGNodelayoutImpl}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlagsBenchmark {
+    private static final int flexDirectionOffset = 2;
+    private static final int alignItemsOffset = 10;
+    private static final int positionTypeOffset = 16;
+    private static final int isDirtyOffset = 2;
+
+    private YGNode node;
+    private MapFlags mapFlags;
+
+    @Setup
+    public void setup() {
+        node = new YGNode(new YGConfig(null));
+        mapFlags = new MapFlags();
+        mapFlags.setEnum(YGAlign.class, alignItemsOffset, YGAlign.YGAlignStretch);
+    }
+
+    @Benchmark
+    public int packed() {
+        YGStyle style = node.getStyle();
+        int sum = style.flexDirection().ordinal();
+        sum += style.alignItems().ordinal();
+        sum += style.positionType().ordinal();
+        sum += node.isDirty() ? 1 : 0;
+        return sum;
+    }
+
+    @Benchmark
+    public int map() {
+        int sum = mapFlags.getEnum(YGFlexDirection.class, flexDirectionOffset).ordinal();
+        sum += mapFlags.getEnum(YGAlign.class, alignItemsOffset).ordinal();
+        sum += mapFlags.getEnum(YGPositionType.class, positionTypeOffset).ordinal();
+        sum += mapFlags.getBoolean(isDirtyOffset) ? 1 : 0;
+        return sum;
+    }
+
+    @Benchmark
+    public boolean packedToggleDirty() {
+        node.setDirty(!node.isDirty());
+        return node.isDirty();
+    }
+
+    @Benchmark
+    public boolean mapToggleDirty() {
+        mapFlags.setBoolean(isDirtyOffset, !mapFlags.getBoolean(isDirtyOffset));
+        return mapFlags.getBoolean(isDirtyOffset);
+    }
+
+    /**
+     * The former {@code HashMap<Object, Object>} flag storage, kept here as the benchmark baseline.
+     */
+    private static final class MapFlags {
+        private final Map<Object, Object> flags = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        <E extends Enum<E>> E getEnum(Class<E> e, int index) {
+            return (E) flags.getOrDefault(new Key(e, index), Arrays.stream(e.getEnumConstants()).findFirst().get());
+        }
+
+        <E extends Enum<E>> void setEnum(Class<E> e, int index, E value) {
+            flags.put(new Key(e, index), value);
+        }
+
+        boolean getBoolean(int index) {
+            return (boolean) flags.getOrDefault(index, false);
+        }
+
+        void setBoolean(int index, boolean value) {
+            flags.put(index, value);
+        }
+    }
+
+    private static final class Key {
+        private final Class<?> enumClazz;
+        private final int index;
+
+        Key(Class<?> enumClazz, int index) {
+            this.enumClazz = enumClazz;
+            this.index = index;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return index == that.index && Objects.equals(enumClazz, that.enumClazz);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(enumClazz, index);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.orioncraftmc.meditate.benchmark;
+
+import io.github.orioncraftmc.meditate.internal.GlobalMembers;
+import io.github.orioncraftmc.meditate.internal.YGConfig;
+import io.github.orioncraftmc.meditate.internal.YGNode;
+import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GlobalMembers#YGNodeCalculateLayoutWithContext} directly on {@link YGNode}s, without the wrapper's
+ * tree walk.
+ * <p>
+ * {@code cold} lays out a freshly built tree, {@code warm} re-lays out an already computed tree after changing the
+ * width of a single leaf. Run with {@code gradle jmh}, which enables the gc profiler for allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NativeTreeLayoutBenchmark {
+
+    @Param({"DEEP_COLUMN", "WIDE_WRAP", "GROW_GRID", "TEXT_LIST", "ABSOLUTE_OVERLAY"})
+    public TreeShape shape;
+
+    @Param({"100", "1000", "5000"})
+    public int nodeCount;
+
+    private YGConfig config;
+    private YGNode root;
+    private YGNode leaf;
+    private boolean toggle;
+
+    @Setup(Level.Trial)
+    public void createConfig() {
+        config = GlobalMembers.YGConfigNew();
+    }
+
+    @State(Scope.Thread)
+    public static class ColdTree {
+        YGNode root;
+
+        // A layout of a whole tree takes far longer than a timer read, so a per invocation setup is accurate enough.
+        @Setup(Level.Invocation)
+        public void build(NativeTreeLayoutBenchmark benchmark) {
+            root = benchmark.shape.buildNative(benchmark.config, benchmark.nodeCount);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void buildWarmTree() {
+        root = shape.buildNative(config, nodeCount);
+        leaf = TreeShape.lastLeaf(root);
+        layout(root);
+    }
+
+    @Benchmark
+    public float cold(ColdTree tree) {
+        layout(tree.root);
+        return GlobalMembers.YGNodeLayoutGetHeight(tree.root);
+    }
+
+    @Benchmark
+    public float warm() {
+        toggle = !toggle;
+        GlobalMembers.YGNodeStyleSetWidth(leaf, toggle ? 10 : 11);
+        layout(root);
+        return GlobalMembers.YGNodeLayoutGetHeight(root);
+    }
+
+    private static void layout(YGNode root) {
+        GlobalMembers.YGNodeCalculateLayoutWithContext(root, TreeShape.ROOT_WIDTH, GlobalMembers.YGUndefined,
+                YGDirection.YGDirectionLTR, null);
+    }
+}
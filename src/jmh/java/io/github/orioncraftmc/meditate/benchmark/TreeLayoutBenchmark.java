@@ -0,0 +1,72 @@
+package io.github.orioncraftmc.meditate.benchmark;
+
+import io.github.orioncraftmc.meditate.YogaConfig;
+import io.github.orioncraftmc.meditate.YogaConfigFactory;
+import io.github.orioncraftmc.meditate.YogaConstants;
+import io.github.orioncraftmc.meditate.YogaNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link YogaNode#calculateLayout(float, float)} through the public wrapper API.
+ * <p>
+ * {@code cold} lays out a freshly built tree, {@code warm} re-lays out an already computed tree after changing the
+ * width of a single leaf. Run with {@code gradle jmh}, which enables the gc profiler for allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TreeLayoutBenchmark {
+
+    @Param({"DEEP_COLUMN", "WIDE_WRAP", "GROW_GRID", "TEXT_LIST", "ABSOLUTE_OVERLAY"})
+    public TreeShape shape;
+
+    @Param({"100", "1000", "5000"})
+    public int nodeCount;
+
+    private YogaConfig config;
+    private YogaNode root;
+    private YogaNode leaf;
+    private boolean toggle;
+
+    @Setup(Level.Trial)
+    public void createConfig() {
+        config = YogaConfigFactory.create();
+    }
+
+    @State(Scope.Thread)
+    public static class ColdTree {
+        YogaNode root;
+
+        // A layout of a whole tree takes far longer than a timer read, so a per invocation setup is accurate enough.
+        @Setup(Level.Invocation)
+        public void build(TreeLayoutBenchmark benchmark) {
+            root = benchmark.shape.build(benchmark.config, benchmark.nodeCount);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void buildWarmTree() {
+        root = shape.build(config, nodeCount);
+        leaf = TreeShape.lastLeaf(root);
+        root.calculateLayout(TreeShape.ROOT_WIDTH, YogaConstants.UNDEFINED);
+    }
+
+    @Benchmark
+    public float cold(ColdTree tree) {
+        tree.root.calculateLayout(TreeShape.ROOT_WIDTH, YogaConstants.UNDEFINED);
+        return tree.root.getLayoutHeight();
+    }
+
+    @Benchmark
+    public float warm() {
+        toggle = !toggle;
+        leaf.setWidth(toggle ? 10 : 11);
+        root.calculateLayout(TreeShape.ROOT_WIDTH, YogaConstants.UNDEFINED);
+        return root.getLayoutHeight();
+    }
+}
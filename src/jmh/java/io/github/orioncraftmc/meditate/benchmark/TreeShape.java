@@ -0,0 +1,337 @@
+package io.github.orioncraftmc.meditate.benchmark;
+
+import io.github.orioncraftmc.meditate.YogaConfig;
+import io.github.orioncraftmc.meditate.YogaMeasureOutput;
+import io.github.orioncraftmc.meditate.YogaNode;
+import io.github.orioncraftmc.meditate.YogaNodeFactory;
+import io.github.orioncraftmc.meditate.enums.YogaEdge;
+import io.github.orioncraftmc.meditate.enums.YogaFlexDirection;
+import io.github.orioncraftmc.meditate.enums.YogaMeasureMode;
+import io.github.orioncraftmc.meditate.enums.YogaPositionType;
+import io.github.orioncraftmc.meditate.enums.YogaWrap;
+import io.github.orioncraftmc.meditate.internal.GlobalMembers;
+import io.github.orioncraftmc.meditate.internal.YGConfig;
+import io.github.orioncraftmc.meditate.internal.YGNode;
+import io.github.orioncraftmc.meditate.internal.YGSize;
+import io.github.orioncraftmc.meditate.internal.enums.YGEdge;
+import io.github.orioncraftmc.meditate.internal.enums.YGFlexDirection;
+import io.github.orioncraftmc.meditate.internal.enums.YGMeasureMode;
+import io.github.orioncraftmc.meditate.internal.enums.YGPositionType;
+import io.github.orioncraftmc.meditate.internal.enums.YGWrap;
+
+/**
+ * Tree shapes used by the layout benchmarks. Every shape can be built through the public {@link YogaNode} API and
+ * directly on {@link YGNode}s so both entry points are measured over identical trees. {@code nodeCount} is the
+ * approximate number of nodes in the resulting tree.
+ */
+public enum TreeShape {
+    /**
+     * Columns nested {@link #STACK_DEPTH} levels deep, repeated until the node budget is spent.
+     */
+    DEEP_COLUMN {
+        @Override
+        YogaNode build(YogaConfig config, int nodeCount) {
+            YogaNode root = node(config);
+            root.setWidth(ROOT_WIDTH);
+            for (int stack = 0; stack < Math.max(1, nodeCount / STACK_DEPTH); stack++) {
+                YogaNode parent = root;
+                for (int depth = 0; depth < STACK_DEPTH - 1; depth++) {
+                    YogaNode column = node(config);
+                    column.setPadding(YogaEdge.ALL, 1);
+                    append(parent, column);
+                    parent = column;
+                }
+                YogaNode leaf = node(config);
+                leaf.setHeight(10);
+                append(parent, leaf);
+            }
+            return root;
+        }
+
+        @Override
+        YGNode buildNative(YGConfig config, int nodeCount) {
+            YGNode root = GlobalMembers.YGNodeNewWithConfig(config);
+            GlobalMembers.YGNodeStyleSetWidth(root, ROOT_WIDTH);
+            for (int stack = 0; stack < Math.max(1, nodeCount / STACK_DEPTH); stack++) {
+                YGNode parent = root;
+                for (int depth = 0; depth < STACK_DEPTH - 1; depth++) {
+                    YGNode column = GlobalMembers.YGNodeNewWithConfig(config);
+                    GlobalMembers.YGNodeStyleSetPadding(column, YGEdge.YGEdgeAll, 1);
+                    append(parent, column);
+                    parent = column;
+                }
+                YGNode leaf = GlobalMembers.YGNodeNewWithConfig(config);
+                GlobalMembers.YGNodeStyleSetHeight(leaf, 10);
+                append(parent, leaf);
+            }
+            return root;
+        }
+    },
+    /**
+     * A single wrapping row of fixed size items with varying widths.
+     */
+    WIDE_WRAP {
+        @Override
+        YogaNode build(YogaConfig config, int nodeCount) {
+            YogaNode root = node(config);
+            root.setWidth(ROOT_WIDTH);
+            root.setFlexDirection(YogaFlexDirection.ROW);
+            root.setWrap(YogaWrap.WRAP);
+            for (int i = 0; i < nodeCount - 1; i++) {
+                YogaNode item = node(config);
+                item.setWidth(40 + (i % 5) * 10);
+                item.setHeight(20);
+                item.setMargin(YogaEdge.ALL, 2);
+                append(root, item);
+            }
+            return root;
+        }
+
+        @Override
+        YGNode buildNative(YGConfig config, int nodeCount) {
+            YGNode root = GlobalMembers.YGNodeNewWithConfig(config);
+            GlobalMembers.YGNodeStyleSetWidth(root, ROOT_WIDTH);
+            GlobalMembers.YGNodeStyleSetFlexDirection(root, YGFlexDirection.YGFlexDirectionRow);
+            GlobalMembers.YGNodeStyleSetFlexWrap(root, YGWrap.YGWrapWrap);
+            for (int i = 0; i < nodeCount - 1; i++) {
+                YGNode item = GlobalMembers.YGNodeNewWithConfig(config);
+                GlobalMembers.YGNodeStyleSetWidth(item, 40 + (i % 5) * 10);
+                GlobalMembers.YGNodeStyleSetHeight(item, 20);
+                GlobalMembers.YGNodeStyleSetMargin(item, YGEdge.YGEdgeAll, 2);
+                append(root, item);
+            }
+            return root;
+        }
+    },
+    /**
+     * A square grid of rows and cells that all flex-grow, each cell holding a growing inner node.
+     */
+    GROW_GRID {
+        @Override
+        YogaNode build(YogaConfig config, int nodeCount) {
+            int side = gridSide(nodeCount);
+            YogaNode root = node(config);
+            root.setWidth(ROOT_WIDTH);
+            root.setHeight(ROOT_HEIGHT);
+            for (int r = 0; r < side; r++) {
+                YogaNode row = node(config);
+                row.setFlexDirection(YogaFlexDirection.ROW);
+                row.setFlexGrow(1);
+                append(root, row);
+                for (int c = 0; c < side; c++) {
+                    YogaNode cell = node(config);
+                    cell.setFlexGrow(1 + (c % 2));
+                    cell.setPadding(YogaEdge.ALL, 1);
+                    append(row, cell);
+                    YogaNode inner = node(config);
+                    inner.setFlexGrow(1);
+                    inner.setMargin(YogaEdge.ALL, 1);
+                    append(cell, inner);
+                }
+            }
+            return root;
+        }
+
+        @Override
+        YGNode buildNative(YGConfig config, int nodeCount) {
+            int side = gridSide(nodeCount);
+            YGNode root = GlobalMembers.YGNodeNewWithConfig(config);
+            GlobalMembers.YGNodeStyleSetWidth(root, ROOT_WIDTH);
+            GlobalMembers.YGNodeStyleSetHeight(root, ROOT_HEIGHT);
+            for (int r = 0; r < side; r++) {
+                YGNode row = GlobalMembers.YGNodeNewWithConfig(config);
+                GlobalMembers.YGNodeStyleSetFlexDirection(row, YGFlexDirection.YGFlexDirectionRow);
+                GlobalMembers.YGNodeStyleSetFlexGrow(row, 1);
+                append(root, row);
+                for (int c = 0; c < side; c++) {
+                    YGNode cell = GlobalMembers.YGNodeNewWithConfig(config);
+                    GlobalMembers.YGNodeStyleSetFlexGrow(cell, 1 + (c % 2));
+                    GlobalMembers.YGNodeStyleSetPadding(cell, YGEdge.YGEdgeAll, 1);
+                    append(row, cell);
+                    YGNode inner = GlobalMembers.YGNodeNewWithConfig(config);
+                    GlobalMembers.YGNodeStyleSetFlexGrow(inner, 1);
+                    GlobalMembers.YGNodeStyleSetMargin(inner, YGEdge.YGEdgeAll, 1);
+                    append(cell, inner);
+                }
+            }
+            return root;
+        }
+    },
+    /**
+     * A list of rows, each an icon followed by a text leaf whose measure function wraps its text to the given width.
+     */
+    TEXT_LIST {
+        @Override
+        YogaNode build(YogaConfig config, int nodeCount) {
+            YogaNode root = node(config);
+            root.setWidth(ROOT_WIDTH);
+            for (int i = 0; i < Math.max(1, (nodeCount - 1) / 3); i++) {
+                YogaNode row = node(config);
+                row.setFlexDirection(YogaFlexDirection.ROW);
+                row.setPadding(YogaEdge.ALL, 4);
+                append(root, row);
+                YogaNode icon = node(config);
+                icon.setWidth(16);
+                icon.setHeight(16);
+                append(row, icon);
+                final int length = 20 + (i * 37) % 180;
+                YogaNode text = node(config);
+                text.setFlexShrink(1);
+                text.setMeasureFunction((node, width, widthMode, height, heightMode) ->
+                        measureText(length, width, widthMode != YogaMeasureMode.UNDEFINED));
+                append(row, text);
+            }
+            return root;
+        }
+
+        @Override
+        YGNode buildNative(YGConfig config, int nodeCount) {
+            YGNode root = GlobalMembers.YGNodeNewWithConfig(config);
+            GlobalMembers.YGNodeStyleSetWidth(root, ROOT_WIDTH);
+            for (int i = 0; i < Math.max(1, (nodeCount - 1) / 3); i++) {
+                YGNode row = GlobalMembers.YGNodeNewWithConfig(config);
+                GlobalMembers.YGNodeStyleSetFlexDirection(row, YGFlexDirection.YGFlexDirectionRow);
+                GlobalMembers.YGNodeStyleSetPadding(row, YGEdge.YGEdgeAll, 4);
+                append(root, row);
+                YGNode icon = GlobalMembers.YGNodeNewWithConfig(config);
+                GlobalMembers.YGNodeStyleSetWidth(icon, 16);
+                GlobalMembers.YGNodeStyleSetHeight(icon, 16);
+                append(row, icon);
+                final int length = 20 + (i * 37) % 180;
+                YGNode text = GlobalMembers.YGNodeNewWithConfig(config);
+                GlobalMembers.YGNodeStyleSetFlexShrink(text, 1);
+                GlobalMembers.YGNodeSetMeasureFunc(text, (node, width, widthMode, height, heightMode) ->
+                        measureText(length, width, widthMode != YGMeasureMode.YGMeasureModeUndefined));
+                append(row, text);
+            }
+            return root;
+        }
+    },
+    /**
+     * Stacked cards, each with absolutely positioned overlays pinned to its edges.
+     */
+    ABSOLUTE_OVERLAY {
+        @Override
+        YogaNode build(YogaConfig config, int nodeCount) {
+            YogaNode root = node(config);
+            root.setWidth(ROOT_WIDTH);
+            for (int i = 0; i < Math.max(1, (nodeCount - 1) / 4); i++) {
+                YogaNode card = node(config);
+                card.setHeight(40);
+                card.setMargin(YogaEdge.BOTTOM, 4);
+                append(root, card);
+
+                YogaNode fill = node(config);
+                fill.setPositionType(YogaPositionType.ABSOLUTE);
+                fill.setPosition(YogaEdge.ALL, 0);
+                append(card, fill);
+
+                YogaNode badge = node(config);
+                badge.setPositionType(YogaPositionType.ABSOLUTE);
+                badge.setPosition(YogaEdge.TOP, 2);
+                badge.setPosition(YogaEdge.RIGHT, 2);
+                badge.setWidth(12);
+                badge.setHeight(12);
+                append(card, badge);
+
+                YogaNode caption = node(config);
+                caption.setPositionType(YogaPositionType.ABSOLUTE);
+                caption.setPosition(YogaEdge.LEFT, 4);
+                caption.setPosition(YogaEdge.BOTTOM, 4);
+                caption.setWidthPercent(50);
+                caption.setHeight(10);
+                append(card, caption);
+            }
+            return root;
+        }
+
+        @Override
+        YGNode buildNative(YGConfig config, int nodeCount) {
+            YGNode root = GlobalMembers.YGNodeNewWithConfig(config);
+            GlobalMembers.YGNodeStyleSetWidth(root, ROOT_WIDTH);
+            for (int i = 0; i < Math.max(1, (nodeCount - 1) / 4); i++) {
+                YGNode card = GlobalMembers.YGNodeNewWithConfig(config);
+                GlobalMembers.YGNodeStyleSetHeight(card, 40);
+                GlobalMembers.YGNodeStyleSetMargin(card, YGEdge.YGEdgeBottom, 4);
+                append(root, card);
+
+                YGNode fill = GlobalMembers.YGNodeNewWithConfig(config);
+                GlobalMembers.YGNodeStyleSetPositionType(fill, YGPositionType.YGPositionTypeAbsolute);
+                GlobalMembers.YGNodeStyleSetPosition(fill, YGEdge.YGEdgeAll, 0);
+                append(card, fill);
+
+                YGNode badge = GlobalMembers.YGNodeNewWithConfig(config);
+                GlobalMembers.YGNodeStyleSetPositionType(badge, YGPositionType.YGPositionTypeAbsolute);
+                GlobalMembers.YGNodeStyleSetPosition(badge, YGEdge.YGEdgeTop, 2);
+                GlobalMembers.YGNodeStyleSetPosition(badge, YGEdge.YGEdgeRight, 2);
+                GlobalMembers.YGNodeStyleSetWidth(badge, 12);
+                GlobalMembers.YGNodeStyleSetHeight(badge, 12);
+                append(card, badge);
+
+                YGNode caption = GlobalMembers.YGNodeNewWithConfig(config);
+                GlobalMembers.YGNodeStyleSetPositionType(caption, YGPositionType.YGPositionTypeAbsolute);
+                GlobalMembers.YGNodeStyleSetPosition(caption, YGEdge.YGEdgeLeft, 4);
+                GlobalMembers.YGNodeStyleSetPosition(caption, YGEdge.YGEdgeBottom, 4);
+                GlobalMembers.YGNodeStyleSetWidthPercent(caption, 50);
+                GlobalMembers.YGNodeStyleSetHeight(caption, 10);
+                append(card, caption);
+            }
+            return root;
+        }
+    };
+
+    static final float ROOT_WIDTH = 1280;
+    static final float ROOT_HEIGHT = 720;
+    static final int STACK_DEPTH = 16;
+
+    private static final float CHAR_WIDTH = 7;
+    private static final float LINE_HEIGHT = 14;
+
+    abstract YogaNode build(YogaConfig config, int nodeCount);
+
+    abstract YGNode buildNative(YGConfig config, int nodeCount);
+
+    /**
+     * Returns the last leaf of the tree, the node the warm benchmarks dirty between layouts.
+     */
+    static YogaNode lastLeaf(YogaNode root) {
+        YogaNode node = root;
+        while (node.getChildCount() > 0) {
+            node = node.getChildAt(node.getChildCount() - 1);
+        }
+        return node;
+    }
+
+    static YGNode lastLeaf(YGNode root) {
+        YGNode node = root;
+        while (GlobalMembers.YGNodeGetChildCount(node) > 0) {
+            node = GlobalMembers.YGNodeGetChild(node, GlobalMembers.YGNodeGetChildCount(node) - 1);
+        }
+        return node;
+    }
+
+    private static YogaNode node(YogaConfig config) {
+        return YogaNodeFactory.create(config);
+    }
+
+    private static void append(YogaNode parent, YogaNode child) {
+        parent.addChildAt(child, parent.getChildCount());
+    }
+
+    private static void append(YGNode parent, YGNode child) {
+        GlobalMembers.YGNodeInsertChild(parent, child, GlobalMembers.YGNodeGetChildCount(parent));
+    }
+
+    private static int gridSide(int nodeCount) {
+        return Math.max(1, (int) Math.sqrt(nodeCount / 2.0));
+    }
+
+    private static YGSize measureText(int length, float width, boolean constrained) {
+        float textWidth = length * CHAR_WIDTH;
+        if (!constrained || textWidth <= width || width <= 0) {
+            return YogaMeasureOutput.make(textWidth, LINE_HEIGHT);
+        }
+        float lines = (float) Math.ceil(textWidth / width);
+        return YogaMeasureOutput.make(width, lines * LINE_HEIGHT);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.orioncraftmc.meditate.benchmark;
+
+import io.github.orioncraftmc.meditate.internal.GlobalMembers;
+import io.github.orioncraftmc.meditate.internal.YGConfig;
+import io.github.orioncraftmc.meditate.internal.YGNode;
+import io.github.orioncraftmc.meditate.internal.YGTreeStore;
+import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a full relayout of a {@link YGNode} tree with {@link YGTreeStore#calculateLayout} over a copy of the same
+ * tree, once with the kept node tree and once rebuilding it after {@link YGTreeStore#releaseNodes}. See
+ * {@link TreeStoreFootprint} for the memory side.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TreeStoreBenchmark {
+
+    @Param({"DEEP_COLUMN", "WIDE_WRAP", "GROW_GRID", "TEXT_LIST", "ABSOLUTE_OVERLAY"})
+    public TreeShape shape;
+
+    @Param({"1000", "5000"})
+    public int nodeCount;
+
+    private YGNode root;
+    private YGTreeStore store;
+
+    @Setup(Level.Trial)
+    public void build() {
+        final YGConfig config = GlobalMembers.YGConfigNew();
+        root = shape.buildNative(config, nodeCount);
+        store = YGTreeStore.copyOf(root);
+    }
+
+    @Benchmark
+    public float objectGraph() {
+        root.markDirtyAndPropogateDownwards();
+        GlobalMembers.YGNodeCalculateLayout(root, TreeShape.ROOT_WIDTH, GlobalMembers.YGUndefined,
+                YGDirection.YGDirectionLTR);
+        return GlobalMembers.YGNodeLayoutGetHeight(root);
+    }
+
+    @Benchmark
+    public float treeStore() {
+        store.calculateLayout(0, TreeShape.ROOT_WIDTH, GlobalMembers.YGUndefined, YGDirection.YGDirectionLTR);
+        return store.getLayoutHeight(0);
+    }
+
+    @Benchmark
+    public float treeStoreReleased() {
+        store.releaseNodes();
+        store.calculateLayout(0, TreeShape.ROOT_WIDTH, GlobalMembers.YGUndefined, YGDirection.YGDirectionLTR);
+        return store.getLayoutHeight(0);
+    }
+}
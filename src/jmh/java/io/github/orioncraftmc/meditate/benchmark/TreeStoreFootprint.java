@@ -0,0 +1,111 @@
+package io.github.orioncraftmc.meditate.benchmark;
+
+import io.github.orioncraftmc.meditate.YogaConfig;
+import io.github.orioncraftmc.meditate.YogaConfigFactory;
+import io.github.orioncraftmc.meditate.YogaNode;
+import io.github.orioncraftmc.meditate.YogaNodeFactory;
+import io.github.orioncraftmc.meditate.YogaTreeStore;
+import io.github.orioncraftmc.meditate.internal.GlobalMembers;
+import io.github.orioncraftmc.meditate.internal.YGConfig;
+import io.github.orioncraftmc.meditate.internal.YGNode;
+import io.github.orioncraftmc.meditate.internal.YGTreeStore;
+import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
+
+/**
+ * Prints the retained heap of a freshly created node, then per node of a laid out tree built through the public API,
+ * directly on {@link YGNode}s, copied into a {@link YGTreeStore} and copied through {@link YogaTreeStore#copyOf}. The
+ * stores are measured after {@link YGTreeStore#releaseNodes}, and the source trees are dropped so that anything the
+ * copies still reference shows up. Retained sizes are heap deltas around building {@link #COPIES} trees, so run it
+ * with a fixed heap and no other load; run with {@code gradle jmhFootprint}.
+ */
+public class TreeStoreFootprint {
+    private static final int NODE_COUNT = 5000;
+    private static final int COPIES = 20;
+    private static final int FRESH_NODES = 100000;
+
+    public static void main(String[] args) {
+        final YogaConfig config = YogaConfigFactory.create();
+        final YGConfig nativeConfig = GlobalMembers.YGConfigNew();
+        final long freshWrapperBytes = retained(new Object[FRESH_NODES], () -> YogaNodeFactory.create(config));
+        final long freshNodeBytes = retained(new Object[FRESH_NODES],
+                () -> GlobalMembers.YGNodeNewWithConfig(nativeConfig));
+        System.out.printf("fresh YogaNode %.1f bytes, fresh YGNode %.1f bytes%n%n",
+                (double) freshWrapperBytes / FRESH_NODES, (double) freshNodeBytes / FRESH_NODES);
+
+        System.out.printf("%-18s %12s %12s %12s %14s%n", "shape", "YogaNode", "YGNode", "YGTreeStore",
+                "YogaTreeStore");
+        for (TreeShape shape : TreeShape.values()) {
+            final int nodeCount = countNodes(shape.buildNative(nativeConfig, NODE_COUNT));
+            final Object[] wrappers = new Object[COPIES];
+            final Object[] nodes = new Object[COPIES];
+            final Object[] stores = new Object[COPIES];
+            final Object[] publicStores = new Object[COPIES];
+
+            final long wrapperBytes = retained(wrappers, () -> {
+                final YogaNode root = shape.build(config, NODE_COUNT);
+                root.calculateLayout(TreeShape.ROOT_WIDTH, GlobalMembers.YGUndefined);
+                return root;
+            });
+            final long nodeBytes = retained(nodes, () -> {
+                final YGNode root = shape.buildNative(nativeConfig, NODE_COUNT);
+                layout(root);
+                return root;
+            });
+            final long storeBytes = retained(stores, () -> {
+                final YGNode root = shape.buildNative(nativeConfig, NODE_COUNT);
+                final YGTreeStore store = YGTreeStore.copyOf(root);
+                store.calculateLayout(0, TreeShape.ROOT_WIDTH, GlobalMembers.YGUndefined,
+                        YGDirection.YGDirectionLTR);
+                store.releaseNodes();
+                return store;
+            });
+            final long publicStoreBytes = retained(publicStores, () -> {
+                final YogaTreeStore store = YogaTreeStore.copyOf(shape.build(config, NODE_COUNT));
+                store.calculateLayout(0, TreeShape.ROOT_WIDTH, GlobalMembers.YGUndefined);
+                store.releaseNodes();
+                return store;
+            });
+
+            final double perNode = (double) COPIES * nodeCount;
+            System.out.printf("%-18s %12.1f %12.1f %12.1f %14.1f%n", shape, wrapperBytes / perNode,
+                    nodeBytes / perNode, storeBytes / perNode, publicStoreBytes / perNode);
+        }
+    }
+
+    private interface Factory {
+        Object create();
+    }
+
+    private static long retained(Object[] keep, Factory factory) {
+        final long before = usedMemory();
+        for (int i = 0; i < keep.length; i++) {
+            keep[i] = factory.create();
+        }
+        final long after = usedMemory();
+        if (keep[keep.length - 1] == null) {
+            throw new IllegalStateException();
+        }
+        return after - before;
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static int countNodes(YGNode node) {
+        int count = 1;
+        for (YGNode child : node.getChildren()) {
+            count += countNodes(child);
+        }
+        return count;
+    }
+
+    private static void layout(YGNode root) {
+        GlobalMembers.YGNodeCalculateLayout(root, TreeShape.ROOT_WIDTH, GlobalMembers.YGUndefined,
+                YGDirection.YGDirectionLTR);
+    }
+}
@@ -8,8 +8,10 @@ import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.Layout;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
 import io.github.orioncraftmc.meditate.*;
 import io.github.orioncraftmc.meditate.enums.YogaEdge;
+import io.github.orioncraftmc.meditate.enums.YogaMeasureMode;
 
 /**
  * A Scene2D widget that implements Yoga Layout by Facebook. FlexBox is a clean and powerful alternative to group
@@ -26,8 +28,10 @@ import io.github.orioncraftmc.meditate.enums.YogaEdge;
 public class FlexBox extends WidgetGroup {
     private final YogaConfig config;
     private final YogaNode root;
+    private final YogaNodePool pool;
 
     private final Array<YogaActor> nodes = new Array<>();
+    private final IdentityMap<YogaNode, NodeBounds> bounds = new IdentityMap<>();
 
     private boolean prefSizeInvalid;
     private float prefWidth, prefHeight;
@@ -39,6 +43,7 @@ public class FlexBox extends WidgetGroup {
     public FlexBox() {
         this.config = YogaConfigFactory.create();
         this.root = YogaNodeFactory.create();
+        this.pool = null;
         setTransform(false);
         setTouchable(Touchable.childrenOnly);
     }
@@ -50,28 +55,24 @@ public class FlexBox extends WidgetGroup {
     public FlexBox(YogaConfig config) {
         this.config = config;
         this.root = YogaNodeFactory.create();
+        this.pool = null;
+    }
+
+    /**
+     * Creates a FlexBox that obtains its nodes from the provided {@link YogaNodePool} and frees them back to it when
+     * they are {@link #remove(YogaNode) removed} or {@link #clearChildren() cleared}. Nodes must not be used after
+     * that. The pool's config is used for every node.
+     * @param pool
+     */
+    public FlexBox(YogaNodePool pool) {
+        this.config = pool.getConfig();
+        this.root = YogaNodeFactory.create();
+        this.pool = pool;
     }
 
     @Override
     public void layout() {
         super.layout();
-    
-        for (YogaActor yogaActor : nodes) {
-            YogaNode yogaNode  = yogaActor.node;
-            Actor actor = yogaActor.actor;
-            if (actor instanceof Layout) {
-                Layout layout = (Layout) actor;
-
-                if (!((YogaNodeWrapper) yogaNode).minWidthManuallySet) {
-                    yogaNode.setMinWidth(layout.getMinWidth() + yogaNode.getLayoutPadding(YogaEdge.LEFT) + yogaNode.getLayoutPadding(YogaEdge.RIGHT));
-                    ((YogaNodeWrapper)yogaNode).minWidthManuallySet = false;
-                }
-                if (!((YogaNodeWrapper) yogaNode).minHeightManuallySet) {
-                    yogaNode.setMinHeight(layout.getMinHeight() + yogaNode.getLayoutPadding(YogaEdge.BOTTOM) + yogaNode.getLayoutPadding(YogaEdge.TOP));
-                    ((YogaNodeWrapper)yogaNode).minHeightManuallySet = false;
-                }
-            }
-        }
         
         //update the bounds of the FlexBox
         if (prefSizeInvalid) calcPrefSize();
@@ -83,19 +84,55 @@ public class FlexBox extends WidgetGroup {
     
         //update the bounds of the children
         root.calculateLayout(getWidth(), getHeight());
+        updateBounds(root, 0, 0, false);
         for (YogaActor yogaActor : nodes) {
-            YogaNode node = yogaActor.getNode();
-            Actor actor = yogaActor.getActor();
+            NodeBounds nodeBounds = bounds.get(yogaActor.getNode());
+            if (nodeBounds == null) continue;
             
-            float x = node.getLayoutX();
-            float y = node.getLayoutY();
-            YogaNode parent = node.getOwner();
-            while (parent != null) {
-                x += parent.getLayoutX();
-                y += parent.getLayoutY();
-                parent = parent.getOwner();
-            }
-            actor.setBounds(x + node.getLayoutPadding(YogaEdge.LEFT), getHeight() - y - node.getLayoutHeight() + node.getLayoutPadding(YogaEdge.BOTTOM), node.getLayoutWidth() - node.getLayoutPadding(YogaEdge.LEFT) - node.getLayoutPadding(YogaEdge.RIGHT), node.getLayoutHeight()  - node.getLayoutPadding(YogaEdge.BOTTOM) - node.getLayoutPadding(YogaEdge.TOP));
+            yogaActor.getActor().setBounds(nodeBounds.x + nodeBounds.paddingLeft,
+                    getHeight() - nodeBounds.y - nodeBounds.height + nodeBounds.paddingBottom,
+                    nodeBounds.width - nodeBounds.paddingLeft - nodeBounds.paddingRight,
+                    nodeBounds.height - nodeBounds.paddingBottom - nodeBounds.paddingTop);
+            if (yogaActor.getActor() instanceof Layout) ((Layout) yogaActor.getActor()).validate();
+        }
+    }
+    
+    /**
+     * Updates the cached bounds of the node relative to the top left of the FlexBox in a single pre-order pass. A
+     * subtree is skipped when its root has no new layout and neither did its parent, its descendants cannot have
+     * moved either. Consumes {@link YogaNode#hasNewLayout()} of the visited nodes.
+     */
+    private void updateBounds(YogaNode node, float parentX, float parentY, boolean parentUpdated) {
+        NodeBounds nodeBounds = bounds.get(node);
+        boolean newLayout = node.hasNewLayout();
+        if (nodeBounds == null) {
+            nodeBounds = new NodeBounds();
+            bounds.put(node, nodeBounds);
+            newLayout = true;
+        } else if (!newLayout && !parentUpdated) {
+            return;
+        }
+        
+        float x = parentX + node.getLayoutX();
+        float y = parentY + node.getLayoutY();
+        float width = node.getLayoutWidth();
+        float height = node.getLayoutHeight();
+        boolean updated = newLayout || x != nodeBounds.x || y != nodeBounds.y || width != nodeBounds.width
+                || height != nodeBounds.height;
+        if (!updated) return;
+        
+        nodeBounds.x = x;
+        nodeBounds.y = y;
+        nodeBounds.width = width;
+        nodeBounds.height = height;
+        nodeBounds.paddingLeft = node.getLayoutPadding(YogaEdge.LEFT);
+        nodeBounds.paddingTop = node.getLayoutPadding(YogaEdge.TOP);
+        nodeBounds.paddingRight = node.getLayoutPadding(YogaEdge.RIGHT);
+        nodeBounds.paddingBottom = node.getLayoutPadding(YogaEdge.BOTTOM);
+        node.markLayoutSeen();
+        
+        for (int i = 0, n = node.getChildCount(); i < n; i++) {
+            updateBounds(node.getChildAt(i), x, y, true);
         }
     }
     
@@ -117,16 +154,11 @@ public class FlexBox extends WidgetGroup {
         Drawable background = node.getBackground();
     
         if (background != null) {
-            float x = node.getLayoutX();
-            float y = node.getLayoutY();
-            YogaNode parent = node.getOwner();
-            while (parent != null) {
-                x += parent.getLayoutX();
-                y += parent.getLayoutY();
-                parent = parent.getOwner();
+            NodeBounds nodeBounds = bounds.get(node);
+            if (nodeBounds != null) {
+                background.draw(batch, nodeBounds.x + offsetX, getHeight() - nodeBounds.y - nodeBounds.height + offsetY,
+                        nodeBounds.width, nodeBounds.height);
             }
-            background.draw(batch, x + offsetX, getHeight() - y - node.getLayoutHeight() + offsetY, node.getLayoutWidth(),
-                    node.getLayoutHeight());
         }
         
         for (int i = 0; i < node.getChildCount(); i++) {
@@ -211,7 +243,8 @@ public class FlexBox extends WidgetGroup {
      * @return The node associated with the actor. Change the properties of the node to modify the FlexBox layout.
      */
     public YogaNode addAsChild(YogaNode parent, Actor actor, int i) {
-        YogaNode node = YogaNodeFactory.create(config);
+        YogaNode node = pool != null ? pool.obtain() : YogaNodeFactory.create(config);
+        if (parent.isMeasureDefined()) removeMeasureFunction(parent);
 
         if (actor == null) {
             parent.addChildAt(node, i);
@@ -230,7 +263,9 @@ public class FlexBox extends WidgetGroup {
             node.setHeight(actor.getHeight());
         }
 
-        nodes.add(new YogaActor(node, actor));
+        YogaActor yogaActor = new YogaActor(node, actor);
+        if (yogaActor.measureFunction != null) node.setMeasureFunction(yogaActor.measureFunction);
+        nodes.add(yogaActor);
         parent.addChildAt(node, i);
         addActor(actor);
 
@@ -238,7 +273,20 @@ public class FlexBox extends WidgetGroup {
     }
     
     /**
-     * Removes the specified node and the {@link Actor} associated with it.
+     * Nodes with a measure function cannot have children, an actor node that gets nested nodes is sized by its nested
+     * nodes and the min size of its actor instead.
+     */
+    private void removeMeasureFunction(YogaNode node) {
+        for (YogaActor yogaActor : nodes) {
+            if (yogaActor.getNode() == node && yogaActor.measureFunction != null) {
+                node.setMeasureFunction(null);
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Removes the specified node, its nested nodes and the {@link Actor Actors} associated with them.
      * @param node
      */
     public void remove(YogaNode node) {
@@ -247,19 +295,28 @@ public class FlexBox extends WidgetGroup {
         for (int i = parent.getChildCount() - 1; i >= 0; i--) {
             if (parent.getChildAt(i) == node) {
                 parent.removeChildAt(i);
+                removeActors(node);
+                if (pool != null) pool.freeSubtree(node);
 
-                for (YogaActor yogaActor : nodes) {
-                    if (yogaActor.getNode() == node) {
-                        nodes.removeValue(yogaActor, true);
-                        removeActor(yogaActor.getActor());
-
-                        return;
-                    }
-                }
+                return;
             }
         }
     }
     
+    private void removeActors(YogaNode node) {
+        bounds.remove(node);
+        for (int i = nodes.size - 1; i >= 0; i--) {
+            if (nodes.get(i).getNode() == node) {
+                removeActor(nodes.removeIndex(i).getActor());
+                break;
+            }
+        }
+        
+        for (int i = 0; i < node.getChildCount(); i++) {
+            removeActors(node.getChildAt(i));
+        }
+    }
+    
     /**
      * Removes all child actors and nodes.
      */
@@ -270,19 +327,30 @@ public class FlexBox extends WidgetGroup {
             removeActor(node.getActor());
     
         nodes.clear();
+        bounds.clear();
         
         while (root.getChildCount() > 0) {
-            root.removeChildAt(0);
+            if (pool != null) pool.freeSubtree(root.getChildAt(0));
+            else root.removeChildAt(0);
         }
     }
     
+    private static class NodeBounds {
+        private float x, y, width, height;
+        private float paddingLeft, paddingTop, paddingRight, paddingBottom;
+    }
+    
     private static class YogaActor {
         private final YogaNode node;
         private final Actor actor;
+        private final LayoutMeasureFunction measureFunction;
+        private boolean synced;
+        private float minWidth, minHeight;
 
         public YogaActor(YogaNode node, Actor actor) {
             this.node = node;
             this.actor = actor;
+            this.measureFunction = actor instanceof Layout ? new LayoutMeasureFunction((Layout) actor) : null;
         }
 
         public YogaNode getNode() {
@@ -292,6 +360,46 @@ public class FlexBox extends WidgetGroup {
         public Actor getActor() {
             return actor;
         }
+        
+        /**
+         * Updates the node of a {@link Layout} actor if the actor may have changed since the last sync: it was
+         * invalidated, or its node was changed. An invalidated actor drops its measurements and marks its node dirty,
+         * a changed min size is pushed to the node so that flex shrink never squeezes the node below it.
+         */
+        private void sync() {
+            if (!(actor instanceof Layout)) return;
+            boolean invalidated = LayoutMeasureFunction.needsLayout(actor);
+            if (synced && !invalidated && !node.isDirty()) return;
+            synced = true;
+            
+            if (invalidated && node.isMeasureDefined()) {
+                measureFunction.invalidate();
+                node.dirty();
+            }
+            
+            //the min size of a wrapped label depends on its current width, its measure function takes care of it
+            Layout layout = (Layout) actor;
+            YogaNodeWrapper wrapper = (YogaNodeWrapper) node;
+            boolean measured = node.isMeasureDefined() && measureFunction.hasWidthDependentHeight();
+            if (!wrapper.minWidthManuallySet) {
+                float width = measured ? YogaConstants.UNDEFINED
+                        : layout.getMinWidth() + node.getLayoutPadding(YogaEdge.LEFT) + node.getLayoutPadding(YogaEdge.RIGHT);
+                if (Float.compare(width, minWidth) != 0) {
+                    minWidth = width;
+                    node.setMinWidth(width);
+                    wrapper.minWidthManuallySet = false;
+                }
+            }
+            if (!wrapper.minHeightManuallySet) {
+                float height = measured ? YogaConstants.UNDEFINED
+                        : layout.getMinHeight() + node.getLayoutPadding(YogaEdge.BOTTOM) + node.getLayoutPadding(YogaEdge.TOP);
+                if (Float.compare(height, minHeight) != 0) {
+                    minHeight = height;
+                    node.setMinHeight(height);
+                    wrapper.minHeightManuallySet = false;
+                }
+            }
+        }
     }
     
     /**
@@ -323,23 +431,20 @@ public class FlexBox extends WidgetGroup {
     private void calcPrefSize() {
         prefSizeInvalid = false;
         
-        //calculate the smallest resulting width at the current height
-        root.calculateLayout(0, getHeight());
-        float maxWidth = 0;
+        //every invalidation of a child invalidates the FlexBox, so the nodes are synced before any measure or layout
         for (YogaActor yogaActor : nodes) {
-            YogaNode node = yogaActor.getNode();
-            maxWidth = Math.max(maxWidth, node.getLayoutX() + node.getLayoutWidth());
+            yogaActor.sync();
         }
-        prefWidth = maxWidth;
         
-        //calculate the smallest resulting height at the current width;
-        root.calculateLayout(getWidth(), 0);
-        float maxHeight = 0;
-        for (YogaActor yogaActor : nodes) {
-            YogaNode node = yogaActor.getNode();
-            maxHeight = Math.max(maxHeight, node.getLayoutY() + node.getLayoutHeight());
-        }
-        prefHeight = maxHeight;
+        //measure the natural width at the current height and the height needed at the current width without laying
+        //out the tree, the engine caches both until a node changes
+        float height = getHeight();
+        prefWidth = root.calculateMeasuredSize(0, YogaMeasureMode.UNDEFINED, height,
+                height > 0 ? YogaMeasureMode.AT_MOST : YogaMeasureMode.UNDEFINED).width;
+        
+        float width = getWidth();
+        prefHeight = root.calculateMeasuredSize(width, width > 0 ? YogaMeasureMode.AT_MOST : YogaMeasureMode.UNDEFINED,
+                0, YogaMeasureMode.UNDEFINED).height;
     }
     
     /**
@@ -0,0 +1,181 @@
+package dev.lyze.flexbox;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Widget;
+import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
+import com.badlogic.gdx.utils.Align;
+import io.github.orioncraftmc.meditate.YogaMeasureOutput;
+import io.github.orioncraftmc.meditate.YogaNode;
+import io.github.orioncraftmc.meditate.enums.YogaMeasureMode;
+import io.github.orioncraftmc.meditate.interfaces.YogaMeasureFunction;
+import io.github.orioncraftmc.meditate.internal.YGSize;
+
+/**
+ * A {@link YogaMeasureFunction} that sizes a node by its {@link Layout} actor. {@link FlexBox} installs one on the node
+ * of every Layout actor that has no nested nodes.
+ * <p>
+ * {@link YogaMeasureMode#EXACTLY Exactly} takes the offered size, {@link YogaMeasureMode#AT_MOST AtMost} the pref size
+ * clamped between the min size and the offered size and {@link YogaMeasureMode#UNDEFINED Undefined} the pref size, but
+ * never less than the min size. The height of a wrapped {@link Label} is measured with a {@link GlyphLayout} at the
+ * width the label is given, so the label grows downwards instead of overflowing its node.
+ * <p>
+ * The last few results are cached by width and width mode until {@link #invalidate()}, which FlexBox calls whenever the
+ * actor was invalidated.
+ */
+public class LayoutMeasureFunction implements YogaMeasureFunction {
+    private static final int CACHE_SIZE = 4;
+
+    private final Layout layout;
+
+    private final float[] cachedWidths = new float[CACHE_SIZE];
+    private final YogaMeasureMode[] cachedModes = new YogaMeasureMode[CACHE_SIZE];
+    private final float[] measuredWidths = new float[CACHE_SIZE];
+    private final float[] minHeights = new float[CACHE_SIZE];
+    private final float[] prefHeights = new float[CACHE_SIZE];
+    private int cacheCount, nextCacheSlot;
+
+    private GlyphLayout glyphLayout;
+    private float textWidth, textHeight;
+
+    public LayoutMeasureFunction(Layout layout) {
+        this.layout = layout;
+    }
+
+    public Layout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Returns true if the height of the actor depends on its width, its min size is then measured as well and must not
+     * be used as a fixed min size of its node.
+     */
+    public boolean hasWidthDependentHeight() {
+        return layout instanceof Label && ((Label) layout).getWrap();
+    }
+
+    /**
+     * Drops every cached result, call it when the min or pref size of the actor may have changed.
+     */
+    public void invalidate() {
+        cacheCount = 0;
+        nextCacheSlot = 0;
+    }
+
+    /**
+     * Returns true if the actor was invalidated since it was last laid out. Layout actors that are neither a
+     * {@link Widget} nor a {@link WidgetGroup} cannot report it and never count as invalidated, call {@link #invalidate()}
+     * yourself when their size changes.
+     */
+    static boolean needsLayout(Actor actor) {
+        if (actor instanceof Widget) return ((Widget) actor).needsLayout();
+        if (actor instanceof WidgetGroup) return ((WidgetGroup) actor).needsLayout();
+        return false;
+    }
+
+    @Override
+    public YGSize measure(YogaNode node, float width, YogaMeasureMode widthMode, float height,
+            YogaMeasureMode heightMode) {
+        int slot = findCached(width, widthMode);
+        if (slot == -1) slot = measureWidth(width, widthMode);
+
+        return YogaMeasureOutput.make(measuredWidths[slot],
+                resolve(height, heightMode, minHeights[slot], prefHeights[slot]));
+    }
+
+    private int findCached(float width, YogaMeasureMode widthMode) {
+        for (int i = 0; i < cacheCount; i++) {
+            if (cachedModes[i] == widthMode && (widthMode == YogaMeasureMode.UNDEFINED || cachedWidths[i] == width)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int measureWidth(float width, YogaMeasureMode widthMode) {
+        int slot = nextCacheSlot;
+        nextCacheSlot = (nextCacheSlot + 1) % CACHE_SIZE;
+        if (cacheCount < CACHE_SIZE) cacheCount++;
+
+        cachedWidths[slot] = width;
+        cachedModes[slot] = widthMode;
+
+        if (!hasWidthDependentHeight()) {
+            measuredWidths[slot] = resolve(width, widthMode, layout.getMinWidth(), layout.getPrefWidth());
+            minHeights[slot] = layout.getMinHeight();
+            prefHeights[slot] = layout.getPrefHeight();
+            return slot;
+        }
+
+        //a wrapped label reports a pref width of 0, its natural width is the width of the unwrapped text
+        Label label = (Label) layout;
+        float measuredWidth = width;
+        if (widthMode != YogaMeasureMode.EXACTLY) {
+            measureText(label, 0, false);
+            measuredWidth = widthMode == YogaMeasureMode.AT_MOST ? Math.min(textWidth, width) : textWidth;
+        }
+        measureText(label, measuredWidth, true);
+        measuredWidths[slot] = measuredWidth;
+        minHeights[slot] = textHeight;
+        prefHeights[slot] = textHeight;
+        return slot;
+    }
+
+    /**
+     * Measures the text of the label like {@link Label#getPrefWidth()} and {@link Label#getPrefHeight()} do, but at
+     * the given width instead of the current width of the label.
+     */
+    private void measureText(Label label, float width, boolean wrap) {
+        if (glyphLayout == null) glyphLayout = new GlyphLayout();
+
+        Label.LabelStyle style = label.getStyle();
+        BitmapFont font = style.font;
+        Drawable background = style.background;
+
+        //the label only applies its font scale while it measures or draws, do the same
+        BitmapFontData data = font.getData();
+        float oldScaleX = data.scaleX, oldScaleY = data.scaleY;
+        boolean scaled = label.getFontScaleX() != 1 || label.getFontScaleY() != 1;
+        if (scaled) data.setScale(label.getFontScaleX(), label.getFontScaleY());
+
+        if (wrap) {
+            if (background != null) {
+                width = Math.max(width, background.getMinWidth()) - background.getLeftWidth()
+                        - background.getRightWidth();
+            }
+            glyphLayout.setText(font, label.getText(), Color.WHITE, width, Align.left, true);
+        } else {
+            glyphLayout.setText(font, label.getText());
+        }
+        float descent = font.getDescent();
+
+        if (scaled) data.setScale(oldScaleX, oldScaleY);
+
+        textWidth = glyphLayout.width;
+        textHeight = glyphLayout.height - descent * 2;
+        if (background != null) {
+            textWidth = Math.max(textWidth + background.getLeftWidth() + background.getRightWidth(),
+                    background.getMinWidth());
+            textHeight = Math.max(textHeight + background.getTopHeight() + background.getBottomHeight(),
+                    background.getMinHeight());
+        }
+        glyphLayout.reset();
+    }
+
+    private static float resolve(float available, YogaMeasureMode mode, float min, float pref) {
+        switch (mode) {
+            case EXACTLY:
+                return available;
+            case AT_MOST:
+                return Math.max(min, Math.min(pref, available));
+            default:
+                return Math.max(min, pref);
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package dev.lyze.flexbox;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
+import com.badlogic.gdx.utils.Array;
+import io.github.orioncraftmc.meditate.YogaConfig;
+import io.github.orioncraftmc.meditate.YogaConfigFactory;
+import io.github.orioncraftmc.meditate.YogaConstants;
+import io.github.orioncraftmc.meditate.YogaNode;
+import io.github.orioncraftmc.meditate.YogaNodeFactory;
+import io.github.orioncraftmc.meditate.enums.YogaEdge;
+import io.github.orioncraftmc.meditate.enums.YogaMeasureMode;
+
+import java.util.Arrays;
+
+/**
+ * A vertical list of rows for very long lists, meant to be the widget of a
+ * {@link com.badlogic.gdx.scenes.scene2d.ui.ScrollPane ScrollPane}. Only the rows intersecting the visible area, plus a
+ * few {@link #setOverscan(int) overscan} rows, have an {@link Actor} and a {@link YogaNode}. Rows that scroll out of
+ * view are recycled and {@link ItemAdapter#bind(Actor, int, YogaNode) bound} to the rows that scroll into view, so
+ * the number of actors and nodes and the layout time follow the size of the viewport instead of the item count.
+ * <p>
+ * Every row is laid out by its own node at the width of the list, {@link Layout} actors through a
+ * {@link LayoutMeasureFunction}. The heights of rows that were laid out are cached until the width of the list
+ * changes or the item is {@link #notifyItemChanged(int) changed}, rows that were never laid out are assumed to be
+ * {@link #setEstimatedItemHeight(float) estimated} high. Without an explicit estimate the average height of the first
+ * rows laid out is used.
+ *
+ * @param <T> The type of the row actors.
+ */
+public class VirtualFlexBox<T extends Actor> extends WidgetGroup {
+    private final YogaConfig config;
+    private final ItemAdapter<T> adapter;
+
+    private final Array<Row<T>> rows = new Array<>();
+    private final Array<Row<T>> freeRows = new Array<>();
+    private final RowHeights heights = new RowHeights();
+
+    private float estimatedItemHeight = 20;
+    private boolean estimateSet, estimateMeasured;
+    private int overscan = 2;
+
+    private float lastWidth = -1;
+    private float windowTop, windowBottom;
+    private float prefWidth, lastPrefHeight;
+
+    /**
+     * Creates the items of a {@link VirtualFlexBox}.
+     * @param <T> The type of the row actors.
+     */
+    public interface ItemAdapter<T extends Actor> {
+        /**
+         * @return The number of items in the list.
+         */
+        int getItemCount();
+
+        /**
+         * Creates a new row actor. Row actors are reused for other items once they scroll out of view.
+         */
+        T create();
+
+        /**
+         * Shows the item at {@code index} in {@code actor}.
+         * @param node The node of the row, reset to a new node. Change its properties to style the row, for example
+         * its padding.
+         */
+        void bind(T actor, int index, YogaNode node);
+    }
+
+    /**
+     * Creates a VirtualFlexBox with the default configuration.
+     */
+    public VirtualFlexBox(ItemAdapter<T> adapter) {
+        this(adapter, YogaConfigFactory.create());
+    }
+
+    /**
+     * Creates a VirtualFlexBox with the provided {@link YogaConfig} for the nodes of its rows.
+     */
+    public VirtualFlexBox(ItemAdapter<T> adapter, YogaConfig config) {
+        this.adapter = adapter;
+        this.config = config;
+        heights.reset(adapter.getItemCount());
+    }
+
+    @Override
+    public void layout() {
+        float width = getWidth();
+        if (width != lastWidth) {
+            //wrapped text and the like change their height with the width
+            lastWidth = width;
+            heights.reset(heights.size());
+            estimateMeasured = false;
+        }
+
+        for (Row<T> row : rows) {
+            if (LayoutMeasureFunction.needsLayout(row.actor)) {
+                if (row.node.isMeasureDefined()) {
+                    row.measureFunction.invalidate();
+                    row.node.dirty();
+                }
+                heights.forget(row.index);
+            }
+        }
+
+        //the visible area in offsets from the top of the list
+        Rectangle area = getCullingArea();
+        float top = area == null ? 0 : getHeight() - area.y - area.height;
+        float bottom = area == null ? getHeight() : getHeight() - area.y;
+
+        int count = heights.size();
+        int first = Math.max(0, heights.indexAt(top, estimatedItemHeight) - overscan);
+        int estimatedEnd = heights.indexAt(bottom, estimatedItemHeight) + overscan + 1;
+        freeRows(first, estimatedEnd);
+
+        //bind and measure the rows of the window, the offset of the first row does not depend on them
+        float y = heights.offset(first, estimatedItemHeight);
+        windowTop = first == 0 ? Float.NEGATIVE_INFINITY : y;
+        int index = first;
+        int after = 0;
+        while (index < count && (y < bottom || after++ < overscan)) {
+            Row<T> row = obtainRow(index);
+            row.node.calculateLayout(width, YogaConstants.UNDEFINED);
+            float height = row.node.getLayoutHeight();
+            heights.set(index, height);
+
+            YogaNode node = row.node;
+            row.actor.setBounds(node.getLayoutPadding(YogaEdge.LEFT),
+                    getHeight() - y - height + node.getLayoutPadding(YogaEdge.BOTTOM),
+                    width - node.getLayoutPadding(YogaEdge.LEFT) - node.getLayoutPadding(YogaEdge.RIGHT),
+                    height - node.getLayoutPadding(YogaEdge.BOTTOM) - node.getLayoutPadding(YogaEdge.TOP));
+            if (row.actor instanceof Layout) ((Layout) row.actor).validate();
+
+            y += height;
+            index++;
+        }
+        windowBottom = index == count ? Float.POSITIVE_INFINITY : y;
+        freeRows(first, index);
+
+        if (!estimateSet && !estimateMeasured && heights.measuredCount() > 0) {
+            estimateMeasured = true;
+            estimatedItemHeight = (float) (heights.measuredSum() / heights.measuredCount());
+        }
+
+        float prefHeight = getPrefHeight();
+        if (prefHeight != lastPrefHeight) {
+            lastPrefHeight = prefHeight;
+            invalidateHierarchy();
+        }
+    }
+
+    /**
+     * Returns the bound row of {@code index}, or binds a recycled or new row to it.
+     */
+    private Row<T> obtainRow(int index) {
+        int i = findRow(index);
+        if (i >= 0) return rows.get(i);
+
+        Row<T> row = freeRows.size > 0 ? freeRows.pop() : new Row<>(adapter.create(), YogaNodeFactory.create(config));
+        bind(row, index);
+        rows.insert(-i - 1, row);
+
+        //the actor is bound before it is added, so that its invalidation does not reach the ScrollPane
+        addActor(row.actor);
+        return row;
+    }
+
+    /**
+     * Returns the position of the bound row of {@code index} in the bound rows, which are sorted by index, or
+     * {@code -(insertion point) - 1} if it is not bound.
+     */
+    private int findRow(int index) {
+        int low = 0, high = rows.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midIndex = rows.get(mid).index;
+            if (midIndex < index) low = mid + 1;
+            else if (midIndex > index) high = mid - 1;
+            else return mid;
+        }
+        return -low - 1;
+    }
+
+    private void bind(Row<T> row, int index) {
+        row.index = index;
+        row.node.reset();
+        if (row.measureFunction != null) {
+            row.measureFunction.invalidate();
+            row.node.setMeasureFunction(row.measureFunction);
+        }
+
+        adapter.bind(row.actor, index, row.node);
+        if (row.measureFunction == null) row.node.setHeight(row.actor.getHeight());
+
+        float width = row.node.calculateMeasuredSize(YogaConstants.UNDEFINED, YogaMeasureMode.UNDEFINED,
+                YogaConstants.UNDEFINED, YogaMeasureMode.UNDEFINED).width;
+        prefWidth = Math.max(prefWidth, width);
+    }
+
+    /**
+     * Recycles the bound rows outside of {@code [first, end)}.
+     */
+    private void freeRows(int first, int end) {
+        for (int i = rows.size - 1; i >= 0; i--) {
+            Row<T> row = rows.get(i);
+            if (row.index >= first && row.index < end) continue;
+
+            rows.removeIndex(i);
+            removeActor(row.actor);
+            freeRows.add(row);
+        }
+    }
+
+    /**
+     * Row actors are added and removed while laying out, the list only changes its size when its items do.
+     */
+    @Override
+    protected void childrenChanged() {
+    }
+
+    /**
+     * Lays out the list again once the area a {@link com.badlogic.gdx.scenes.scene2d.ui.ScrollPane ScrollPane} shows
+     * leaves the laid out rows.
+     */
+    @Override
+    public void setCullingArea(Rectangle cullingArea) {
+        super.setCullingArea(cullingArea);
+        if (cullingArea == null || needsLayout()) return;
+
+        float top = getHeight() - cullingArea.y - cullingArea.height;
+        float bottom = getHeight() - cullingArea.y;
+        if (top < windowTop || bottom > windowBottom) invalidate();
+    }
+
+    /**
+     * Rebinds every visible row and forgets every cached row height. Call it when items were added, removed or
+     * reordered.
+     */
+    public void notifyDataSetChanged() {
+        freeRows(0, 0);
+        heights.reset(adapter.getItemCount());
+        estimateMeasured = false;
+        prefWidth = 0;
+        invalidateHierarchy();
+    }
+
+    /**
+     * Rebinds the row of the item at {@code index} if it is visible and forgets its cached height.
+     */
+    public void notifyItemChanged(int index) {
+        heights.forget(index);
+        int i = findRow(index);
+        if (i >= 0) bind(rows.get(i), index);
+        invalidateHierarchy();
+    }
+
+    /**
+     * Returns the actor of the item at {@code index}, or null if its row is not visible.
+     */
+    public T getActor(int index) {
+        int i = findRow(index);
+        return i >= 0 ? rows.get(i).actor : null;
+    }
+
+    /**
+     * @return The number of rows that currently have an actor.
+     */
+    public int getBoundRowCount() {
+        return rows.size;
+    }
+
+    /**
+     * @return The offset of the top of the item at {@code index} from the top of the list.
+     */
+    public float getItemOffset(int index) {
+        return heights.offset(index, estimatedItemHeight);
+    }
+
+    /**
+     * Sets the height assumed for rows that were not laid out yet, instead of the average height of the first rows
+     * that were laid out.
+     */
+    public void setEstimatedItemHeight(float estimatedItemHeight) {
+        this.estimatedItemHeight = estimatedItemHeight;
+        estimateSet = true;
+        invalidateHierarchy();
+    }
+
+    public float getEstimatedItemHeight() {
+        return estimatedItemHeight;
+    }
+
+    /**
+     * Sets how many rows are laid out above and below the visible area, 2 by default.
+     */
+    public void setOverscan(int overscan) {
+        this.overscan = overscan;
+        invalidate();
+    }
+
+    public int getOverscan() {
+        return overscan;
+    }
+
+    @Override
+    public float getPrefWidth() {
+        return prefWidth;
+    }
+
+    @Override
+    public float getPrefHeight() {
+        return heights.offset(heights.size(), estimatedItemHeight);
+    }
+
+    private static class Row<T extends Actor> {
+        private final T actor;
+        private final YogaNode node;
+        private final LayoutMeasureFunction measureFunction;
+        private int index;
+
+        private Row(T actor, YogaNode node) {
+            this.actor = actor;
+            this.node = node;
+            this.measureFunction = actor instanceof Layout ? new LayoutMeasureFunction((Layout) actor) : null;
+        }
+    }
+
+    /**
+     * The cached row heights in a Fenwick tree of the measured heights and their count, so that the offset of a row
+     * with estimates for the unmeasured rows above it takes O(log n). Sums are kept in doubles, float sums lose whole
+     * pixels once a list is taller than 2^24.
+     */
+    private static class RowHeights {
+        private float[] heights = new float[0];
+        private double[] sums = new double[1];
+        private int[] counts = new int[1];
+        private int size;
+        private double measuredSum;
+        private int measuredCount;
+
+        private void reset(int size) {
+            if (size != this.size || heights.length != size) {
+                this.size = size;
+                heights = new float[size];
+                sums = new double[size + 1];
+                counts = new int[size + 1];
+            } else {
+                Arrays.fill(sums, 0);
+                Arrays.fill(counts, 0);
+            }
+            Arrays.fill(heights, Float.NaN);
+            measuredSum = 0;
+            measuredCount = 0;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private double measuredSum() {
+            return measuredSum;
+        }
+
+        private int measuredCount() {
+            return measuredCount;
+        }
+
+        private void set(int index, float height) {
+            float old = heights[index];
+            if (old == height) return;
+
+            heights[index] = height;
+            if (Float.isNaN(old)) add(index, height, 1);
+            else add(index, height - old, 0);
+        }
+
+        private void forget(int index) {
+            float old = heights[index];
+            if (Float.isNaN(old)) return;
+
+            heights[index] = Float.NaN;
+            add(index, -old, -1);
+        }
+
+        private void add(int index, float height, int count) {
+            measuredSum += height;
+            measuredCount += count;
+            for (int i = index + 1; i <= size; i += i & -i) {
+                sums[i] += height;
+                counts[i] += count;
+            }
+        }
+
+        /**
+         * Returns the offset of the top of row {@code index} from the top of the list, or the height of the whole
+         * list for {@code size}.
+         */
+        private float offset(int index, float estimate) {
+            double sum = 0;
+            int count = 0;
+            for (int i = index; i > 0; i -= i & -i) {
+                sum += sums[i];
+                count += counts[i];
+            }
+            return (float) (sum + (double) (index - count) * estimate);
+        }
+
+        /**
+         * Returns the row at {@code offset} from the top of the list, clamped to the rows of the list.
+         */
+        private int indexAt(float offset, float estimate) {
+            int low = 0, high = size - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (offset(mid, estimate) <= offset) low = mid;
+                else high = mid - 1;
+            }
+            return Math.max(low, 0);
+        }
+    }
+}
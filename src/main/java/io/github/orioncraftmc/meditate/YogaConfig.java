@@ -7,7 +7,9 @@
 
 package io.github.orioncraftmc.meditate;
 
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 import io.github.orioncraftmc.meditate.enums.YogaExperimentalFeature;
+import io.github.orioncraftmc.meditate.interfaces.YogaBatchMeasurer;
 import io.github.orioncraftmc.meditate.interfaces.YogaLogger;
 import io.github.orioncraftmc.meditate.internal.YGConfig;
 
@@ -17,6 +19,35 @@ public abstract class YogaConfig {
 
   public abstract void setExperimentalFeatureEnabled(YogaExperimentalFeature feature, boolean enabled);
 
+  /**
+   * Sets the executor used by {@link YogaExperimentalFeature#PARALLEL_SUBTREE_LAYOUT} to lay out large child subtrees
+   * with exact sizes concurrently. Measure and baseline functions of those subtrees are then called from the
+   * executor's threads.
+   */
+  public abstract void setParallelLayoutExecutor(AsyncExecutor executor);
+
+  /** Sets the minimum number of nodes a child subtree needs to be laid out on the parallel layout executor. */
+  public abstract void setParallelLayoutThreshold(int nodeCount);
+
+  /**
+   * Sets how many measurements each node keeps in its measurement cache, 8 by default. Once full, the least recently
+   * used measurement is replaced. See {@link YogaLayoutStats#getMeasureCacheEvictions()} to tune it.
+   */
+  public abstract void setMeasurementCacheCapacity(int capacity);
+
+  /**
+   * Shares measurements between nodes of this config whose data implements
+   * {@link io.github.orioncraftmc.meditate.interfaces.YogaMeasureKey}, or stops sharing when {@code cache} is null.
+   */
+  public abstract void setSharedMeasureCache(YogaMeasureCache cache);
+
+  /**
+   * Makes every layout pass first predict the measure calls it needs with dry runs and hand them to
+   * {@code measurer}, for example a {@link YogaParallelMeasurer}, before laying out with the results. A null
+   * measurer restores plain synchronous measuring.
+   */
+  public abstract void setBatchMeasurer(YogaBatchMeasurer measurer);
+
   public abstract void setUseWebDefaults(boolean useWebDefaults);
 
   public abstract void setPrintTreeFlag(boolean enable);
@@ -7,12 +7,18 @@
 
 package io.github.orioncraftmc.meditate;
 
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 import io.github.orioncraftmc.meditate.enums.YogaExperimentalFeature;
+import io.github.orioncraftmc.meditate.interfaces.YogaBatchMeasurer;
 import io.github.orioncraftmc.meditate.interfaces.YogaLogger;
 import io.github.orioncraftmc.meditate.internal.GlobalMembers;
 import io.github.orioncraftmc.meditate.internal.YGConfig;
+import io.github.orioncraftmc.meditate.internal.YGMeasureRequest;
 import io.github.orioncraftmc.meditate.internal.enums.YGExperimentalFeature;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class YogaConfigWrapper extends YogaConfig {
 
   YGConfig mNativePointer;
@@ -31,6 +37,32 @@ public class YogaConfigWrapper extends YogaConfig {
             YGExperimentalFeature.forValue(feature.intValue()), enabled);
   }
 
+  public void setParallelLayoutExecutor(AsyncExecutor executor) {
+    GlobalMembers.YGConfigSetParallelLayoutExecutor(mNativePointer, executor);
+  }
+
+  public void setParallelLayoutThreshold(int nodeCount) {
+    GlobalMembers.YGConfigSetParallelLayoutThreshold(mNativePointer, nodeCount);
+  }
+
+  public void setMeasurementCacheCapacity(int capacity) {
+    GlobalMembers.YGConfigSetMeasurementCacheCapacity(mNativePointer, capacity);
+  }
+
+  public void setBatchMeasurer(final YogaBatchMeasurer measurer) {
+    GlobalMembers.YGConfigSetBatchMeasureFunc(mNativePointer, measurer == null ? null : requests -> {
+      final List<YogaMeasureRequest> view = new ArrayList<>(requests.size());
+      for (YGMeasureRequest request : requests) {
+        view.add(new YogaMeasureRequest(request));
+      }
+      measurer.measure(view);
+    });
+  }
+
+  public void setSharedMeasureCache(YogaMeasureCache cache) {
+    GlobalMembers.YGConfigSetSharedMeasureCache(mNativePointer, cache == null ? null : cache.mNativePointer);
+  }
+
   public void setUseWebDefaults(boolean useWebDefaults) {
     GlobalMembers.YGConfigSetUseWebDefaults(mNativePointer, useWebDefaults);
   }
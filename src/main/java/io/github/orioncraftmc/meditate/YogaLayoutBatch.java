@@ -0,0 +1,82 @@
+package io.github.orioncraftmc.meditate;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import io.github.orioncraftmc.meditate.internal.YGParallelChunks;
+
+import java.util.List;
+
+/**
+ * Lays out many independent root trees in parallel.
+ * <p>
+ * The roots are split into at most {@code parallelism} strided chunks; all but one are submitted to an
+ * {@link AsyncExecutor} and the calling thread lays out every chunk no executor thread has started. On GWT the
+ * executor runs every task synchronously, so the batch degrades to a sequential loop.
+ * <p>
+ * Every root must be the root of its own tree and no node may be shared between two roots. The roots must not be
+ * mutated while {@link #calculateLayout(List, float, float)} is running.
+ */
+public class YogaLayoutBatch implements Disposable {
+    private final AsyncExecutor executor;
+    private final int parallelism;
+    private final boolean ownsExecutor;
+
+    /**
+     * Creates a batch backed by its own executor with {@code parallelism} threads, released by {@link #dispose()}.
+     */
+    public YogaLayoutBatch(int parallelism) {
+        this(new AsyncExecutor(Math.max(1, parallelism), "YogaLayoutBatch"), parallelism, true);
+    }
+
+    /**
+     * Creates a batch that submits to a shared executor. {@code parallelism} should match the executor's thread
+     * count; the executor is not disposed with the batch.
+     */
+    public YogaLayoutBatch(AsyncExecutor executor, int parallelism) {
+        this(executor, parallelism, false);
+    }
+
+    private YogaLayoutBatch(AsyncExecutor executor, int parallelism, boolean ownsExecutor) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1, was " + parallelism);
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Calls {@link YogaNode#calculateLayout(float, float)} on every root with the same owner size and returns once all
+     * of them are laid out. The first failure is rethrown after every chunk has finished.
+     */
+    public void calculateLayout(final List<? extends YogaNode> roots, final float width, final float height) {
+        final int rootCount = roots.size();
+        for (int i = 0; i < rootCount; i++) {
+            if (roots.get(i).getOwner() != null) {
+                throw new IllegalArgumentException("Node at index " + i + " is not a root");
+            }
+        }
+
+        final int chunkCount = Math.min(parallelism, rootCount);
+        YGParallelChunks.invokeAll(executor, chunkCount,
+                chunk -> layoutChunk(roots, chunk, chunkCount, width, height));
+    }
+
+    private static void layoutChunk(List<? extends YogaNode> roots, int start, int stride, float width, float height) {
+        final int rootCount = roots.size();
+        for (int i = start; i < rootCount; i += stride) {
+            roots.get(i).calculateLayout(width, height);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (ownsExecutor) {
+            executor.dispose();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.enums.LayoutPassReason;
+import io.github.orioncraftmc.meditate.internal.event.LayoutData;
+
+/**
+ * An immutable snapshot of the counters the engine collects while laying out a tree, either for a single pass
+ * ({@link YogaNode#getLastLayoutStats()}) or summed over every pass of a root
+ * ({@link YogaNode#getCumulativeLayoutStats()}).
+ * <p>
+ * Layouts and measures count nodes the engine visited, the cached variants count nodes answered from a node's layout
+ * cache instead.
+ */
+public class YogaLayoutStats {
+    private final long passCount;
+    private final long durationNanos;
+    private final int layouts;
+    private final int measures;
+    private final int maxMeasureCache;
+    private final int cachedLayouts;
+    private final int cachedMeasures;
+    private final int measureCallbacks;
+    private final int[] measureCallbackReasons;
+    private final int measureCacheHits;
+    private final int measureCacheMisses;
+    private final int measureCacheEvictions;
+    private final int sharedMeasureCacheHits;
+    private final int batchedMeasureCallbacks;
+
+    YogaLayoutStats(LayoutData data, long passCount, long durationNanos) {
+        this.passCount = passCount;
+        this.durationNanos = durationNanos;
+        this.layouts = data.layouts;
+        this.measures = data.measures;
+        this.maxMeasureCache = data.maxMeasureCache;
+        this.cachedLayouts = data.cachedLayouts;
+        this.cachedMeasures = data.cachedMeasures;
+        this.measureCallbacks = data.measureCallbacks;
+        this.measureCacheHits = data.measureCacheHits;
+        this.measureCacheMisses = data.measureCacheMisses;
+        this.measureCacheEvictions = data.measureCacheEvictions;
+        this.sharedMeasureCacheHits = data.sharedMeasureCacheHits;
+        this.batchedMeasureCallbacks = data.batchedMeasureCallbacks;
+        this.measureCallbackReasons = new int[data.measureCallbackReasonsCount.size()];
+        for (int i = 0; i < measureCallbackReasons.length; i++) {
+            measureCallbackReasons[i] = data.measureCallbackReasonsCount.get(i);
+        }
+    }
+
+    /**
+     * Number of full layout passes covered, passes skipped because the tree was clean are not included.
+     */
+    public long getPassCount() {
+        return passCount;
+    }
+
+    /**
+     * Wall time spent inside the engine, in nanoseconds.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public int getLayouts() {
+        return layouts;
+    }
+
+    public int getMeasures() {
+        return measures;
+    }
+
+    /**
+     * Largest number of measurement cache slots any node needed.
+     */
+    public int getMaxMeasureCache() {
+        return maxMeasureCache;
+    }
+
+    public int getCachedLayouts() {
+        return cachedLayouts;
+    }
+
+    public int getCachedMeasures() {
+        return cachedMeasures;
+    }
+
+    public int getMeasureCallbacks() {
+        return measureCallbacks;
+    }
+
+    public int getMeasureCallbacks(LayoutPassReason reason) {
+        return measureCallbackReasons[reason.intValue()];
+    }
+
+    /**
+     * Number of measurements answered from a node's measurement cache.
+     */
+    public int getMeasureCacheHits() {
+        return measureCacheHits;
+    }
+
+    /**
+     * Number of measurements that were computed and stored in a node's measurement cache.
+     */
+    public int getMeasureCacheMisses() {
+        return measureCacheMisses;
+    }
+
+    /**
+     * Number of cached measurements replaced because a node's measurement cache was full.
+     */
+    public int getMeasureCacheEvictions() {
+        return measureCacheEvictions;
+    }
+
+    /**
+     * Number of measure function calls answered from the config's {@link YogaMeasureCache}.
+     */
+    public int getSharedMeasureCacheHits() {
+        return sharedMeasureCacheHits;
+    }
+
+    /**
+     * Number of measure function calls made ahead of the pass by the config's batch measurer.
+     */
+    public int getBatchedMeasureCallbacks() {
+        return batchedMeasureCallbacks;
+    }
+
+    /**
+     * Fraction of node visits answered from the layout cache, or 0 if nothing was visited.
+     */
+    public float getCacheHitRatio() {
+        final int cached = cachedLayouts + cachedMeasures;
+        final int total = cached + layouts + measures;
+        return total == 0 ? 0f : (float) cached / total;
+    }
+
+    @Override
+    public String toString() {
+        return "YogaLayoutStats{passes=" + passCount + ", durationNanos=" + durationNanos + ", layouts=" + layouts
+                + ", measures=" + measures + ", cachedLayouts=" + cachedLayouts + ", cachedMeasures=" + cachedMeasures
+                + ", measureCallbacks=" + measureCallbacks + ", maxMeasureCache=" + maxMeasureCache + ", measureCacheHits=" + measureCacheHits
+                + ", measureCacheMisses=" + measureCacheMisses + ", measureCacheEvictions=" + measureCacheEvictions
+                + ", sharedMeasureCacheHits=" + sharedMeasureCacheHits + ", batchedMeasureCallbacks="
+                + batchedMeasureCallbacks + "}";
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.interfaces.YogaMeasureKey;
+import io.github.orioncraftmc.meditate.internal.YGSharedMeasureCache;
+
+/**
+ * A bounded measurement cache shared between nodes, installed with {@link YogaConfig#setSharedMeasureCache}.
+ * <p>
+ * When a node with a measure function has data implementing {@link YogaMeasureKey}, its measurements are looked up
+ * by the content key and the constraints before the measure function is called. Nodes whose measure functions give
+ * different results for equal keys must not share a cache. Least recently used entries are evicted once
+ * {@code capacity} is reached.
+ */
+public class YogaMeasureCache {
+    final YGSharedMeasureCache mNativePointer;
+
+    public YogaMeasureCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1, was " + capacity);
+        }
+        mNativePointer = new YGSharedMeasureCache(capacity);
+    }
+
+    public int getCapacity() {
+        return mNativePointer.getCapacity();
+    }
+
+    public int size() {
+        return mNativePointer.size();
+    }
+
+    public long getHits() {
+        return mNativePointer.getHits();
+    }
+
+    public long getMisses() {
+        return mNativePointer.getMisses();
+    }
+
+    public long getEvictions() {
+        return mNativePointer.getEvictions();
+    }
+
+    /**
+     * Fraction of lookups answered from the cache, or 0 if nothing was looked up.
+     */
+    public float getHitRatio() {
+        final long hits = getHits();
+        final long total = hits + getMisses();
+        return total == 0 ? 0f : (float) hits / total;
+    }
+
+    /**
+     * Drops every entry, for example after fonts were reloaded. The counters are kept.
+     */
+    public void clear() {
+        mNativePointer.clear();
+    }
+}
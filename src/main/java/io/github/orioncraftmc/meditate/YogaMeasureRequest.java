@@ -0,0 +1,43 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.enums.YogaMeasureMode;
+import io.github.orioncraftmc.meditate.interfaces.YogaBatchMeasurer;
+import io.github.orioncraftmc.meditate.internal.YGMeasureRequest;
+
+/**
+ * A predicted call to a node's measure function, handed to a {@link YogaBatchMeasurer}.
+ */
+public final class YogaMeasureRequest {
+    private final YGMeasureRequest request;
+
+    YogaMeasureRequest(YGMeasureRequest request) {
+        this.request = request;
+    }
+
+    public float getWidth() {
+        return request.width;
+    }
+
+    public YogaMeasureMode getWidthMode() {
+        return YogaMeasureMode.fromInt(request.widthMode.getValue());
+    }
+
+    public float getHeight() {
+        return request.height;
+    }
+
+    public YogaMeasureMode getHeightMode() {
+        return YogaMeasureMode.fromInt(request.heightMode.getValue());
+    }
+
+    /**
+     * Calls the node's measure function with these constraints and keeps the result for the layout pass.
+     */
+    public void measure() {
+        request.measure();
+    }
+
+    public boolean isMeasured() {
+        return request.getResult() != null;
+    }
+}
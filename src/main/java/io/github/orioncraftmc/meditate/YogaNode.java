@@ -10,6 +10,7 @@ package io.github.orioncraftmc.meditate;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import io.github.orioncraftmc.meditate.enums.*;
 import io.github.orioncraftmc.meditate.interfaces.*;
+import io.github.orioncraftmc.meditate.internal.YGSize;
 
 public abstract class YogaNode implements YogaProps {
 
@@ -32,6 +33,13 @@ public abstract class YogaNode implements YogaProps {
 
   public abstract boolean isReferenceBaseline();
 
+  /**
+   * Applies the first {@code length} floats of a packed style diff built from {@link YogaStyleInputs} opcodes, for
+   * example with a {@link YogaStyleInputs.Builder}. Unchanged properties are skipped and the node is marked dirty at
+   * most once.
+   */
+  public abstract void applyStyleInputs(float[] buffer, int length);
+
   public abstract YogaNode removeChildAt(int i);
 
   /**
@@ -50,14 +58,47 @@ public abstract class YogaNode implements YogaProps {
 
   public abstract int indexOf(YogaNode child);
 
+  /**
+   * Lays out the tree rooted at this node. Trees that share no nodes may be laid out concurrently
+   * from different threads; a single tree must only be used from one thread at a time.
+   */
   public abstract void calculateLayout(float width, float height);
 
+  /**
+   * Returns the size this node would take as a root within the given constraints, without laying out the tree:
+   * the layout from the last {@link #calculateLayout} stays untouched. Results are cached until the tree changes.
+   */
+  public abstract YGSize calculateMeasuredSize(float width, YogaMeasureMode widthMode, float height,
+      YogaMeasureMode heightMode);
+
   public abstract boolean hasNewLayout();
 
   public abstract void dirty();
 
   public abstract boolean isDirty();
 
+  /** Number of {@link #calculateLayout} calls on this node as a root since it was last attached or detached. */
+  public abstract long getLayoutCalculationCount();
+
+  /**
+   * Number of those calls that returned without doing any work because the tree was clean and the
+   * size, direction and point scale factor matched the previous layout.
+   */
+  public abstract long getSkippedLayoutCount();
+
+  /**
+   * Returns the counters of the last full {@link #calculateLayout} pass on this node as a root, or
+   * null if there has not been one since the node was last attached or detached.
+   */
+  public abstract YogaLayoutStats getLastLayoutStats();
+
+  /** Returns the counters of every full pass on this node as a root summed up, or null if none. */
+  public abstract YogaLayoutStats getCumulativeLayoutStats();
+
+  /**
+   * Makes this node share {@code srcNode}'s style in constant time. Whichever node changes its style first gets its
+   * own copy, the other one is unaffected.
+   */
   public abstract void copyStyle(YogaNode srcNode);
 
   public abstract void markLayoutSeen();
@@ -0,0 +1,77 @@
+package io.github.orioncraftmc.meditate;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * A {@link Pool} of nodes of a single config, for screens that build and discard whole trees. Freed nodes are
+ * {@link YogaNode#reset() reset} to the state of a new node and keep their style, layout and child list storage for
+ * the next {@link #obtain()}.
+ * <p>
+ * A node must be detached from its owner and have no children when it is freed, {@link #freeSubtree(YogaNode)} takes
+ * care of both for a whole subtree.
+ */
+public class YogaNodePool extends Pool<YogaNode> {
+    private final YogaConfig config;
+
+    public YogaNodePool(YogaConfig config) {
+        this.config = config;
+    }
+
+    public YogaNodePool(YogaConfig config, int initialCapacity, int max) {
+        super(initialCapacity, max);
+        this.config = config;
+    }
+
+    public YogaConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    protected YogaNode newObject() {
+        return YogaNodeFactory.create(config);
+    }
+
+    /**
+     * Returns {@code node} to the pool. Throws if it belongs to another config, is still attached or has children.
+     */
+    @Override
+    public void free(YogaNode node) {
+        check(node);
+        super.free(node);
+    }
+
+    /**
+     * Detaches {@code root} from its owner and frees it together with every node below it.
+     */
+    public void freeSubtree(YogaNode root) {
+        final YogaNode owner = root.getOwner();
+        if (owner != null) {
+            owner.removeChildAt(owner.indexOf(root));
+        }
+        freeDetached(root);
+    }
+
+    private void freeDetached(YogaNode node) {
+        while (node.getChildCount() > 0) {
+            freeDetached(node.removeChildAt(node.getChildCount() - 1));
+        }
+        free(node);
+    }
+
+    @Override
+    protected void reset(YogaNode node) {
+        node.reset();
+    }
+
+    private void check(YogaNode node) {
+        if (((YogaNodeWrapper) node).mNativePointer.getConfig() != ((YogaConfigWrapper) config).mNativePointer) {
+            throw new IllegalArgumentException("Node belongs to another config");
+        }
+        if (node.getOwner() != null) {
+            throw new IllegalStateException("Node is still attached to an owner, it must be removed first.");
+        }
+        if (node.getChildCount() > 0) {
+            throw new IllegalStateException("Node still has children, use freeSubtree to free them as well.");
+        }
+    }
+}
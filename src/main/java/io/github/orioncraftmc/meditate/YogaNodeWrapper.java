@@ -11,6 +11,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import io.github.orioncraftmc.meditate.enums.*;
 import io.github.orioncraftmc.meditate.interfaces.YogaBaselineFunction;
 import io.github.orioncraftmc.meditate.interfaces.YogaMeasureFunction;
+import io.github.orioncraftmc.meditate.interfaces.YogaMeasureKey;
 import io.github.orioncraftmc.meditate.internal.*;
 import io.github.orioncraftmc.meditate.internal.enums.*;
 import java.util.ArrayList;
@@ -53,6 +54,16 @@ public class YogaNodeWrapper extends YogaNode {
     
     private Drawable background;
 
+    /*
+     * Nodes of the subtree rooted here, kept once calculateLayout has been called on this node and updated in place
+     * by addChildAt, removeChildAt and swapChildAt below it. mLayoutContext is the array of their native nodes handed
+     * to the engine and mSubtreeFrozen records that every node's Inputs have been frozen since the last change.
+     */
+    private ArrayList<YogaNodeWrapper> mSubtreeIndex;
+    private YGNode[] mLayoutContext;
+    private boolean mSubtreeFrozen;
+    private boolean mDetaching;
+
     private YogaNodeWrapper(YGNode nativePointer) {
         mNativePointer = nativePointer;
     }
@@ -65,6 +76,16 @@ public class YogaNodeWrapper extends YogaNode {
         this(io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeNewWithConfig(((YogaConfigWrapper) config).mNativePointer));
     }
 
+    /**
+     * Wraps a node of a {@link YogaTreeStore} for the measure function it was copied with, the data of the wrapper is
+     * the context of the node.
+     */
+    static YogaNodeWrapper standIn(YGNode node) {
+        final YogaNodeWrapper wrapper = new YogaNodeWrapper(node);
+        wrapper.mData = node.getContext();
+        return wrapper;
+    }
+
     private static YogaValue valueFromNative(YGValue value) {
         return new YogaValue(value.getValue(), YogaUnit.fromInt(value.getUnit().getValue()));
     }
@@ -73,6 +94,13 @@ public class YogaNodeWrapper extends YogaNode {
         mMeasureFunction = null;
         mBaselineFunction = null;
         mData = null;
+        mLayoutDirection = 0;
+        minWidthManuallySet = false;
+        minHeightManuallySet = false;
+        background = null;
+        mSubtreeIndex = null;
+        mLayoutContext = null;
+        mSubtreeFrozen = false;
 
         io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeReset(mNativePointer);
     }
@@ -103,6 +131,7 @@ public class YogaNodeWrapper extends YogaNode {
         mChildren.add(i, child);
         child.mOwner = this;
         io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeInsertChild(mNativePointer, child.mNativePointer, i);
+        onSubtreeAttached(child);
     }
 
     public YogaNode setIsReferenceBaseline(boolean isReferenceBaseline) {
@@ -114,15 +143,24 @@ public class YogaNodeWrapper extends YogaNode {
         return io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeIsReferenceBaseline(mNativePointer);
     }
 
+    public void applyStyleInputs(float[] buffer, int length) {
+        GlobalMembers.YGNodeSetStyleInputs(mNativePointer, buffer, length);
+    }
+
     public void swapChildAt(YogaNode newChild, int position) {
         if (!(newChild instanceof YogaNodeWrapper)) {
             return;
         }
         YogaNodeWrapper child = (YogaNodeWrapper) newChild;
-        mChildren.remove(position);
+        final YogaNodeWrapper oldChild = mChildren.remove(position);
+        onSubtreeDetached(oldChild);
+        if (oldChild.mOwner == this) {
+            oldChild.mOwner = null;
+        }
         mChildren.add(position, child);
         child.mOwner = this;
         io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeSwapChild(mNativePointer, child.mNativePointer, position);
+        onSubtreeAttached(child);
     }
 
     private YogaNodeWrapper cloneShallow() {
@@ -145,9 +183,8 @@ public class YogaNodeWrapper extends YogaNode {
         if (clonedYogaNode.mChildren != null) {
             clonedYogaNode.mChildren = new ArrayList<>(clonedYogaNode.mChildren);
         }
-         YGNode clonedNativePointer = io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeClone(mNativePointer);
         clonedYogaNode.mOwner = null;
-        clonedYogaNode.mNativePointer = clonedNativePointer;
+        clonedYogaNode.mNativePointer = cloneNative(mNativePointer);
         for (int i = 0; i < clonedYogaNode.getChildCount(); i++) {
             clonedYogaNode.swapChildAt(clonedYogaNode.getChildAt(i).cloneWithChildren(), i);
         }
@@ -158,16 +195,32 @@ public class YogaNodeWrapper extends YogaNode {
     @Override
     public YogaNodeWrapper cloneWithoutChildren() {
         YogaNodeWrapper clonedYogaNode = cloneShallow();
-        YGNode clonedNativePointer = io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeClone(mNativePointer);
         clonedYogaNode.mOwner = null;
-        clonedYogaNode.mNativePointer = clonedNativePointer;
+        clonedYogaNode.mNativePointer = cloneNative(mNativePointer);
         clonedYogaNode.clearChildren();
         return clonedYogaNode;
     }
 
+    /**
+     * YGNodeClone shares the child list of the original and makes the clone the owner of its children. The children
+     * are given back to the original and the clone gets a list of its own, so that changing the children of the clone
+     * leaves the original tree alone.
+     */
+    private static YGNode cloneNative(YGNode original) {
+        final YGNode clone = io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeClone(original);
+        final ArrayList<YGNode> children = original.getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            children.get(i).setOwner(original);
+        }
+        clone.setChildren(new ArrayList<>(children));
+        return clone;
+    }
+
     private void clearChildren() {
         mChildren = null;
-        mNativePointer.clearChildren();
+        mSubtreeIndex = null;
+        mLayoutContext = null;
+        io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeRemoveAllChildren(mNativePointer);
     }
 
     public YogaNodeWrapper removeChildAt(int i) {
@@ -176,6 +229,7 @@ public class YogaNodeWrapper extends YogaNode {
                     "Trying to remove a child of a YogaNode that does not have children");
         }
         final YogaNodeWrapper child = mChildren.remove(i);
+        onSubtreeDetached(child);
         child.mOwner = null;
         io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeRemoveChild(mNativePointer, child.mNativePointer);
         return child;
@@ -207,32 +261,103 @@ public class YogaNodeWrapper extends YogaNode {
     }
 
     public void calculateLayout(float width, float height) {
-        YGNode[] nativePointers = null;
-        YogaNodeWrapper[] nodes = null;
-
-        freeze(null);
-
-        ArrayList<YogaNodeWrapper> n = new ArrayList<>();
-        n.add(this);
-        for (int i = 0; i < n.size(); ++i) {
-            final YogaNodeWrapper parent = n.get(i);
-            List<YogaNodeWrapper> children = parent.mChildren;
-            if (children != null) {
-                for (YogaNodeWrapper child : children) {
-                    child.freeze(parent);
-                    n.add(child);
+        prepareLayoutContext();
+        GlobalMembers.YGNodeCalculateLayoutWithContext(mNativePointer, width, height,
+                io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeStyleGetDirection(mNativePointer), mLayoutContext);
+    }
+
+    public YGSize calculateMeasuredSize(float width, YogaMeasureMode widthMode, float height, YogaMeasureMode heightMode) {
+        prepareLayoutContext();
+        return GlobalMembers.YGNodeCalculateMeasuredSize(mNativePointer, width, YGMeasureMode.forValue(widthMode.intValue()),
+                height, YGMeasureMode.forValue(heightMode.intValue()), GlobalMembers.YGNodeStyleGetDirection(mNativePointer),
+                mLayoutContext);
+    }
+
+    private void prepareLayoutContext() {
+        if (mSubtreeIndex == null) {
+            mSubtreeIndex = new ArrayList<>();
+            collectSubtree(this, mSubtreeIndex);
+            mSubtreeFrozen = false;
+        }
+
+        // A clean root whose inputs are already frozen needs no walk over the tree at all.
+        if (!mSubtreeFrozen || isDirty()) {
+            freeze(null);
+            for (int i = 1; i < mSubtreeIndex.size(); i++) {
+                final YogaNodeWrapper node = mSubtreeIndex.get(i);
+                node.freeze(node.mOwner);
+            }
+            mSubtreeFrozen = true;
+        }
+
+        if (mLayoutContext == null) {
+            mLayoutContext = new YGNode[mSubtreeIndex.size()];
+            for (int i = 0; i < mLayoutContext.length; ++i) {
+                mLayoutContext[i] = mSubtreeIndex.get(i).mNativePointer;
+            }
+        }
+    }
+
+    private static void collectSubtree(YogaNodeWrapper node, List<YogaNodeWrapper> out) {
+        out.add(node);
+        if (node.mChildren != null) {
+            for (YogaNodeWrapper child : node.mChildren) {
+                collectSubtree(child, out);
+            }
+        }
+    }
+
+    private void onSubtreeAttached(YogaNodeWrapper child) {
+        child.mSubtreeIndex = null;
+        child.mLayoutContext = null;
+        for (YogaNodeWrapper ancestor = this; ancestor != null; ancestor = ancestor.mOwner) {
+            if (ancestor.mSubtreeIndex != null) {
+                collectSubtree(child, ancestor.mSubtreeIndex);
+                ancestor.mLayoutContext = null;
+                ancestor.mSubtreeFrozen = false;
+            }
+        }
+    }
+
+    private void onSubtreeDetached(YogaNodeWrapper child) {
+        boolean marked = false;
+        for (YogaNodeWrapper ancestor = this; ancestor != null; ancestor = ancestor.mOwner) {
+            if (ancestor.mSubtreeIndex == null) {
+                continue;
+            }
+            if (!marked) {
+                setDetaching(child, true);
+                marked = true;
+            }
+            int kept = 0;
+            final ArrayList<YogaNodeWrapper> index = ancestor.mSubtreeIndex;
+            for (int i = 0; i < index.size(); i++) {
+                final YogaNodeWrapper node = index.get(i);
+                if (!node.mDetaching) {
+                    index.set(kept++, node);
                 }
             }
+            index.subList(kept, index.size()).clear();
+            ancestor.mLayoutContext = null;
+        }
+        if (marked) {
+            setDetaching(child, false);
         }
+    }
 
-        nodes = n.toArray(new YogaNodeWrapper[0]);
-        nativePointers = new YGNode[nodes.length];
-        for (int i = 0; i < nodes.length; ++i) {
-            nativePointers[i] = nodes[i].mNativePointer;
+    private static void setDetaching(YogaNodeWrapper node, boolean detaching) {
+        node.mDetaching = detaching;
+        if (node.mChildren != null) {
+            for (YogaNodeWrapper child : node.mChildren) {
+                setDetaching(child, detaching);
+            }
         }
+    }
 
-        GlobalMembers.YGNodeCalculateLayoutWithContext(mNativePointer, width, height,
-                io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeStyleGetDirection(mNativePointer), nativePointers);
+    private void onInputsChanged() {
+        for (YogaNodeWrapper ancestor = this; ancestor != null; ancestor = ancestor.mOwner) {
+            ancestor.mSubtreeFrozen = false;
+        }
     }
 
     private void freeze(YogaNode parent) {
@@ -254,6 +379,30 @@ public class YogaNodeWrapper extends YogaNode {
         return io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeIsDirty(mNativePointer);
     }
 
+    public long getLayoutCalculationCount() {
+        return GlobalMembers.YGNodeGetLayoutCalculationCount(mNativePointer);
+    }
+
+    public long getSkippedLayoutCount() {
+        return GlobalMembers.YGNodeGetSkippedLayoutCount(mNativePointer);
+    }
+
+    public YogaLayoutStats getLastLayoutStats() {
+        final YGRootLayoutState rootState = GlobalMembers.YGNodeGetRootLayoutState(mNativePointer);
+        if (rootState == null || rootState.lastLayoutData == null) {
+            return null;
+        }
+        return new YogaLayoutStats(rootState.lastLayoutData, 1, rootState.lastDurationNanos);
+    }
+
+    public YogaLayoutStats getCumulativeLayoutStats() {
+        final YGRootLayoutState rootState = GlobalMembers.YGNodeGetRootLayoutState(mNativePointer);
+        if (rootState == null || rootState.passCount == 0) {
+            return null;
+        }
+        return new YogaLayoutStats(rootState.totalLayoutData, rootState.passCount, rootState.totalDurationNanos);
+    }
+
     @Override
     public void copyStyle(YogaNode srcNode) {
         if (!(srcNode instanceof YogaNodeWrapper)) {
@@ -631,10 +780,22 @@ public class YogaNodeWrapper extends YogaNode {
         return background;
     }
     
+    YogaMeasureFunction getMeasureFunction() {
+        return mMeasureFunction;
+    }
+
     public void setMeasureFunction(YogaMeasureFunction measureFunction) {
         mMeasureFunction = measureFunction;
+        if (measureFunction == null) {
+            mNativePointer.getMeasure().noContext = null;
+            mNativePointer.getMeasure().key = null;
+            mNativePointer.setMeasureFunc(mNativePointer.getMeasure());
+            return;
+        }
         mNativePointer.getMeasure().noContext = (node, width, widthMode, height, heightMode) -> measure(width,
                 widthMode.getValue(), height, heightMode.getValue());
+        mNativePointer.getMeasure().key = node -> mData instanceof YogaMeasureKey
+                ? ((YogaMeasureKey) mData).getMeasureKey() : null;
     }
 
     // Implementation Note: Why this method needs to stay final
@@ -680,6 +841,9 @@ public class YogaNodeWrapper extends YogaNode {
     }
 
     public YogaNode setData(Object data) {
+        if (data instanceof Inputs || mData instanceof Inputs) {
+            onInputsChanged();
+        }
         mData = data;
         return this;
     }
@@ -0,0 +1,62 @@
+package io.github.orioncraftmc.meditate;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import io.github.orioncraftmc.meditate.interfaces.YogaBatchMeasurer;
+import io.github.orioncraftmc.meditate.internal.YGParallelChunks;
+
+import java.util.List;
+
+/**
+ * A {@link YogaBatchMeasurer} that spreads the requests over an {@link AsyncExecutor} in at most
+ * {@code parallelism} strided chunks, running the chunks no executor thread has started on the calling thread. The
+ * measure functions of every node laid out with it must be safe to call concurrently.
+ */
+public class YogaParallelMeasurer implements YogaBatchMeasurer, Disposable {
+    private final AsyncExecutor executor;
+    private final int parallelism;
+    private final boolean ownsExecutor;
+
+    /**
+     * Creates a measurer backed by its own executor with {@code parallelism} threads, released by {@link #dispose()}.
+     */
+    public YogaParallelMeasurer(int parallelism) {
+        this(new AsyncExecutor(Math.max(1, parallelism), "YogaParallelMeasurer"), parallelism, true);
+    }
+
+    /**
+     * Creates a measurer that submits to a shared executor, which is not disposed with the measurer.
+     */
+    public YogaParallelMeasurer(AsyncExecutor executor, int parallelism) {
+        this(executor, parallelism, false);
+    }
+
+    private YogaParallelMeasurer(AsyncExecutor executor, int parallelism, boolean ownsExecutor) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1, was " + parallelism);
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    @Override
+    public void measure(final List<YogaMeasureRequest> requests) {
+        final int chunkCount = Math.min(parallelism, requests.size());
+        YGParallelChunks.invokeAll(executor, chunkCount, chunk -> measureChunk(requests, chunk, chunkCount));
+    }
+
+    private static void measureChunk(List<YogaMeasureRequest> requests, int start, int stride) {
+        final int requestCount = requests.size();
+        for (int i = start; i < requestCount; i += stride) {
+            requests.get(i).measure();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (ownsExecutor) {
+            executor.dispose();
+        }
+    }
+}
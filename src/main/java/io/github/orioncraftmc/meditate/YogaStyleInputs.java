@@ -7,6 +7,15 @@
 
 package io.github.orioncraftmc.meditate;
 
+import io.github.orioncraftmc.meditate.enums.*;
+
+import java.util.Arrays;
+
+/**
+ * Opcodes of the packed style buffer consumed by {@link YogaNode#applyStyleInputs(float[], int)}. Each opcode is
+ * followed by its operands: an edge for the edge based properties, then the value, except for the {@code *_AUTO}
+ * opcodes, which carry no value. Enum values are written as their {@code intValue()} and booleans as 0 or 1.
+ */
 public class YogaStyleInputs {
   public static final short LAYOUT_DIRECTION = 0;
   public static final short FLEX_DIRECTION = 1;
@@ -48,4 +57,232 @@ public class YogaStyleInputs {
   public static final short POSITION = 37;
   public static final short POSITION_PERCENT = 38;
   public static final short IS_REFERENCE_BASELINE = 39;
+
+  /**
+   * Accumulates a style diff into a reusable buffer. Call {@link #reset()} to start the next diff without
+   * reallocating.
+   */
+  public static class Builder {
+    private float[] buffer;
+    private int length;
+
+    public Builder() {
+      this(32);
+    }
+
+    public Builder(int initialCapacity) {
+      buffer = new float[Math.max(3, initialCapacity)];
+    }
+
+    public float[] getBuffer() {
+      return buffer;
+    }
+
+    public int getLength() {
+      return length;
+    }
+
+    public boolean isEmpty() {
+      return length == 0;
+    }
+
+    public Builder reset() {
+      length = 0;
+      return this;
+    }
+
+    /**
+     * Applies the accumulated diff to {@code node}; the builder is left unchanged.
+     */
+    public void applyTo(YogaNode node) {
+      node.applyStyleInputs(buffer, length);
+    }
+
+    public Builder direction(YogaDirection value) {
+      return put(LAYOUT_DIRECTION, value.intValue());
+    }
+
+    public Builder flexDirection(YogaFlexDirection value) {
+      return put(FLEX_DIRECTION, value.intValue());
+    }
+
+    public Builder wrap(YogaWrap value) {
+      return put(FLEX_WRAP, value.intValue());
+    }
+
+    public Builder justifyContent(YogaJustify value) {
+      return put(JUSTIFY_CONTENT, value.intValue());
+    }
+
+    public Builder alignItems(YogaAlign value) {
+      return put(ALIGN_ITEMS, value.intValue());
+    }
+
+    public Builder alignSelf(YogaAlign value) {
+      return put(ALIGN_SELF, value.intValue());
+    }
+
+    public Builder alignContent(YogaAlign value) {
+      return put(ALIGN_CONTENT, value.intValue());
+    }
+
+    public Builder positionType(YogaPositionType value) {
+      return put(POSITION_TYPE, value.intValue());
+    }
+
+    public Builder overflow(YogaOverflow value) {
+      return put(OVERFLOW, value.intValue());
+    }
+
+    public Builder display(YogaDisplay value) {
+      return put(DISPLAY, value.intValue());
+    }
+
+    public Builder flex(float value) {
+      return put(FLEX, value);
+    }
+
+    public Builder flexGrow(float value) {
+      return put(FLEX_GROW, value);
+    }
+
+    public Builder flexShrink(float value) {
+      return put(FLEX_SHRINK, value);
+    }
+
+    public Builder flexBasis(float value) {
+      return put(FLEX_BASIS, value);
+    }
+
+    public Builder flexBasisPercent(float value) {
+      return put(FLEX_BASIS_PERCENT, value);
+    }
+
+    public Builder width(float value) {
+      return put(WIDTH, value);
+    }
+
+    public Builder widthPercent(float value) {
+      return put(WIDTH_PERCENT, value);
+    }
+
+    public Builder minWidth(float value) {
+      return put(MIN_WIDTH, value);
+    }
+
+    public Builder minWidthPercent(float value) {
+      return put(MIN_WIDTH_PERCENT, value);
+    }
+
+    public Builder maxWidth(float value) {
+      return put(MAX_WIDTH, value);
+    }
+
+    public Builder maxWidthPercent(float value) {
+      return put(MAX_WIDTH_PERCENT, value);
+    }
+
+    public Builder height(float value) {
+      return put(HEIGHT, value);
+    }
+
+    public Builder heightPercent(float value) {
+      return put(HEIGHT_PERCENT, value);
+    }
+
+    public Builder minHeight(float value) {
+      return put(MIN_HEIGHT, value);
+    }
+
+    public Builder minHeightPercent(float value) {
+      return put(MIN_HEIGHT_PERCENT, value);
+    }
+
+    public Builder maxHeight(float value) {
+      return put(MAX_HEIGHT, value);
+    }
+
+    public Builder maxHeightPercent(float value) {
+      return put(MAX_HEIGHT_PERCENT, value);
+    }
+
+    public Builder aspectRatio(float value) {
+      return put(ASPECT_RATIO, value);
+    }
+
+    public Builder flexBasisAuto() {
+      ensureCapacity(1);
+      buffer[length++] = FLEX_BASIS_AUTO;
+      return this;
+    }
+
+    public Builder widthAuto() {
+      ensureCapacity(1);
+      buffer[length++] = WIDTH_AUTO;
+      return this;
+    }
+
+    public Builder heightAuto() {
+      ensureCapacity(1);
+      buffer[length++] = HEIGHT_AUTO;
+      return this;
+    }
+
+    public Builder margin(YogaEdge edge, float value) {
+      return put(MARGIN, edge.intValue(), value);
+    }
+
+    public Builder marginAuto(YogaEdge edge) {
+      return put(MARGIN_AUTO, edge.intValue());
+    }
+
+    public Builder marginPercent(YogaEdge edge, float value) {
+      return put(MARGIN_PERCENT, edge.intValue(), value);
+    }
+
+    public Builder padding(YogaEdge edge, float value) {
+      return put(PADDING, edge.intValue(), value);
+    }
+
+    public Builder paddingPercent(YogaEdge edge, float value) {
+      return put(PADDING_PERCENT, edge.intValue(), value);
+    }
+
+    public Builder border(YogaEdge edge, float value) {
+      return put(BORDER, edge.intValue(), value);
+    }
+
+    public Builder position(YogaEdge edge, float value) {
+      return put(POSITION, edge.intValue(), value);
+    }
+
+    public Builder positionPercent(YogaEdge edge, float value) {
+      return put(POSITION_PERCENT, edge.intValue(), value);
+    }
+
+    public Builder isReferenceBaseline(boolean isReferenceBaseline) {
+      return put(IS_REFERENCE_BASELINE, isReferenceBaseline ? 1 : 0);
+    }
+
+    private Builder put(short opcode, float value) {
+      ensureCapacity(2);
+      buffer[length++] = opcode;
+      buffer[length++] = value;
+      return this;
+    }
+
+    private Builder put(short opcode, int edge, float value) {
+      ensureCapacity(3);
+      buffer[length++] = opcode;
+      buffer[length++] = edge;
+      buffer[length++] = value;
+      return this;
+    }
+
+    private void ensureCapacity(int extra) {
+      if (length + extra > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+      }
+    }
+  }
 }
@@ -0,0 +1,34 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.internal.GlobalMembers;
+import io.github.orioncraftmc.meditate.internal.YGStyleTable;
+
+/**
+ * Deduplicates node styles: after {@link #intern(YogaNode)} every node with the same style references a single
+ * shared instance, which a node copies only when its style is next changed. Useful for large numbers of list rows or
+ * buttons that are styled identically.
+ */
+public class YogaStyleTable {
+    private final YGStyleTable table = new YGStyleTable();
+
+    /**
+     * Makes {@code node} reference the shared style equal to its own. The node is not marked dirty.
+     */
+    public void intern(YogaNode node) {
+        GlobalMembers.YGNodeInternStyle(((YogaNodeWrapper) node).mNativePointer, table);
+    }
+
+    /**
+     * Number of distinct styles interned so far.
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Forgets the interned styles. Nodes keep referencing them until their next style change.
+     */
+    public void clear() {
+        table.clear();
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.enums.YogaMeasureMode;
+import io.github.orioncraftmc.meditate.interfaces.YogaMeasureFunction;
+import io.github.orioncraftmc.meditate.internal.YGSize;
+import io.github.orioncraftmc.meditate.internal.YGTreeStore;
+
+/**
+ * A memory-compact alternative to a tree of {@link YogaNode}s for large layouts that are built once and rarely
+ * change, such as long static lists. Nodes are int ids, styles are deduplicated and the computed left, top, width and
+ * height are kept per node.
+ * <p>
+ * Layouts run over a node tree that is built by the first {@link #calculateLayout} and kept, so later layouts only
+ * redo what changed since. Call {@link #releaseNodes} once a layout is final to drop that tree and keep only the
+ * compact arrays; the next layout is then a full one.
+ */
+public class YogaTreeStore {
+    public static final int NO_NODE = YGTreeStore.NO_NODE;
+
+    /**
+     * Measures the leaf {@code node} of a tree store, see {@link io.github.orioncraftmc.meditate.interfaces.YogaMeasureFunction}.
+     */
+    public interface MeasureFunction {
+        YGSize measure(int node, float width, YogaMeasureMode widthMode, float height, YogaMeasureMode heightMode);
+    }
+
+    private final YGTreeStore store;
+
+    public YogaTreeStore(YogaConfig config) {
+        this(new YGTreeStore(((YogaConfigWrapper) config).mNativePointer, 64));
+    }
+
+    private YogaTreeStore(YGTreeStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Copies the tree rooted at {@code root}, including its measure functions and the data of measured nodes; the
+     * store keeps no reference to the original nodes. Measure functions are called with a stand-in node whose
+     * {@link YogaNode#getData() data} is that of the original. The root gets id 0 and the other nodes follow in
+     * pre-order.
+     */
+    public static YogaTreeStore copyOf(YogaNode root) {
+        final YogaNodeWrapper wrapper = (YogaNodeWrapper) root;
+        final YGTreeStore store = new YGTreeStore(wrapper.mNativePointer.getConfig(), 64);
+        copySubtree(store, wrapper, NO_NODE);
+        return new YogaTreeStore(store);
+    }
+
+    private static void copySubtree(YGTreeStore store, YogaNodeWrapper node, int parent) {
+        final int id = store.addNode(parent);
+        store.setStyle(id, node.mNativePointer.getStyle());
+        final YogaMeasureFunction measureFunction = node.getMeasureFunction();
+        if (measureFunction != null) {
+            store.setContext(id, node.getData());
+            store.setMeasureFunc(id, (ygNode, width, widthMode, height, heightMode) -> measureFunction.measure(
+                    YogaNodeWrapper.standIn(ygNode), width, YogaMeasureMode.fromInt(widthMode.getValue()), height,
+                    YogaMeasureMode.fromInt(heightMode.getValue())));
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            copySubtree(store, node.getChildAt(i), id);
+        }
+    }
+
+    /**
+     * Appends a node with the default style as the last child of {@code parent}, or as a new root for
+     * {@link #NO_NODE}, and returns its id.
+     */
+    public int addNode(int parent) {
+        return store.addNode(parent);
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * Number of distinct styles used by the nodes of this store.
+     */
+    public int getStyleCount() {
+        return store.getStyleCount();
+    }
+
+    public void setStyle(int node, YogaStyleInputs.Builder style) {
+        setStyleInputs(node, style.getBuffer(), style.getLength());
+    }
+
+    /**
+     * Applies a packed style diff, see {@link YogaNode#applyStyleInputs(float[], int)}.
+     */
+    public void setStyleInputs(int node, float[] styleInputs, int length) {
+        store.setStyleInputs(node, styleInputs, length);
+    }
+
+    public void setMeasureFunction(final int node, final MeasureFunction measureFunction) {
+        store.setMeasureFunc(node, measureFunction == null ? null
+                : (ygNode, width, widthMode, height, heightMode) -> measureFunction.measure(node, width,
+                        YogaMeasureMode.fromInt(widthMode.getValue()), height,
+                        YogaMeasureMode.fromInt(heightMode.getValue())));
+    }
+
+    public void calculateLayout(int root, float width, float height) {
+        store.calculateLayout(root, width, height, store.getStyle(root).direction());
+    }
+
+    /**
+     * Drops the node tree kept for layouts, see the class comment; the computed layout stays readable.
+     */
+    public void releaseNodes() {
+        store.releaseNodes();
+    }
+
+    public float getLayoutX(int node) {
+        return store.getLayoutLeft(node);
+    }
+
+    public float getLayoutY(int node) {
+        return store.getLayoutTop(node);
+    }
+
+    public float getLayoutWidth(int node) {
+        return store.getLayoutWidth(node);
+    }
+
+    public float getLayoutHeight(int node) {
+        return store.getLayoutHeight(node);
+    }
+}
@@ -8,7 +8,8 @@
 package io.github.orioncraftmc.meditate.enums;
 
 public enum YogaExperimentalFeature {
-  WEB_FLEX_BASIS(0);
+  WEB_FLEX_BASIS(0),
+  PARALLEL_SUBTREE_LAYOUT(1);
 
   private final int mIntValue;
 
@@ -23,6 +24,7 @@ public enum YogaExperimentalFeature {
   public static YogaExperimentalFeature fromInt(int value) {
     switch (value) {
       case 0: return WEB_FLEX_BASIS;
+      case 1: return PARALLEL_SUBTREE_LAYOUT;
       default: throw new IllegalArgumentException("Unknown enum value: " + value);
     }
   }
@@ -0,0 +1,17 @@
+package io.github.orioncraftmc.meditate.interfaces;
+
+import io.github.orioncraftmc.meditate.YogaMeasureRequest;
+
+import java.util.List;
+
+/**
+ * Runs the measure calls a layout pass predicted it will need, before the pass itself starts. Installed with
+ * {@link io.github.orioncraftmc.meditate.YogaConfig#setBatchMeasurer(YogaBatchMeasurer)}.
+ */
+public interface YogaBatchMeasurer {
+    /**
+     * Calls {@link YogaMeasureRequest#measure()} on the requests, on any threads, and returns once all of them are
+     * done. Requests left unmeasured are measured synchronously when the pass reaches them.
+     */
+    void measure(List<YogaMeasureRequest> requests);
+}
@@ -0,0 +1,15 @@
+package io.github.orioncraftmc.meditate.interfaces;
+
+/**
+ * Implemented by node data ({@link io.github.orioncraftmc.meditate.YogaNode#setData(Object)}) whose measurement
+ * depends only on a content key, so nodes measuring equal content can share results through a
+ * {@link io.github.orioncraftmc.meditate.YogaMeasureCache}.
+ */
+public interface YogaMeasureKey {
+    /**
+     * Returns a key with value based {@code equals} and {@code hashCode} that identifies everything the measure
+     * function depends on besides the constraints, for example the text and font of a label. Returning null keeps
+     * the node out of the shared cache.
+     */
+    Object getMeasureKey();
+}
@@ -1,5 +1,6 @@
 package io.github.orioncraftmc.meditate.internal;
 
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 import static io.github.orioncraftmc.meditate.internal.YGLayout.YG_MAX_CACHED_RESULT_COUNT;
 import io.github.orioncraftmc.meditate.internal.detail.*;
 import io.github.orioncraftmc.meditate.internal.enums.*;
@@ -30,7 +31,6 @@ import static io.github.orioncraftmc.meditate.internal.enums.YGWrap.YGWrapWrapRe
 import io.github.orioncraftmc.meditate.internal.event.*;
 import io.github.orioncraftmc.meditate.internal.interfaces.*;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.*;
 
 public class GlobalMembers {
@@ -87,7 +87,6 @@ public class GlobalMembers {
     public static final float kDefaultFlexShrink = 0.0f;
     public static final float kWebDefaultFlexShrink = 1.0f;
     public static final  YGConfig defaultConfig = YGConfigNew();
-    public static final  AtomicInteger gCurrentGenerationCount = new AtomicInteger();
     public static final boolean gPrintChanges = false;
     public static final boolean gPrintSkips = false;
     public static int gConfigInstanceCount = 0;
@@ -114,7 +113,15 @@ public class GlobalMembers {
     }
 
     public static boolean YGValueEqual( CompactValue a,  CompactValue b) {
-        return YGValueEqual(a.convertToYgValue(), b.convertToYgValue());
+        if (a.unit() != b.unit()) {
+            return false;
+        }
+
+        if (a.unit() == YGUnit.YGUnitUndefined || (isUndefined(a.value()) && isUndefined(b.value()))) {
+            return true;
+        }
+
+        return Math.abs(a.value() - b.value()) < 0.0001f;
     }
 
     public static boolean YGFloatsEqual(final float a, final float b) //Method definition originates from: Utils.cpp
@@ -161,10 +168,14 @@ public class GlobalMembers {
         return isUndefined(a) ? b : a;
     }
 
-    public static boolean YGFloatArrayEqual(final  ArrayList<Float> val1, final  ArrayList<Float> val2) {
+    public static boolean YGFloatArrayEqual(final float[] val1, final float[] val2) {
+        return YGFloatArrayEqual(val1, val2, 0, val1.length);
+    }
+
+    public static boolean YGFloatArrayEqual(final float[] val1, final float[] val2, int offset, int length) {
         boolean areEqual = true;
-        for (int i = 0; i < val1.size() && areEqual; ++i) {
-            areEqual = YGFloatsEqual(val1.get(i), val2.get(i));
+        for (int i = offset; i < offset + length && areEqual; ++i) {
+            areEqual = YGFloatsEqual(val1[i], val2[i]);
         }
         return areEqual;
     }
@@ -196,7 +207,14 @@ public class GlobalMembers {
     }
 
     public static  YGFloatOptional YGResolveValue( CompactValue value, float ownerSize) {
-        return YGResolveValue(value.convertToYgValue(), ownerSize);
+        switch (value.unit()) {
+            case YGUnitPoint:
+                return new YGFloatOptional(value.value());
+            case YGUnitPercent:
+                return new YGFloatOptional(value.value() * ownerSize * 0.01f);
+            default:
+                return new YGFloatOptional();
+        }
     }
 
     public static boolean YGFlexDirectionIsColumn(final YGFlexDirection flexDirection) {
@@ -215,8 +233,16 @@ public class GlobalMembers {
         return flexDirection;
     }
 
+    /**
+     * Resolves a margin like {@link #YGResolveValue}, but auto margins and percent margins of an owner without a
+     * definite size resolve to 0, like percent paddings do, instead of making the sizes they are added to undefined.
+     */
     public static  YGFloatOptional YGResolveValueMargin( CompactValue value, final float ownerSize) {
-        return value.isAuto() ? new YGFloatOptional(0) : YGResolveValue(value, ownerSize);
+        if (value.isAuto()) {
+            return new YGFloatOptional(0);
+        }
+        final YGFloatOptional resolved = YGResolveValue(value, ownerSize);
+        return resolved.isUndefined() ? new YGFloatOptional(0) : resolved;
     }
 
     public static  String YGAlignToString(final  YGAlign value) //Method definition originates from: YGEnums.cpp
@@ -500,7 +526,9 @@ public class GlobalMembers {
     {
          YGNode node = new YGNode((config));
         YGAssertWithConfig(config, node != null, "Could not allocate memory for node");
-        Event.publish(node, new NodeAllocationEventData(config));
+        if (Event.isSubscribed(Event.Type.NodeAllocation)) {
+            Event.publish(node, Event.Type.NodeAllocation, new NodeAllocationEventData(config));
+        }
 
         return node;
     }
@@ -509,7 +537,9 @@ public class GlobalMembers {
     {
          YGNode node = new YGNode(oldNode);
         YGAssertWithConfig(oldNode.getConfig(), node != null, "Could not allocate memory for node");
-        Event.publish(node, new NodeAllocationEventData(node.getConfig()));
+        if (Event.isSubscribed(Event.Type.NodeAllocation)) {
+            Event.publish(node, Event.Type.NodeAllocation, new NodeAllocationEventData(node.getConfig()));
+        }
         node.setOwner(null);
         return node;
     }
@@ -531,7 +561,9 @@ public class GlobalMembers {
         }
 
         node.clearChildren();
-        Event.publish(node, new NodeDeallocationEventData(node.getConfig()));
+        if (Event.isSubscribed(Event.Type.NodeDeallocation)) {
+            Event.publish(node, Event.Type.NodeDeallocation, new NodeDeallocationEventData(node.getConfig()));
+        }
     }
 
     public static void YGNodeFreeRecursiveWithCleanupFunc( YGNode root,  YGNodeCleanupFunc cleanup) //Method definition originates from: Yoga.cpp
@@ -578,8 +610,17 @@ public class GlobalMembers {
 
     public static void YGNodeSwapChild( YGNode owner,  YGNode child, final Integer index) //Method definition originates from: Yoga.cpp
     {
+        final YGNode oldChild = owner.getChild(index);
+        if (oldChild == child) {
+            return;
+        }
         owner.replaceChild(child, index);
+        if (oldChild.getOwner() == owner) {
+            oldChild.setLayout(null);
+            oldChild.setOwner(null);
+        }
         child.setOwner(owner);
+        owner.markDirtyAndPropogate();
     }
 
     public static void YGNodeRemoveChild( YGNode owner,  YGNode excludedChild) //Method definition originates from: Yoga.cpp
@@ -728,11 +769,21 @@ public class GlobalMembers {
     public static void YGNodeCopyStyle( YGNode dstNode,  YGNode srcNode) //Method definition originates from: Yoga.cpp
     {
         if (!(dstNode.getStyle() == srcNode.getStyle())) {
+            srcNode.markStyleShared();
             dstNode.setStyle(srcNode.getStyle());
             dstNode.markDirtyAndPropogate();
         }
     }
 
+    /**
+     * Replaces the style of {@code node} with the equal style interned in {@code table}, or interns it if it is the
+     * first of its kind. The node shares the interned style until its next style write, and is not dirtied since the
+     * style is unchanged.
+     */
+    public static void YGNodeInternStyle( YGNode node,  YGStyleTable table) {
+        node.setStyle(table.intern(node.getStyle()));
+    }
+
     public static  Object YGNodeGetContext( YGNode node) //Method definition originates from: Yoga.cpp
     {
         return node.getContext();
@@ -926,8 +977,8 @@ public class GlobalMembers {
 
     private static <T extends Enum<T>> void updateStyleIndexed( YGNode node,  T edge, CompactValue value,  Function<YGStyle, Values<T>> values) {
         updateStyle(node, value,
-                (ygStyle, val) -> !CompactValue.equalsTo(values.apply(node.getStyle()).getCompactValue(edge.ordinal()),
-                        val), (ygStyle, val) -> values.apply(node.getStyle()).set(edge.ordinal(), value));
+                (ygStyle, val) -> !CompactValue.equalsTo(values.apply(ygStyle).getCompactValue(edge.ordinal()), val),
+                (ygStyle, val) -> values.apply(ygStyle).set(edge.ordinal(), value));
     }
 
     public static void YGNodeStyleSetMarginPercent( YGNode node,  YGEdge edge, float percent) //Method definition originates from: Yoga.cpp
@@ -1053,34 +1104,198 @@ public class GlobalMembers {
         updateStyle(node, aspectRatio, (ygStyle, val) -> val != ygStyle.aspectRatio().unwrap(), (ygStyle, val) -> ygStyle.setAspectRatio(new YGFloatOptional(val)));
     }
 
+    /**
+     * Applies a packed style diff of {@link YGStyleInput} opcodes and their operands, reading {@code size} floats.
+     * Unchanged properties are skipped and the node is dirtied at most once for the whole buffer. The buffer is checked
+     * before anything is applied, so a malformed one leaves the style untouched.
+     */
+    public static void YGNodeSetStyleInputs( YGNode node, final float[] styleInputs, final int size) {
+        YGValidateStyleInputs(node, styleInputs, size);
+        node.beginStyleBatch();
+        try {
+            int i = 0;
+            while (i < size) {
+                switch (YGStyleInput.forValue((int) styleInputs[i++])) {
+                    case LayoutDirection:
+                        YGNodeStyleSetDirection(node, YGDirection.forValue((int) styleInputs[i++]));
+                        break;
+                    case FlexDirection:
+                        YGNodeStyleSetFlexDirection(node, YGFlexDirection.forValue((int) styleInputs[i++]));
+                        break;
+                    case Flex:
+                        YGNodeStyleSetFlex(node, styleInputs[i++]);
+                        break;
+                    case FlexGrow:
+                        YGNodeStyleSetFlexGrow(node, styleInputs[i++]);
+                        break;
+                    case FlexShrink:
+                        YGNodeStyleSetFlexShrink(node, styleInputs[i++]);
+                        break;
+                    case FlexBasis:
+                        YGNodeStyleSetFlexBasis(node, styleInputs[i++]);
+                        break;
+                    case FlexBasisPercent:
+                        YGNodeStyleSetFlexBasisPercent(node, styleInputs[i++]);
+                        break;
+                    case FlexBasisAuto:
+                        YGNodeStyleSetFlexBasisAuto(node);
+                        break;
+                    case FlexWrap:
+                        YGNodeStyleSetFlexWrap(node, YGWrap.forValue((int) styleInputs[i++]));
+                        break;
+                    case Width:
+                        YGNodeStyleSetWidth(node, styleInputs[i++]);
+                        break;
+                    case WidthPercent:
+                        YGNodeStyleSetWidthPercent(node, styleInputs[i++]);
+                        break;
+                    case WidthAuto:
+                        YGNodeStyleSetWidthAuto(node);
+                        break;
+                    case MinWidth:
+                        YGNodeStyleSetMinWidth(node, styleInputs[i++]);
+                        break;
+                    case MinWidthPercent:
+                        YGNodeStyleSetMinWidthPercent(node, styleInputs[i++]);
+                        break;
+                    case MaxWidth:
+                        YGNodeStyleSetMaxWidth(node, styleInputs[i++]);
+                        break;
+                    case MaxWidthPercent:
+                        YGNodeStyleSetMaxWidthPercent(node, styleInputs[i++]);
+                        break;
+                    case Height:
+                        YGNodeStyleSetHeight(node, styleInputs[i++]);
+                        break;
+                    case HeightPercent:
+                        YGNodeStyleSetHeightPercent(node, styleInputs[i++]);
+                        break;
+                    case HeightAuto:
+                        YGNodeStyleSetHeightAuto(node);
+                        break;
+                    case MinHeight:
+                        YGNodeStyleSetMinHeight(node, styleInputs[i++]);
+                        break;
+                    case MinHeightPercent:
+                        YGNodeStyleSetMinHeightPercent(node, styleInputs[i++]);
+                        break;
+                    case MaxHeight:
+                        YGNodeStyleSetMaxHeight(node, styleInputs[i++]);
+                        break;
+                    case MaxHeightPercent:
+                        YGNodeStyleSetMaxHeightPercent(node, styleInputs[i++]);
+                        break;
+                    case JustifyContent:
+                        YGNodeStyleSetJustifyContent(node, YGJustify.forValue((int) styleInputs[i++]));
+                        break;
+                    case AlignItems:
+                        YGNodeStyleSetAlignItems(node, YGAlign.forValue((int) styleInputs[i++]));
+                        break;
+                    case AlignSelf:
+                        YGNodeStyleSetAlignSelf(node, YGAlign.forValue((int) styleInputs[i++]));
+                        break;
+                    case AlignContent:
+                        YGNodeStyleSetAlignContent(node, YGAlign.forValue((int) styleInputs[i++]));
+                        break;
+                    case PositionType:
+                        YGNodeStyleSetPositionType(node, YGPositionType.forValue((int) styleInputs[i++]));
+                        break;
+                    case AspectRatio:
+                        YGNodeStyleSetAspectRatio(node, styleInputs[i++]);
+                        break;
+                    case Overflow:
+                        YGNodeStyleSetOverflow(node, YGOverflow.forValue((int) styleInputs[i++]));
+                        break;
+                    case Display:
+                        YGNodeStyleSetDisplay(node, YGDisplay.forValue((int) styleInputs[i++]));
+                        break;
+                    case Margin: {
+                        final YGEdge edge = YGEdge.forValue((int) styleInputs[i++]);
+                        YGNodeStyleSetMargin(node, edge, styleInputs[i++]);
+                        break;
+                    }
+                    case MarginPercent: {
+                        final YGEdge edge = YGEdge.forValue((int) styleInputs[i++]);
+                        YGNodeStyleSetMarginPercent(node, edge, styleInputs[i++]);
+                        break;
+                    }
+                    case MarginAuto:
+                        YGNodeStyleSetMarginAuto(node, YGEdge.forValue((int) styleInputs[i++]));
+                        break;
+                    case Padding: {
+                        final YGEdge edge = YGEdge.forValue((int) styleInputs[i++]);
+                        YGNodeStyleSetPadding(node, edge, styleInputs[i++]);
+                        break;
+                    }
+                    case PaddingPercent: {
+                        final YGEdge edge = YGEdge.forValue((int) styleInputs[i++]);
+                        YGNodeStyleSetPaddingPercent(node, edge, styleInputs[i++]);
+                        break;
+                    }
+                    case Border: {
+                        final YGEdge edge = YGEdge.forValue((int) styleInputs[i++]);
+                        YGNodeStyleSetBorder(node, edge, styleInputs[i++]);
+                        break;
+                    }
+                    case Position: {
+                        final YGEdge edge = YGEdge.forValue((int) styleInputs[i++]);
+                        YGNodeStyleSetPosition(node, edge, styleInputs[i++]);
+                        break;
+                    }
+                    case PositionPercent: {
+                        final YGEdge edge = YGEdge.forValue((int) styleInputs[i++]);
+                        YGNodeStyleSetPositionPercent(node, edge, styleInputs[i++]);
+                        break;
+                    }
+                    case IsReferenceBaseline:
+                        YGNodeSetIsReferenceBaseline(node, styleInputs[i++] == 1);
+                        break;
+                }
+            }
+        } finally {
+            node.endStyleBatch();
+        }
+    }
+
+    private static void YGValidateStyleInputs( YGNode node, final float[] styleInputs, final int size) {
+        YGAssertWithNode(node, size >= 0 && size <= styleInputs.length, "Style inputs size is out of bounds");
+        int i = 0;
+        while (i < size) {
+            final int opcode = (int) styleInputs[i];
+            YGAssertWithNode(node, opcode >= 0 && opcode < YGStyleInput.COUNT, "Unknown style input opcode");
+            i += 1 + YGStyleInput.forValue(opcode).getOperandCount();
+        }
+        YGAssertWithNode(node, i == size, "Style inputs end in the middle of an opcode");
+    }
+
     public static float YGNodeLayoutGetLeft( YGNode node) //Method definition originates from: Yoga.cpp
     {
-        return node.getLayout().position.get(YGEdgeLeft.getValue());
+        return node.getLayout().position(YGEdgeLeft.getValue());
     }
 
     public static float YGNodeLayoutGetTop( YGNode node) //Method definition originates from: Yoga.cpp
     {
-        return node.getLayout().position.get(YGEdgeTop.getValue());
+        return node.getLayout().position(YGEdgeTop.getValue());
     }
 
     public static float YGNodeLayoutGetRight( YGNode node) //Method definition originates from: Yoga.cpp
     {
-        return node.getLayout().position.get(YGEdgeRight.getValue());
+        return node.getLayout().position(YGEdgeRight.getValue());
     }
 
     public static float YGNodeLayoutGetBottom( YGNode node) //Method definition originates from: Yoga.cpp
     {
-        return node.getLayout().position.get(YGEdgeBottom.getValue());
+        return node.getLayout().position(YGEdgeBottom.getValue());
     }
 
     public static float YGNodeLayoutGetWidth( YGNode node) //Method definition originates from: Yoga.cpp
     {
-        return node.getLayout().dimensions.get(YGDimensionWidth.getValue());
+        return node.getLayout().dimension(YGDimensionWidth.getValue());
     }
 
     public static float YGNodeLayoutGetHeight( YGNode node) //Method definition originates from: Yoga.cpp
     {
-        return node.getLayout().dimensions.get(YGDimensionHeight.getValue());
+        return node.getLayout().dimension(YGDimensionHeight.getValue());
     }
 
     public static YGDirection YGNodeLayoutGetDirection( YGNode node) //Method definition originates from: Yoga.cpp
@@ -1104,19 +1319,19 @@ public class GlobalMembers {
                 "Cannot get layout properties of multi-edge shorthands");
         if (edge == YGEdgeStart) {
             if (node.getLayout().direction() == YGDirectionRTL) {
-                return node.getLayout().margin.get(YGEdgeRight.getValue());
+                return node.getLayout().margin(YGEdgeRight.getValue());
             } else {
-                return node.getLayout().margin.get(YGEdgeLeft.getValue());
+                return node.getLayout().margin(YGEdgeLeft.getValue());
             }
         }
         if (edge == YGEdgeEnd) {
             if (node.getLayout().direction() == YGDirectionRTL) {
-                return node.getLayout().margin.get(YGEdgeLeft.getValue());
+                return node.getLayout().margin(YGEdgeLeft.getValue());
             } else {
-                return node.getLayout().margin.get(YGEdgeRight.getValue());
+                return node.getLayout().margin(YGEdgeRight.getValue());
             }
         }
-        return node.getLayout().margin.get(edge.getValue());
+        return node.getLayout().margin(edge.getValue());
     }
 
     public static float YGNodeLayoutGetBorder( YGNode node, final  YGEdge edge) //Method definition originates from: Yoga.cpp
@@ -1125,19 +1340,19 @@ public class GlobalMembers {
                 "Cannot get layout properties of multi-edge shorthands");
         if (edge == YGEdgeStart) {
             if (node.getLayout().direction() == YGDirectionRTL) {
-                return node.getLayout().border.get(YGEdgeRight.getValue());
+                return node.getLayout().border(YGEdgeRight.getValue());
             } else {
-                return node.getLayout().border.get(YGEdgeLeft.getValue());
+                return node.getLayout().border(YGEdgeLeft.getValue());
             }
         }
         if (edge == YGEdgeEnd) {
             if (node.getLayout().direction() == YGDirectionRTL) {
-                return node.getLayout().border.get(YGEdgeLeft.getValue());
+                return node.getLayout().border(YGEdgeLeft.getValue());
             } else {
-                return node.getLayout().border.get(YGEdgeRight.getValue());
+                return node.getLayout().border(YGEdgeRight.getValue());
             }
         }
-        return node.getLayout().border.get(edge.getValue());
+        return node.getLayout().border(edge.getValue());
     }
 
     public static float YGNodeLayoutGetPadding( YGNode node, final  YGEdge edge) //Method definition originates from: Yoga.cpp
@@ -1146,19 +1361,19 @@ public class GlobalMembers {
                 "Cannot get layout properties of multi-edge shorthands");
         if (edge == YGEdgeStart) {
             if (node.getLayout().direction() == YGDirectionRTL) {
-                return node.getLayout().padding.get(YGEdgeRight.getValue());
+                return node.getLayout().padding(YGEdgeRight.getValue());
             } else {
-                return node.getLayout().padding.get(YGEdgeLeft.getValue());
+                return node.getLayout().padding(YGEdgeLeft.getValue());
             }
         }
         if (edge == YGEdgeEnd) {
             if (node.getLayout().direction() == YGDirectionRTL) {
-                return node.getLayout().padding.get(YGEdgeLeft.getValue());
+                return node.getLayout().padding(YGEdgeLeft.getValue());
             } else {
-                return node.getLayout().padding.get(YGEdgeRight.getValue());
+                return node.getLayout().padding(YGEdgeRight.getValue());
             }
         }
-        return node.getLayout().padding.get(edge.getValue());
+        return node.getLayout().padding(edge.getValue());
     }
 
     public static void YGConfigSetLogger( YGConfig config,  YGLogger logger) //Method definition originates from: Yoga.cpp
@@ -1254,6 +1469,27 @@ public class GlobalMembers {
         return config.experimentalFeatures.get(feature.getValue());
     }
 
+    public static void YGConfigSetParallelLayoutExecutor( YGConfig config, final AsyncExecutor executor) {
+        config.parallelLayoutExecutor = executor;
+    }
+
+    public static void YGConfigSetBatchMeasureFunc( YGConfig config, final YGBatchMeasureFunc batchMeasureFunc) {
+        config.batchMeasureFunc = batchMeasureFunc;
+    }
+
+    public static void YGConfigSetSharedMeasureCache( YGConfig config, final YGSharedMeasureCache cache) {
+        config.sharedMeasureCache = cache;
+    }
+
+    public static void YGConfigSetMeasurementCacheCapacity( YGConfig config, final int capacity) {
+        YGAssertWithConfig(config, capacity >= 1, "Measurement cache capacity should be at least one");
+        config.measurementCacheCapacity = capacity;
+    }
+
+    public static void YGConfigSetParallelLayoutThreshold( YGConfig config, final int threshold) {
+        config.parallelLayoutThreshold = threshold;
+    }
+
     public static void YGConfigSetUseWebDefaults( YGConfig config, final boolean enabled) //Method definition originates from: Yoga.cpp
     {
         config.useWebDefaults = enabled;
@@ -1347,7 +1583,9 @@ public class GlobalMembers {
         }
         YGNode node = new YGNode(oldNode, config);
         node.setOwner(null);
-        Event.publish(node, new NodeAllocationEventData(node.getConfig()));
+        if (Event.isSubscribed(Event.Type.NodeAllocation)) {
+            Event.publish(node, Event.Type.NodeAllocation, new NodeAllocationEventData(node.getConfig()));
+        }
 
          ArrayList<YGNode> vec = new ArrayList<>();
         vec.ensureCapacity(oldNode.getChildren().size());
@@ -1422,13 +1660,13 @@ public class GlobalMembers {
     }
 
     public static <T extends Enum<T>> void updateStyle( YGNode node,  Class<T> enumClazz, T value,  Function<YGStyle, YGStyle.BitfieldRef<T>> fieldRef) {
-        updateStyle(node, value, (ygStyle, newVal) -> fieldRef.apply(node.getStyle()).getValue(enumClazz) != newVal,
-                (ygStyle, newVal) -> fieldRef.apply(node.getStyle()).setValue(newVal));
+        updateStyle(node, value, (ygStyle, newVal) -> fieldRef.apply(ygStyle).getValue(enumClazz) != newVal,
+                (ygStyle, newVal) -> fieldRef.apply(ygStyle).setValue(newVal));
     }
 
     public static <T> void updateStyle( YGNode node, T value,  BiFunction<YGStyle, T, Boolean> needsUpdate,  BiConsumer<YGStyle, T> update) {
         if (needsUpdate.apply(node.getStyle(), value)) {
-            update.accept(node.getStyle(), value);
+            update.accept(node.mutableStyle(), value);
             node.markDirtyAndPropogate();
         }
     }
@@ -1494,7 +1732,7 @@ public class GlobalMembers {
             return YGUndefined;
         }
 
-        return border.convertToYgValue().value;
+        return border.value();
     }
 
     public static float YGNodeStyleGetAspectRatio( YGNode node) {
@@ -1518,13 +1756,13 @@ public class GlobalMembers {
         return node.getStyle().maxDimensions().get(YGDimensionHeight.getValue());
     }
 
-    public static boolean YGLayoutNodeInternal( YGNode node, final float availableWidth, final float availableHeight, final  YGDirection ownerDirection, final  YGMeasureMode widthMeasureMode, final  YGMeasureMode heightMeasureMode, final float ownerWidth, final float ownerHeight, final boolean performLayout, final  LayoutPassReason reason, YGConfig config,  LayoutData layoutMarkerData, final Object layoutContext, Integer depth, final Integer generationCount) //Method definition originates from: Yoga.cpp
+    public static boolean YGLayoutNodeInternal( YGNode node, final float availableWidth, final float availableHeight, final  YGDirection ownerDirection, final  YGMeasureMode widthMeasureMode, final  YGMeasureMode heightMeasureMode, final float ownerWidth, final float ownerHeight, final boolean performLayout, final  LayoutPassReason reason, YGConfig config,  YGLayoutPassContext pass, final Object layoutContext, Integer depth) //Method definition originates from: Yoga.cpp
     {
         YGLayout layout = node.getLayout();
 
         depth++;
 
-        final boolean needToVisitNode = (node.isDirty() && layout.generationCount != generationCount) || layout.lastOwnerDirection != ownerDirection;
+        final boolean needToVisitNode = (node.isDirty() && layout.generationCount != pass.generationCount) || layout.lastOwnerDirection != ownerDirection;
 
         if (needToVisitNode) {
 
@@ -1561,6 +1799,8 @@ public class GlobalMembers {
                             layout.cachedMeasurements.get(i).computedWidth,
                             layout.cachedMeasurements.get(i).computedHeight, marginAxisRow, marginAxisColumn, config)) {
                         cachedResults = layout.cachedMeasurements.get(i);
+                        pass.layoutData.measureCacheHits += 1;
+                        layout.touchCachedMeasurement(cachedResults);
                         break;
                     }
                 }
@@ -1579,17 +1819,19 @@ public class GlobalMembers {
                         i).widthMeasureMode == widthMeasureMode && layout.cachedMeasurements.get(
                         i).heightMeasureMode == heightMeasureMode) {
                     cachedResults = layout.cachedMeasurements.get(i);
+                    pass.layoutData.measureCacheHits += 1;
+                    layout.touchCachedMeasurement(cachedResults);
                     break;
                 }
             }
         }
 
         if (!needToVisitNode && cachedResults != null) {
-            layout.measuredDimensions.set(YGDimensionWidth.getValue(), cachedResults.computedWidth);
-            layout.measuredDimensions.set(YGDimensionHeight.getValue(), cachedResults.computedHeight);
+            layout.setMeasuredDimension(YGDimensionWidth.getValue(), cachedResults.computedWidth);
+            layout.setMeasuredDimension(YGDimensionHeight.getValue(), cachedResults.computedHeight);
 
-            if (performLayout) layoutMarkerData.cachedLayouts += 1;
-            else layoutMarkerData.cachedMeasures += 1;
+            if (performLayout) pass.layoutData.cachedLayouts += 1;
+            else pass.layoutData.cachedMeasures += 1;
 
             if (gPrintChanges && gPrintSkips) {
                 Log.log(node, YGLogLevelVerbose, null, "%s%d.{[skipped] ", YGSpacer(depth), depth);
@@ -1609,9 +1851,11 @@ public class GlobalMembers {
                         LayoutPassReasonToString(reason));
             }
 
+            if (pass.measureBatch != null && pass.measureBatch.isCollecting()) {
+                pass.measureBatch.visited(node);
+            }
             YGNodelayoutImpl(node, availableWidth, availableHeight, ownerDirection, widthMeasureMode, heightMeasureMode,
-                    ownerWidth, ownerHeight, performLayout, config, layoutMarkerData, layoutContext, depth,
-                    generationCount, reason);
+                    ownerWidth, ownerHeight, performLayout, config, pass, layoutContext, depth, reason);
 
             if (gPrintChanges) {
                 Log.log(node, YGLogLevelVerbose, null, "%s%d.}%s", YGSpacer(depth), depth, needToVisitNode ? "*" : "");
@@ -1619,22 +1863,16 @@ public class GlobalMembers {
                 Log.log(node, YGLogLevelVerbose, null, "wm: %s, hm: %s, d: (%f, %f) %s\n",
                         YGMeasureModeName(widthMeasureMode, performLayout),
                         YGMeasureModeName(heightMeasureMode, performLayout),
-                        layout.measuredDimensions.get(YGDimensionWidth.getValue()),
-                        layout.measuredDimensions.get(YGDimensionHeight.getValue()),
+                        layout.measuredDimension(YGDimensionWidth.getValue()),
+                        layout.measuredDimension(YGDimensionHeight.getValue()),
                         LayoutPassReasonToString(reason));
             }
 
             layout.lastOwnerDirection = ownerDirection;
 
             if (cachedResults == null) {
-                if (layout.nextCachedMeasurementsIndex + 1 > layoutMarkerData.maxMeasureCache) {
-                    layoutMarkerData.maxMeasureCache = layout.nextCachedMeasurementsIndex + 1;
-                }
-                if (layout.nextCachedMeasurementsIndex == YG_MAX_CACHED_RESULT_COUNT) {
-                    if (gPrintChanges) {
-                        Log.log(node, YGLogLevelVerbose, null, "Out of cache entries!\n");
-                    }
-                    layout.nextCachedMeasurementsIndex = 0;
+                if (layout.nextCachedMeasurementsIndex + 1 > pass.layoutData.maxMeasureCache) {
+                    pass.layoutData.maxMeasureCache = layout.nextCachedMeasurementsIndex + 1;
                 }
 
                 YGCachedMeasurement newCacheEntry;
@@ -1642,31 +1880,36 @@ public class GlobalMembers {
 
                     newCacheEntry = layout.cachedLayout;
                 } else {
-
-                    newCacheEntry = layout.cachedMeasurements.get(layout.nextCachedMeasurementsIndex);
-                    layout.nextCachedMeasurementsIndex++;
+                    pass.layoutData.measureCacheMisses += 1;
+                    if (layout.nextCachedMeasurementsIndex >= config.measurementCacheCapacity) {
+                        if (gPrintChanges) {
+                            Log.log(node, YGLogLevelVerbose, null, "Out of cache entries!\n");
+                        }
+                        pass.layoutData.measureCacheEvictions += 1;
+                    }
+                    newCacheEntry = layout.nextCachedMeasurement(config.measurementCacheCapacity);
                 }
 
                 newCacheEntry.availableWidth = availableWidth;
                 newCacheEntry.availableHeight = availableHeight;
                 newCacheEntry.widthMeasureMode = widthMeasureMode;
                 newCacheEntry.heightMeasureMode = heightMeasureMode;
-                newCacheEntry.computedWidth = layout.measuredDimensions.get(YGDimensionWidth.getValue());
-                newCacheEntry.computedHeight = layout.measuredDimensions.get(YGDimensionHeight.getValue());
+                newCacheEntry.computedWidth = layout.measuredDimension(YGDimensionWidth.getValue());
+                newCacheEntry.computedHeight = layout.measuredDimension(YGDimensionHeight.getValue());
             }
         }
 
         if (performLayout) {
-            node.setLayoutDimension(node.getLayout().measuredDimensions.get(YGDimensionWidth.getValue()),
+            node.setLayoutDimension(node.getLayout().measuredDimension(YGDimensionWidth.getValue()),
                     YGDimensionWidth.getValue());
-            node.setLayoutDimension(node.getLayout().measuredDimensions.get(YGDimensionHeight.getValue()),
+            node.setLayoutDimension(node.getLayout().measuredDimension(YGDimensionHeight.getValue()),
                     YGDimensionHeight.getValue());
 
             node.setHasNewLayout(true);
             node.setDirty(false);
         }
 
-        layout.generationCount = generationCount;
+        layout.generationCount = pass.generationCount;
 
         LayoutType layoutType;
         if (performLayout) {
@@ -1675,7 +1918,9 @@ public class GlobalMembers {
             layoutType = cachedResults != null ? LayoutType.kCachedMeasure : LayoutType.kMeasure;
         }
         /* Event.NodeLayout */
-        Event.publish(node, new NodeLayoutEventData(layoutType, layoutContext));
+        if (Event.isSubscribed(Event.Type.NodeLayout)) {
+            Event.publish(node, Event.Type.NodeLayout, new NodeLayoutEventData(layoutType, layoutContext));
+        }
 
         return (needToVisitNode || cachedResults == null);
     }
@@ -1698,14 +1943,14 @@ public class GlobalMembers {
         if (node.hasBaselineFunc()) {
 
             /* Event.NodeBaselineStart */
-            Event.publish(node);
+            Event.publish(node, Event.Type.NodeBaselineStart);
 
             final float baseline = node.baseline(
-                    node.getLayout().measuredDimensions.get(YGDimensionWidth.getValue()),
-                    node.getLayout().measuredDimensions.get(YGDimensionHeight.getValue()), layoutContext);
+                    node.getLayout().measuredDimension(YGDimensionWidth.getValue()),
+                    node.getLayout().measuredDimension(YGDimensionHeight.getValue()), layoutContext);
 
             /* Event.NodeBaselineEnd */
-            Event.publish(node);
+            Event.publish(node, Event.Type.NodeBaselineEnd);
 
             YGAssertWithNode(node, !YGFloatIsUndefined(baseline), "Expect custom baseline function to not return NaN");
             return baseline;
@@ -1732,11 +1977,11 @@ public class GlobalMembers {
         }
 
         if (baselineChild == null) {
-            return node.getLayout().measuredDimensions.get(YGDimensionHeight.getValue());
+            return node.getLayout().measuredDimension(YGDimensionHeight.getValue());
         }
 
         final float baseline = YGBaseline(baselineChild, layoutContext);
-        return baseline + baselineChild.getLayout().position.get(YGEdgeTop.getValue());
+        return baseline + baselineChild.getLayout().position(YGEdgeTop.getValue());
     }
 
     public static boolean YGIsBaselineLayout( YGNode node) {
@@ -1760,7 +2005,7 @@ public class GlobalMembers {
     }
 
     public static float YGNodeDimWithMargin( YGNode node, final  YGFlexDirection axis, final float widthSize) {
-        return plus(new YGFloatOptional(node.getLayout().measuredDimensions.get(dim.get(axis.getValue()).getValue())),
+        return plus(new YGFloatOptional(node.getLayout().measuredDimension(dim.get(axis.getValue()).getValue())),
                 plus(node.getLeadingMargin(axis, widthSize), node.getTrailingMargin(axis, widthSize))).unwrap();
     }
 
@@ -1779,7 +2024,7 @@ public class GlobalMembers {
     }
 
     public static boolean YGNodeIsLayoutDimDefined( YGNode node, final  YGFlexDirection axis) {
-        final float value = node.getLayout().measuredDimensions.get(dim.get(axis.getValue()).getValue());
+        final float value = node.getLayout().measuredDimension(dim.get(axis.getValue()).getValue());
         return !YGFloatIsUndefined(value) && value >= 0.0f;
     }
 
@@ -1816,9 +2061,9 @@ public class GlobalMembers {
     }
 
     public static void YGNodeSetChildTrailingPosition( YGNode node,  YGNode child, final  YGFlexDirection axis) {
-        final float size = child.getLayout().measuredDimensions.get(dim.get(axis.getValue()).getValue());
-        child.setLayoutPosition(node.getLayout().measuredDimensions.get(
-                dim.get(axis.getValue()).getValue()) - size - child.getLayout().position.get(
+        final float size = child.getLayout().measuredDimension(dim.get(axis.getValue()).getValue());
+        child.setLayoutPosition(node.getLayout().measuredDimension(
+                dim.get(axis.getValue()).getValue()) - size - child.getLayout().position(
                 pos.get(axis.getValue()).getValue()), trailing.get(axis.getValue()).getValue());
     }
 
@@ -1840,7 +2085,7 @@ public class GlobalMembers {
         }
     }
 
-    public static void YGNodeComputeFlexBasisForChild( YGNode node,  YGNode child, final float width, final YGMeasureMode widthMode, final float height, final float ownerWidth, final float ownerHeight, final YGMeasureMode heightMode, final  YGDirection direction, YGConfig config,  LayoutData layoutMarkerData, final Object layoutContext, final Integer depth, final Integer generationCount) {
+    public static void YGNodeComputeFlexBasisForChild( YGNode node,  YGNode child, final float width, final YGMeasureMode widthMode, final float height, final float ownerWidth, final float ownerHeight, final YGMeasureMode heightMode, final  YGDirection direction, YGConfig config,  YGLayoutPassContext pass, final Object layoutContext, final Integer depth) {
         final YGFlexDirection mainAxis = YGResolveFlexDirection(node.getStyle().flexDirection(), direction);
         final boolean isMainAxisRow = YGFlexDirectionIsRow(mainAxis);
         final float mainAxisSize = isMainAxisRow ? width : height;
@@ -1861,7 +2106,7 @@ public class GlobalMembers {
         if (!resolvedFlexBasis.isUndefined() && !YGFloatIsUndefined(mainAxisSize)) {
             if (child.getConfig() != null && (child.getLayout().computedFlexBasis.isUndefined() || (YGConfigIsExperimentalFeatureEnabled(
                     child.getConfig(),
-                    YGExperimentalFeature.YGExperimentalFeatureWebFlexBasis) && child.getLayout().computedFlexBasisGeneration != generationCount))) {
+                    YGExperimentalFeature.YGExperimentalFeatureWebFlexBasis) && child.getLayout().computedFlexBasisGeneration != pass.generationCount))) {
                 final  YGFloatOptional paddingAndBorder = new YGFloatOptional(
                         YGNodePaddingAndBorderForAxis(child, mainAxis, ownerWidth));
                 child.setLayoutComputedFlexBasis(YGFloatOptionalMax(resolvedFlexBasis, paddingAndBorder));
@@ -1970,16 +2215,16 @@ public class GlobalMembers {
 
             YGLayoutNodeInternal(child, childWidth, childHeight, direction, childWidthMeasureMode,
                     childHeightMeasureMode, ownerWidth, ownerHeight, false, LayoutPassReason.kMeasureChild, config,
-                    layoutMarkerData, layoutContext, depth, generationCount);
+                    pass, layoutContext, depth);
 
             child.setLayoutComputedFlexBasis(new YGFloatOptional(
-                    YGFloatMax(child.getLayout().measuredDimensions.get(dim.get(mainAxis.getValue()).getValue()),
+                    YGFloatMax(child.getLayout().measuredDimension(dim.get(mainAxis.getValue()).getValue()),
                             YGNodePaddingAndBorderForAxis(child, mainAxis, ownerWidth))));
         }
-        child.setLayoutComputedFlexBasisGeneration(generationCount);
+        child.setLayoutComputedFlexBasisGeneration(pass.generationCount);
     }
 
-    public static void YGNodeAbsoluteLayoutChild( YGNode node,  YGNode child, final float width, final YGMeasureMode widthMode, final float height, final  YGDirection direction, YGConfig config,  LayoutData layoutMarkerData, final Object layoutContext, final Integer depth, final Integer generationCount) {
+    public static void YGNodeAbsoluteLayoutChild( YGNode node,  YGNode child, final float width, final YGMeasureMode widthMode, final float height, final  YGDirection direction, YGConfig config,  YGLayoutPassContext pass, final Object layoutContext, final Integer depth) {
         final YGFlexDirection mainAxis = YGResolveFlexDirection(node.getStyle().flexDirection(), direction);
         final  YGFlexDirection crossAxis = YGFlexDirectionCross(mainAxis, direction);
         final boolean isMainAxisRow = YGFlexDirectionIsRow(mainAxis);
@@ -2000,7 +2245,7 @@ public class GlobalMembers {
 
             if (child.isLeadingPositionDefined(YGFlexDirectionRow) && child.isTrailingPosDefined(
                     YGFlexDirectionRow)) {
-                childWidth = node.getLayout().measuredDimensions.get(
+                childWidth = node.getLayout().measuredDimension(
                         YGDimensionWidth.getValue()) - (node.getLeadingBorder(
                         YGFlexDirectionRow) + node.getTrailingBorder(
                         YGFlexDirectionRow)) - (child.getLeadingPosition(
@@ -2018,7 +2263,7 @@ public class GlobalMembers {
 
             if (child.isLeadingPositionDefined(YGFlexDirectionColumn) && child.isTrailingPosDefined(
                     YGFlexDirectionColumn)) {
-                childHeight = node.getLayout().measuredDimensions.get(
+                childHeight = node.getLayout().measuredDimension(
                         YGDimensionHeight.getValue()) - (node.getLeadingBorder(
                         YGFlexDirectionColumn) + node.getTrailingBorder(
                         YGFlexDirectionColumn)) - (child.getLeadingPosition(
@@ -2057,58 +2302,58 @@ public class GlobalMembers {
 
             YGLayoutNodeInternal(child, childWidth, childHeight, direction, childWidthMeasureMode,
                     childHeightMeasureMode, childWidth, childHeight, false, LayoutPassReason.kAbsMeasureChild, config,
-                    layoutMarkerData, layoutContext, depth, generationCount);
-            childWidth = child.getLayout().measuredDimensions.get(
+                    pass, layoutContext, depth);
+            childWidth = child.getLayout().measuredDimension(
                     YGDimensionWidth.getValue()) + child.getMarginForAxis(
                     YGFlexDirectionRow, width).unwrap();
-            childHeight = child.getLayout().measuredDimensions.get(
+            childHeight = child.getLayout().measuredDimension(
                     YGDimensionHeight.getValue()) + child.getMarginForAxis(
                     YGFlexDirectionColumn, width).unwrap();
         }
 
         YGLayoutNodeInternal(child, childWidth, childHeight, direction, YGMeasureModeExactly,
                 YGMeasureModeExactly, childWidth, childHeight, true, LayoutPassReason.kAbsLayout, config,
-                layoutMarkerData, layoutContext, depth, generationCount);
+                pass, layoutContext, depth);
 
         if (child.isTrailingPosDefined(mainAxis) && !child.isLeadingPositionDefined(mainAxis)) {
-            child.setLayoutPosition(node.getLayout().measuredDimensions.get(
-                    dim.get(mainAxis.getValue()).getValue()) - child.getLayout().measuredDimensions.get(
+            child.setLayoutPosition(node.getLayout().measuredDimension(
+                    dim.get(mainAxis.getValue()).getValue()) - child.getLayout().measuredDimension(
                     dim.get(mainAxis.getValue()).getValue()) - node.getTrailingBorder(
                     mainAxis) - child.getTrailingMargin(mainAxis, width).unwrap() - child.getTrailingPosition(mainAxis,
                     isMainAxisRow ? width : height).unwrap(), leading.get(mainAxis.getValue()).getValue());
         } else if (!child.isLeadingPositionDefined(mainAxis) && node.getStyle()
                 .justifyContent() == YGJustify.YGJustifyCenter) {
-            child.setLayoutPosition((node.getLayout().measuredDimensions.get(
-                    dim.get(mainAxis.getValue()).getValue()) - child.getLayout().measuredDimensions.get(
+            child.setLayoutPosition((node.getLayout().measuredDimension(
+                    dim.get(mainAxis.getValue()).getValue()) - child.getLayout().measuredDimension(
                     dim.get(mainAxis.getValue()).getValue())) / 2.0f, leading.get(mainAxis.getValue()).getValue());
         } else if (!child.isLeadingPositionDefined(mainAxis) && node.getStyle()
                 .justifyContent() == YGJustify.YGJustifyFlexEnd) {
-            child.setLayoutPosition((node.getLayout().measuredDimensions.get(
-                    dim.get(mainAxis.getValue()).getValue()) - child.getLayout().measuredDimensions.get(
+            child.setLayoutPosition((node.getLayout().measuredDimension(
+                    dim.get(mainAxis.getValue()).getValue()) - child.getLayout().measuredDimension(
                     dim.get(mainAxis.getValue()).getValue())), leading.get(mainAxis.getValue()).getValue());
         }
 
         if (child.isTrailingPosDefined(crossAxis) && !child.isLeadingPositionDefined(crossAxis)) {
-            child.setLayoutPosition(node.getLayout().measuredDimensions.get(
-                    dim.get(crossAxis.getValue()).getValue()) - child.getLayout().measuredDimensions.get(
+            child.setLayoutPosition(node.getLayout().measuredDimension(
+                    dim.get(crossAxis.getValue()).getValue()) - child.getLayout().measuredDimension(
                     dim.get(crossAxis.getValue()).getValue()) - node.getTrailingBorder(
                     crossAxis) - child.getTrailingMargin(crossAxis, width).unwrap() - child.getTrailingPosition(
                     crossAxis, isMainAxisRow ? height : width).unwrap(), leading.get(crossAxis.getValue()).getValue());
 
         } else if (!child.isLeadingPositionDefined(crossAxis) && YGNodeAlignItem(node,
                 child) == YGAlignCenter) {
-            child.setLayoutPosition((node.getLayout().measuredDimensions.get(
-                    dim.get(crossAxis.getValue()).getValue()) - child.getLayout().measuredDimensions.get(
+            child.setLayoutPosition((node.getLayout().measuredDimension(
+                    dim.get(crossAxis.getValue()).getValue()) - child.getLayout().measuredDimension(
                     dim.get(crossAxis.getValue()).getValue())) / 2.0f, leading.get(crossAxis.getValue()).getValue());
         } else if (!child.isLeadingPositionDefined(crossAxis) && ((YGNodeAlignItem(node,
                 child) == YGAlign.YGAlignFlexEnd) ^ (node.getStyle().flexWrap() == YGWrapWrapReverse))) {
-            child.setLayoutPosition((node.getLayout().measuredDimensions.get(
-                    dim.get(crossAxis.getValue()).getValue()) - child.getLayout().measuredDimensions.get(
+            child.setLayoutPosition((node.getLayout().measuredDimension(
+                    dim.get(crossAxis.getValue()).getValue()) - child.getLayout().measuredDimension(
                     dim.get(crossAxis.getValue()).getValue())), leading.get(crossAxis.getValue()).getValue());
         }
     }
 
-    public static void YGNodeWithMeasureFuncSetMeasuredDimensions( YGNode node, float availableWidth, float availableHeight, final YGMeasureMode widthMeasureMode, final YGMeasureMode heightMeasureMode, final float ownerWidth, final float ownerHeight,  LayoutData layoutMarkerData, final Object layoutContext, final  LayoutPassReason reason) {
+    public static void YGNodeWithMeasureFuncSetMeasuredDimensions( YGNode node, float availableWidth, float availableHeight, final YGMeasureMode widthMeasureMode, final YGMeasureMode heightMeasureMode, final float ownerWidth, final float ownerHeight,  YGLayoutPassContext pass, final Object layoutContext, final  LayoutPassReason reason) {
         YGAssertWithNode(node, node.hasMeasureFunc(), "Expected node to have custom measure function");
 
         if (widthMeasureMode == YGMeasureModeUndefined) {
@@ -2118,13 +2363,12 @@ public class GlobalMembers {
             availableHeight = YGUndefined;
         }
 
-        final  ArrayList<Float> padding = node.getLayout().padding;
-        final  ArrayList<Float> border = node.getLayout().border;
-        final float paddingAndBorderAxisRow = padding.get(YGEdgeLeft.getValue()) + padding.get(
-                YGEdgeRight.getValue()) + border.get(YGEdgeLeft.getValue()) + border.get(
+        final YGLayout layout = node.getLayout();
+        final float paddingAndBorderAxisRow = layout.padding(YGEdgeLeft.getValue()) + layout.padding(
+                YGEdgeRight.getValue()) + layout.border(YGEdgeLeft.getValue()) + layout.border(
                 YGEdgeRight.getValue());
-        final float paddingAndBorderAxisColumn = padding.get(YGEdgeTop.getValue()) + padding.get(
-                YGEdgeBottom.getValue()) + border.get(YGEdgeTop.getValue()) + border.get(
+        final float paddingAndBorderAxisColumn = layout.padding(YGEdgeTop.getValue()) + layout.padding(
+                YGEdgeBottom.getValue()) + layout.border(YGEdgeTop.getValue()) + layout.border(
                 YGEdgeBottom.getValue());
 
 
@@ -2142,20 +2386,48 @@ public class GlobalMembers {
                     YGNodeBoundAxis(node, YGFlexDirectionColumn, availableHeight, ownerHeight,
                             ownerWidth), YGDimensionHeight.getValue());
         } else {
-            /* Event.MeasureCallbackStart */
-            Event.publish(node);
+            final YGSharedMeasureCache sharedCache = node.getConfig().sharedMeasureCache;
+            final YGMeasureKeyFunc keyFunc = node.getMeasure().key;
+            final Object measureKey = sharedCache != null && keyFunc != null ? keyFunc.invoke(node) : null;
+
+            final YGMeasureBatch batch = pass.measureBatch;
+
+            YGSize measuredSize = measureKey != null ? sharedCache.get(measureKey, innerWidth, widthMeasureMode,
+                    innerHeight, heightMeasureMode) : null;
+            if (measuredSize != null) {
+                pass.layoutData.sharedMeasureCacheHits += 1;
+            } else if (batch != null && (measuredSize = batch.lookup(node, innerWidth, widthMeasureMode, innerHeight,
+                    heightMeasureMode)) != null) {
+                if (measureKey != null && !batch.isCollecting()) {
+                    sharedCache.put(measureKey, innerWidth, widthMeasureMode, innerHeight, heightMeasureMode,
+                            measuredSize);
+                }
+            } else if (batch != null && batch.isCollecting()) {
+                batch.request(node, innerWidth, widthMeasureMode, innerHeight, heightMeasureMode, layoutContext);
+                measuredSize = new YGSize(0, 0);
+            } else {
+                /* Event.MeasureCallbackStart */
+                Event.publish(node, Event.Type.MeasureCallbackStart);
 
+                measuredSize = node.measure(innerWidth, widthMeasureMode, innerHeight, heightMeasureMode,
+                        layoutContext);
 
-            final YGSize measuredSize = node.measure(innerWidth, widthMeasureMode, innerHeight, heightMeasureMode,
-                    layoutContext);
+                pass.layoutData.measureCallbacks += 1;
+                pass.layoutData.measureCallbackReasonsCount.set(reason.getValue(),
+                        pass.layoutData.measureCallbackReasonsCount.get(reason.getValue()) + 1);
 
-            layoutMarkerData.measureCallbacks += 1;
-            layoutMarkerData.measureCallbackReasonsCount.set(reason.getValue(), 1);
+                /* Event.MeasureCallbackEnd */
+                if (Event.isSubscribed(Event.Type.MeasureCallbackEnd)) {
+                    Event.publish(node, Event.Type.MeasureCallbackEnd,
+                            new MeasureCallbackEndEventData(layoutContext, innerWidth, widthMeasureMode, innerHeight,
+                                    heightMeasureMode, measuredSize.width, measuredSize.height, reason));
+                }
 
-            /* Event.MeasureCallbackEnd */
-            Event.publish(node,
-                    new MeasureCallbackEndEventData(layoutContext, innerWidth, widthMeasureMode, innerHeight,
-                            heightMeasureMode, measuredSize.width, measuredSize.height, reason));
+                if (measureKey != null) {
+                    sharedCache.put(measureKey, innerWidth, widthMeasureMode, innerHeight, heightMeasureMode,
+                            measuredSize);
+                }
+            }
 
             node.setLayoutMeasuredDimension(YGNodeBoundAxis(node, YGFlexDirectionRow,
                     (widthMeasureMode == YGMeasureModeUndefined || widthMeasureMode == YGMeasureModeAtMost) ? measuredSize.width + paddingAndBorderAxisRow : availableWidth,
@@ -2168,13 +2440,12 @@ public class GlobalMembers {
     }
 
     public static void YGNodeEmptyContainerSetMeasuredDimensions( YGNode node, final float availableWidth, final float availableHeight, final YGMeasureMode widthMeasureMode, final YGMeasureMode heightMeasureMode, final float ownerWidth, final float ownerHeight) {
-        final  ArrayList<Float> padding = node.getLayout().padding;
-        final  ArrayList<Float> border = node.getLayout().border;
+        final YGLayout layout = node.getLayout();
 
         float width = availableWidth;
         if (widthMeasureMode == YGMeasureModeUndefined || widthMeasureMode == YGMeasureModeAtMost) {
-            width = padding.get(YGEdgeLeft.getValue()) + padding.get(YGEdgeRight.getValue()) + border.get(
-                    YGEdgeLeft.getValue()) + border.get(YGEdgeRight.getValue());
+            width = layout.padding(YGEdgeLeft.getValue()) + layout.padding(YGEdgeRight.getValue()) + layout.border(
+                    YGEdgeLeft.getValue()) + layout.border(YGEdgeRight.getValue());
         }
         node.setLayoutMeasuredDimension(
                 YGNodeBoundAxis(node, YGFlexDirectionRow, width, ownerWidth, ownerWidth),
@@ -2182,8 +2453,8 @@ public class GlobalMembers {
 
         float height = availableHeight;
         if (heightMeasureMode == YGMeasureModeUndefined || heightMeasureMode == YGMeasureModeAtMost) {
-            height = padding.get(YGEdgeTop.getValue()) + padding.get(
-                    YGEdgeBottom.getValue()) + border.get(YGEdgeTop.getValue()) + border.get(
+            height = layout.padding(YGEdgeTop.getValue()) + layout.padding(
+                    YGEdgeBottom.getValue()) + layout.border(YGEdgeTop.getValue()) + layout.border(
                     YGEdgeBottom.getValue());
         }
         node.setLayoutMeasuredDimension(
@@ -2240,7 +2511,7 @@ public class GlobalMembers {
         return availableInnerDim;
     }
 
-    public static float YGNodeComputeFlexBasisForChildren( YGNode node, final float availableInnerWidth, final float availableInnerHeight, YGMeasureMode widthMeasureMode, YGMeasureMode heightMeasureMode,  YGDirection direction,  YGFlexDirection mainAxis, YGConfig config, boolean performLayout,  LayoutData layoutMarkerData, final Object layoutContext, final Integer depth, final Integer generationCount) {
+    public static float YGNodeComputeFlexBasisForChildren( YGNode node, final float availableInnerWidth, final float availableInnerHeight, YGMeasureMode widthMeasureMode, YGMeasureMode heightMeasureMode,  YGDirection direction,  YGFlexDirection mainAxis, YGConfig config, boolean performLayout,  YGLayoutPassContext pass, final Object layoutContext, final Integer depth) {
         float totalOuterFlexBasis = 0.0f;
          YGNode singleFlexChild = null;
         ArrayList<YGNode> children = node.getChildren();
@@ -2283,12 +2554,12 @@ public class GlobalMembers {
                 continue;
             }
             if (child == singleFlexChild) {
-                child.setLayoutComputedFlexBasisGeneration(generationCount);
+                child.setLayoutComputedFlexBasisGeneration(pass.generationCount);
                 child.setLayoutComputedFlexBasis(new YGFloatOptional(0));
             } else {
                 YGNodeComputeFlexBasisForChild(node, child, availableInnerWidth, widthMeasureMode, availableInnerHeight,
                         availableInnerWidth, availableInnerHeight, heightMeasureMode, direction, config,
-                        layoutMarkerData, layoutContext, depth, generationCount);
+                        pass, layoutContext, depth);
             }
 
             totalOuterFlexBasis += (child.getLayout().computedFlexBasis.unwrap() + child.getMarginForAxis(mainAxis,
@@ -2299,7 +2570,11 @@ public class GlobalMembers {
     }
 
     public static  YGCollectFlexItemsRowValues YGCalculateCollectFlexItemsRowValues( YGNode node, final  YGDirection ownerDirection, final float mainAxisownerSize, final float availableInnerWidth, final float availableInnerMainDim, final Integer startOfLineIndex, final Integer lineCount) {
-         YGCollectFlexItemsRowValues flexAlgoRowMeasurement = new YGCollectFlexItemsRowValues();
+        return YGCalculateCollectFlexItemsRowValues(new YGCollectFlexItemsRowValues(), node, ownerDirection,
+                mainAxisownerSize, availableInnerWidth, availableInnerMainDim, startOfLineIndex, lineCount);
+    }
+
+    public static  YGCollectFlexItemsRowValues YGCalculateCollectFlexItemsRowValues( YGCollectFlexItemsRowValues flexAlgoRowMeasurement,  YGNode node, final  YGDirection ownerDirection, final float mainAxisownerSize, final float availableInnerWidth, final float availableInnerMainDim, final Integer startOfLineIndex, final Integer lineCount) {
         flexAlgoRowMeasurement.relativeChildren.ensureCapacity(node.getChildren().size());
 
         float sizeConsumedOnCurrentLineIncludingMinConstraint = 0F;
@@ -2352,13 +2627,15 @@ public class GlobalMembers {
         return flexAlgoRowMeasurement;
     }
 
-    public static float YGDistributeFreeSpaceSecondPass( YGCollectFlexItemsRowValues collectedFlexItemsValues,  YGNode node, final  YGFlexDirection mainAxis, final  YGFlexDirection crossAxis, final float mainAxisownerSize, final float availableInnerMainDim, final float availableInnerCrossDim, final float availableInnerWidth, final float availableInnerHeight, final boolean flexBasisOverflows, final YGMeasureMode measureModeCrossDim, final boolean performLayout, YGConfig config,  LayoutData layoutMarkerData, final Object layoutContext, final Integer depth, final Integer generationCount) {
+    public static float YGDistributeFreeSpaceSecondPass( YGCollectFlexItemsRowValues collectedFlexItemsValues,  YGNode node, final  YGFlexDirection mainAxis, final  YGFlexDirection crossAxis, final float mainAxisownerSize, final float availableInnerMainDim, final float availableInnerCrossDim, final float availableInnerWidth, final float availableInnerHeight, final boolean flexBasisOverflows, final YGMeasureMode measureModeCrossDim, final boolean performLayout, YGConfig config,  YGLayoutPassContext pass, final Object layoutContext, final Integer depth) {
         float childFlexBasis;
         float flexShrinkScaledFactor;
         float flexGrowFactor;
         float deltaFreeSpace = 0F;
         final boolean isMainAxisRow = YGFlexDirectionIsRow(mainAxis);
         final boolean isNodeFlexWrap = node.getStyle().flexWrap() != YGWrapNoWrap;
+        final boolean canForkSubtrees = performLayout && YGCanForkSubtrees(node, config, pass);
+        ArrayList<YGSubtreeLayoutTask> forkedSubtrees = null;
 
         for (YGNode currentRelativeChild : collectedFlexItemsValues.relativeChildren) {
             childFlexBasis = YGNodeBoundAxisWithinMinAndMax(currentRelativeChild, mainAxis,
@@ -2453,17 +2730,51 @@ public class GlobalMembers {
 
             final boolean isLayoutPass = performLayout && !requiresStretchLayout;
 
+            if (canForkSubtrees && isLayoutPass && YGShouldForkSubtree(currentRelativeChild, childWidthMeasureMode,
+                    childHeightMeasureMode, config)) {
+                if (forkedSubtrees == null) {
+                    forkedSubtrees = new ArrayList<>();
+                }
+                forkedSubtrees.add(
+                        new YGSubtreeLayoutTask(currentRelativeChild, childWidth.argValue, childHeight.argValue,
+                                node.getLayout().direction(), availableInnerWidth, availableInnerHeight,
+                                LayoutPassReason.kFlexLayout, config, pass.fork(), layoutContext, depth));
+                continue;
+            }
 
             YGLayoutNodeInternal(currentRelativeChild, childWidth.argValue, childHeight.argValue,
                     node.getLayout().direction(),
                     childWidthMeasureMode, childHeightMeasureMode, availableInnerWidth, availableInnerHeight,
                     isLayoutPass, isLayoutPass ? LayoutPassReason.kFlexLayout : LayoutPassReason.kFlexMeasure, config,
-                    layoutMarkerData, layoutContext, depth, generationCount);
+                    pass, layoutContext, depth);
             node.setLayoutHadOverflow(node.getLayout().hadOverflow() | currentRelativeChild.getLayout().hadOverflow());
         }
+
+        if (forkedSubtrees != null) {
+            YGSubtreeLayoutTask.invokeAll(config.parallelLayoutExecutor, forkedSubtrees);
+            for (YGSubtreeLayoutTask forked : forkedSubtrees) {
+                pass.layoutData.merge(forked.pass.layoutData);
+                node.setLayoutHadOverflow(node.getLayout().hadOverflow() | forked.getChild().getLayout().hadOverflow());
+            }
+        }
         return deltaFreeSpace;
     }
 
+    /**
+     * Whether exact-size child subtrees of {@code node} may be laid out on
+     * {@link YGConfig#parallelLayoutExecutor}. Baseline layouts are excluded because the owner reads its children's
+     * baselines while positioning them.
+     */
+    public static boolean YGCanForkSubtrees( YGNode node, YGConfig config, YGLayoutPassContext pass) {
+        return (pass.measureBatch == null || !pass.measureBatch.isCollecting()) && config.parallelLayoutExecutor != null && YGConfigIsExperimentalFeatureEnabled(config,
+                YGExperimentalFeature.YGExperimentalFeatureParallelSubtreeLayout) && !YGIsBaselineLayout(node);
+    }
+
+    public static boolean YGShouldForkSubtree( YGNode child, final YGMeasureMode widthMeasureMode, final YGMeasureMode heightMeasureMode, YGConfig config) {
+        return widthMeasureMode == YGMeasureModeExactly && heightMeasureMode == YGMeasureModeExactly && YGSubtreeLayoutTask.isSubtreeAtLeast(
+                child, config.parallelLayoutThreshold);
+    }
+
     public static void YGDistributeFreeSpaceFirstPass( YGCollectFlexItemsRowValues collectedFlexItemsValues, final  YGFlexDirection mainAxis, final float mainAxisownerSize, final float availableInnerMainDim, final float availableInnerWidth) {
         float flexShrinkScaledFactor;
         float flexGrowFactor;
@@ -2514,7 +2825,7 @@ public class GlobalMembers {
         collectedFlexItemsValues.remainingFreeSpace -= deltaFreeSpace;
     }
 
-    public static void YGResolveFlexibleLength( YGNode node,  YGCollectFlexItemsRowValues collectedFlexItemsValues, final  YGFlexDirection mainAxis, final  YGFlexDirection crossAxis, final float mainAxisownerSize, final float availableInnerMainDim, final float availableInnerCrossDim, final float availableInnerWidth, final float availableInnerHeight, final boolean flexBasisOverflows, final YGMeasureMode measureModeCrossDim, final boolean performLayout, YGConfig config,  LayoutData layoutMarkerData, final Object layoutContext, final Integer depth, final Integer generationCount) {
+    public static void YGResolveFlexibleLength( YGNode node,  YGCollectFlexItemsRowValues collectedFlexItemsValues, final  YGFlexDirection mainAxis, final  YGFlexDirection crossAxis, final float mainAxisownerSize, final float availableInnerMainDim, final float availableInnerCrossDim, final float availableInnerWidth, final float availableInnerHeight, final boolean flexBasisOverflows, final YGMeasureMode measureModeCrossDim, final boolean performLayout, YGConfig config,  YGLayoutPassContext pass, final Object layoutContext, final Integer depth) {
         final float originalFreeSpace = collectedFlexItemsValues.remainingFreeSpace;
 
         YGDistributeFreeSpaceFirstPass(collectedFlexItemsValues, mainAxis, mainAxisownerSize, availableInnerMainDim,
@@ -2523,8 +2834,8 @@ public class GlobalMembers {
 
         final float distributedFreeSpace = YGDistributeFreeSpaceSecondPass(collectedFlexItemsValues, node, mainAxis,
                 crossAxis, mainAxisownerSize, availableInnerMainDim, availableInnerCrossDim, availableInnerWidth,
-                availableInnerHeight, flexBasisOverflows, measureModeCrossDim, performLayout, config, layoutMarkerData,
-                layoutContext, depth, generationCount);
+                availableInnerHeight, flexBasisOverflows, measureModeCrossDim, performLayout, config, pass,
+                layoutContext, depth);
 
         collectedFlexItemsValues.remainingFreeSpace = originalFreeSpace - distributedFreeSpace;
     }
@@ -2635,7 +2946,7 @@ public class GlobalMembers {
 
                     if (performLayout) {
                         child.setLayoutPosition(
-                                childLayout.position.get(
+                                childLayout.position(
                                         pos.get(mainAxis.getValue()).getValue()) + collectedFlexItemsValues.mainDim,
                                 pos.get(mainAxis.getValue()).getValue());
                     }
@@ -2661,7 +2972,7 @@ public class GlobalMembers {
 
                             final float ascent = YGBaseline(child, layoutContext) + child.getLeadingMargin(
                                     YGFlexDirectionColumn, availableInnerWidth).unwrap();
-                            final float descent = child.getLayout().measuredDimensions.get(
+                            final float descent = child.getLayout().measuredDimension(
                                     YGDimensionHeight.getValue()) + child.getMarginForAxis(
                                     YGFlexDirectionColumn, availableInnerWidth).unwrap() - ascent;
 
@@ -2676,7 +2987,7 @@ public class GlobalMembers {
                     }
                 } else if (performLayout) {
                     child.setLayoutPosition(
-                            childLayout.position.get(pos.get(mainAxis.getValue()).getValue()) + node.getLeadingBorder(
+                            childLayout.position(pos.get(mainAxis.getValue()).getValue()) + node.getLeadingBorder(
                                     mainAxis) + leadingMainDim, pos.get(mainAxis.getValue()).getValue());
                 }
             }
@@ -2753,14 +3064,15 @@ public class GlobalMembers {
 //    passes an available size of undefined then it must also pass a measure
 //    mode of YGMeasureModeUndefined in that dimension.
 //
-    private static void YGNodelayoutImpl(final YGNode node, final float availableWidth, final float availableHeight, final YGDirection ownerDirection, final YGMeasureMode widthMeasureMode, final YGMeasureMode heightMeasureMode, final float ownerWidth, final float ownerHeight, final boolean performLayout, final YGConfig config, LayoutData layoutMarkerData, final Object layoutContext, final int depth, final int generationCount, final LayoutPassReason reason) {
+    private static void YGNodelayoutImpl(final YGNode node, final float availableWidth, final float availableHeight, final YGDirection ownerDirection, final YGMeasureMode widthMeasureMode, final YGMeasureMode heightMeasureMode, final float ownerWidth, final float ownerHeight, final boolean performLayout, final YGConfig config, YGLayoutPassContext pass, final Object layoutContext, final int depth, final LayoutPassReason reason) {
         YGAssertWithNode(node, !YGFloatIsUndefined(availableWidth) || widthMeasureMode == YGMeasureModeUndefined,
                 "availableWidth is indefinite so widthMeasureMode must be " + "YGMeasureModeUndefined");
         YGAssertWithNode(node, !YGFloatIsUndefined(availableHeight) || heightMeasureMode == YGMeasureModeUndefined,
                 "availableHeight is indefinite so heightMeasureMode must be " + "YGMeasureModeUndefined");
 
-        if (performLayout) layoutMarkerData.layouts += 1;
-        else layoutMarkerData.measures += 1;
+        if (performLayout) pass.layoutData.layouts += 1;
+        else pass.layoutData.measures += 1;
+        pass.preserveLayout(node);
 
         // Set the resolved resolution in the node's layout.
         final YGDirection direction = node.resolveDirection(ownerDirection);
@@ -2798,7 +3110,7 @@ public class GlobalMembers {
         if (node.hasMeasureFunc()) {
             YGNodeWithMeasureFuncSetMeasuredDimensions(node, availableWidth - marginAxisRow,
                     availableHeight - marginAxisColumn, widthMeasureMode, heightMeasureMode, ownerWidth, ownerHeight,
-                    layoutMarkerData, layoutContext, reason);
+                    pass, layoutContext, reason);
             return;
         }
 
@@ -2855,8 +3167,8 @@ public class GlobalMembers {
         // STEP 3: DETERMINE FLEX BASIS FOR EACH ITEM
 
         float totalOuterFlexBasis = YGNodeComputeFlexBasisForChildren(node, availableInnerWidth, availableInnerHeight,
-                widthMeasureMode, heightMeasureMode, direction, mainAxis, config, performLayout, layoutMarkerData,
-                layoutContext, depth, generationCount);
+                widthMeasureMode, heightMeasureMode, direction, mainAxis, config, performLayout, pass,
+                layoutContext, depth);
 
         final boolean flexBasisOverflows = measureModeMainDim != YGMeasureModeUndefined && totalOuterFlexBasis > availableInnerMainDim;
         if (isNodeFlexWrap && flexBasisOverflows && measureModeMainDim == YGMeasureModeAtMost) {
@@ -2876,9 +3188,10 @@ public class GlobalMembers {
 
         // Max main dimension of all the lines.
         float maxLineMainDim = 0F;
-        YGCollectFlexItemsRowValues collectedFlexItemsValues = new YGCollectFlexItemsRowValues();
+        final YGCollectFlexItemsRowValues collectedFlexItemsValues = pass.flexItemsRowValues(depth);
         for (; endOfLineIndex < childCount; lineCount++, startOfLineIndex = endOfLineIndex) {
-            collectedFlexItemsValues = YGCalculateCollectFlexItemsRowValues(node, ownerDirection, mainAxisownerSize,
+            collectedFlexItemsValues.reset();
+            YGCalculateCollectFlexItemsRowValues(collectedFlexItemsValues, node, ownerDirection, mainAxisownerSize,
                     availableInnerWidth, availableInnerMainDim, startOfLineIndex, lineCount);
             endOfLineIndex = collectedFlexItemsValues.endOfLineIndex;
 
@@ -2945,8 +3258,8 @@ public class GlobalMembers {
             if (!canSkipFlex) {
                 YGResolveFlexibleLength(node, collectedFlexItemsValues, mainAxis, crossAxis, mainAxisownerSize,
                         availableInnerMainDim, availableInnerCrossDim, availableInnerWidth, availableInnerHeight,
-                        flexBasisOverflows, measureModeCrossDim, performLayout, config, layoutMarkerData, layoutContext,
-                        depth, generationCount);
+                        flexBasisOverflows, measureModeCrossDim, performLayout, config, pass, layoutContext,
+                        depth);
             }
 
             node.setLayoutHadOverflow(
@@ -2984,6 +3297,8 @@ public class GlobalMembers {
             // STEP 7: CROSS-AXIS ALIGNMENT
             // We can skip child alignment if we're just measuring the container.
             if (performLayout) {
+                final boolean canForkSubtrees = YGCanForkSubtrees(node, config, pass);
+                ArrayList<YGSubtreeLayoutTask> stretchedSubtrees = null;
                 for (int i = startOfLineIndex; i < endOfLineIndex; i++) {
                     final YGNode child = node.getChild(i);
                     if (child.getStyle().display() == YGDisplayNone) {
@@ -3002,7 +3317,7 @@ public class GlobalMembers {
                         }
                         // If leading position is not defined or calculations result in Nan,
                         // default to border + margin
-                        if (!isChildLeadingPosDefined || YGFloatIsUndefined(child.getLayout().position.get(pos.get(
+                        if (!isChildLeadingPosDefined || YGFloatIsUndefined(child.getLayout().position(pos.get(
                                 crossAxis.getValue()).getValue()))) {
                             child.setLayoutPosition(node.getLeadingBorder(crossAxis) + child.getLeadingMargin(crossAxis,
                                     availableInnerWidth).unwrap(), pos.get(
@@ -3026,7 +3341,7 @@ public class GlobalMembers {
                             // no need to stretch.
                             if (!YGNodeIsStyleDimDefined(child, crossAxis, availableInnerCrossDim)) {
                                 RefObject<Float> childMainSize = new RefObject<>(
-                                        child.getLayout().measuredDimensions.get(
+                                        child.getLayout().measuredDimension(
                                                 dim.get(mainAxis.getValue()).getValue()));
                                 final YGStyle childStyle = child.getStyle();
                                 RefObject<Float> childCrossSize = new RefObject<>(
@@ -3054,10 +3369,20 @@ public class GlobalMembers {
                                 final YGMeasureMode childHeightMeasureMode = YGFloatIsUndefined(
                                         childHeight) || (isMainAxisRow && crossAxisDoesNotGrow) ? YGMeasureModeUndefined : YGMeasureModeExactly;
 
-                                YGLayoutNodeInternal(child, childWidth, childHeight, direction, childWidthMeasureMode,
-                                        childHeightMeasureMode, availableInnerWidth, availableInnerHeight, true,
-                                        LayoutPassReason.kStretch, config, layoutMarkerData, layoutContext, depth,
-                                        generationCount);
+                                if (canForkSubtrees && YGShouldForkSubtree(child, childWidthMeasureMode,
+                                        childHeightMeasureMode, config)) {
+                                    if (stretchedSubtrees == null) {
+                                        stretchedSubtrees = new ArrayList<>();
+                                    }
+                                    stretchedSubtrees.add(new YGSubtreeLayoutTask(child, childWidth, childHeight,
+                                            direction, availableInnerWidth, availableInnerHeight,
+                                            LayoutPassReason.kStretch, config, pass.fork(), layoutContext, depth));
+                                } else {
+                                    YGLayoutNodeInternal(child, childWidth, childHeight, direction,
+                                            childWidthMeasureMode, childHeightMeasureMode, availableInnerWidth,
+                                            availableInnerHeight, true, LayoutPassReason.kStretch, config, pass,
+                                            layoutContext, depth);
+                                }
                             }
                         } else {
                             final float remainingCrossDim = containerCrossAxis - YGNodeDimWithMargin(child, crossAxis,
@@ -3080,12 +3405,19 @@ public class GlobalMembers {
                         }
                         // And we apply the position
                         child.setLayoutPosition(
-                                child.getLayout().position.get(
+                                child.getLayout().position(
                                         pos.get(crossAxis.getValue()).getValue()) + totalLineCrossDim + leadingCrossDim,
                                 pos.get(
                                         crossAxis.getValue()).getValue());
                     }
                 }
+
+                if (stretchedSubtrees != null) {
+                    YGSubtreeLayoutTask.invokeAll(config.parallelLayoutExecutor, stretchedSubtrees);
+                    for (YGSubtreeLayoutTask stretched : stretchedSubtrees) {
+                        pass.layoutData.merge(stretched.pass.layoutData);
+                    }
+                }
             }
 
             totalLineCrossDim += collectedFlexItemsValues.crossDim;
@@ -3151,14 +3483,14 @@ public class GlobalMembers {
                             break;
                         }
                         if (YGNodeIsLayoutDimDefined(child, crossAxis)) {
-                            lineHeight = YGFloatMax(lineHeight, child.getLayout().measuredDimensions.get(dim.get(
+                            lineHeight = YGFloatMax(lineHeight, child.getLayout().measuredDimension(dim.get(
                                     crossAxis.getValue()).getValue()) + child.getMarginForAxis(crossAxis,
                                     availableInnerWidth).unwrap());
                         }
                         if (YGNodeAlignItem(node, child) == YGAlignBaseline) {
                             final float ascent = YGBaseline(child, layoutContext) + child.getLeadingMargin(
                                     YGFlexDirectionColumn, availableInnerWidth).unwrap();
-                            final float descent = child.getLayout().measuredDimensions.get(
+                            final float descent = child.getLayout().measuredDimension(
                                     YGDimensionHeight.getValue()) + child.getMarginForAxis(YGFlexDirectionColumn,
                                     availableInnerWidth).unwrap() - ascent;
                             maxAscentForCurrentLine = YGFloatMax(maxAscentForCurrentLine, ascent);
@@ -3189,14 +3521,14 @@ public class GlobalMembers {
                                     child.setLayoutPosition(
                                             currentLead + lineHeight - child.getTrailingMargin(crossAxis,
                                                             availableInnerWidth)
-                                                    .unwrap() - child.getLayout().measuredDimensions.get(
+                                                    .unwrap() - child.getLayout().measuredDimension(
                                                     dim.get(
                                                             crossAxis.getValue()).getValue()),
                                             pos.get(crossAxis.getValue()).getValue());
                                     break;
                                 }
                                 case YGAlignCenter: {
-                                    float childHeight = child.getLayout().measuredDimensions.get(dim.get(
+                                    float childHeight = child.getLayout().measuredDimension(dim.get(
                                             crossAxis.getValue()).getValue());
 
                                     child.setLayoutPosition(currentLead + (lineHeight - childHeight) / 2, pos.get(
@@ -3212,23 +3544,23 @@ public class GlobalMembers {
                                     // Remeasure child with the line height as it as been only
                                     // measured with the owners height yet.
                                     if (!YGNodeIsStyleDimDefined(child, crossAxis, availableInnerCrossDim)) {
-                                        final float childWidth = isMainAxisRow ? (child.getLayout().measuredDimensions.get(
+                                        final float childWidth = isMainAxisRow ? (child.getLayout().measuredDimension(
                                                 YGDimensionWidth.getValue()) + child.getMarginForAxis(mainAxis,
                                                 availableInnerWidth).unwrap()) : lineHeight;
 
-                                        final float childHeight = !isMainAxisRow ? (child.getLayout().measuredDimensions.get(
+                                        final float childHeight = !isMainAxisRow ? (child.getLayout().measuredDimension(
                                                 YGDimensionHeight.getValue()) + child.getMarginForAxis(crossAxis,
                                                 availableInnerWidth).unwrap()) : lineHeight;
 
                                         if (!(YGFloatsEqual(childWidth,
-                                                child.getLayout().measuredDimensions.get(
+                                                child.getLayout().measuredDimension(
                                                         YGDimensionWidth.getValue())) && YGFloatsEqual(childHeight,
-                                                child.getLayout().measuredDimensions.get(
+                                                child.getLayout().measuredDimension(
                                                         YGDimensionHeight.getValue())))) {
                                             YGLayoutNodeInternal(child, childWidth, childHeight, direction,
                                                     YGMeasureModeExactly, YGMeasureModeExactly, availableInnerWidth,
                                                     availableInnerHeight, true, LayoutPassReason.kMultilineStretch,
-                                                    config, layoutMarkerData, layoutContext, depth, generationCount);
+                                                    config, pass, layoutContext, depth);
                                         }
                                     }
                                     break;
@@ -3303,11 +3635,11 @@ public class GlobalMembers {
                 final YGNode child = YGNodeGetChild(node, i);
                 if (child.getStyle().positionType() != YGPositionTypeAbsolute) {
                     child.setLayoutPosition(
-                            node.getLayout().measuredDimensions.get(
-                                    dim.get(crossAxis.getValue()).getValue()) - child.getLayout().position.get(
+                            node.getLayout().measuredDimension(
+                                    dim.get(crossAxis.getValue()).getValue()) - child.getLayout().position(
                                     pos.get(
                                                     crossAxis.getValue())
-                                            .getValue()) - child.getLayout().measuredDimensions.get(
+                                            .getValue()) - child.getLayout().measuredDimension(
                                     dim.get(
                                             crossAxis.getValue()).getValue()), pos.get(
                                     crossAxis.getValue()).getValue());
@@ -3324,7 +3656,7 @@ public class GlobalMembers {
                 }
                 YGNodeAbsoluteLayoutChild(node, child, availableInnerWidth,
                         isMainAxisRow ? measureModeMainDim : measureModeCrossDim, availableInnerHeight, direction,
-                        config, layoutMarkerData, layoutContext, depth, generationCount);
+                        config, pass, layoutContext, depth);
             }
 
             // STEP 11: SETTING TRAILING POSITIONS FOR CHILDREN
@@ -3392,11 +3724,11 @@ public class GlobalMembers {
             return;
         }
 
-        final double nodeLeft = node.getLayout().position.get(YGEdgeLeft.getValue());
-        final double nodeTop = node.getLayout().position.get(YGEdgeTop.getValue());
+        final double nodeLeft = node.getLayout().position(YGEdgeLeft.getValue());
+        final double nodeTop = node.getLayout().position(YGEdgeTop.getValue());
 
-        final double nodeWidth = node.getLayout().dimensions.get(YGDimensionWidth.getValue());
-        final double nodeHeight = node.getLayout().dimensions.get(YGDimensionHeight.getValue());
+        final double nodeWidth = node.getLayout().dimension(YGDimensionWidth.getValue());
+        final double nodeHeight = node.getLayout().dimension(YGDimensionHeight.getValue());
 
         final double absoluteNodeLeft = absoluteLeft + nodeLeft;
         final double absoluteNodeTop = absoluteTop + nodeTop;
@@ -3429,9 +3761,9 @@ public class GlobalMembers {
                         (textRounding && !hasFractionalHeight)) - YGRoundValueToPixelGrid(absoluteNodeTop,
                         pointScaleFactor, false, textRounding), YGDimensionHeight.getValue());
 
-        final  Integer childCount = YGNodeGetChildCount(node);
-        for ( Integer i = 0; i < childCount; i++) {
-            YGRoundToPixelGrid(YGNodeGetChild(node, i), pointScaleFactor, absoluteNodeLeft, absoluteNodeTop);
+        final int childCount = node.getChildren().size();
+        for (int i = 0; i < childCount; i++) {
+            YGRoundToPixelGrid(node.getChild(i), pointScaleFactor, absoluteNodeLeft, absoluteNodeTop);
         }
     }
 
@@ -3444,13 +3776,32 @@ public class GlobalMembers {
         }
     }
 
+    /**
+     * Lays out the tree rooted at {@code node}. All per-pass state lives in a fresh {@link YGLayoutPassContext}, so
+     * disjoint trees may be laid out concurrently; a single tree must not be laid out or mutated from two threads.
+     * <p>
+     * A call on a clean owner-less root with the same owner size, direction and point scale factor as its last full
+     * pass returns immediately without publishing events; see {@link YGNodeGetSkippedLayoutCount}.
+     */
     public static void YGNodeCalculateLayoutWithContext( YGNode node, final float ownerWidth, final float ownerHeight, final  YGDirection ownerDirection, Object layoutContext) {
+        final float pointScaleFactor = node.getConfig() != null ? node.getConfig().pointScaleFactor : Float.NaN;
+        final YGRootLayoutState rootState = node.getOwner() == null ? node.getRootLayoutState() : null;
+        if (rootState != null) {
+            rootState.calculateCount++;
+            if (!node.isDirty() && rootState.matches(ownerWidth, ownerHeight, ownerDirection, pointScaleFactor)) {
+                rootState.skippedCount++;
+                return;
+            }
+        }
+
+        final long startNanos = rootState != null ? System.nanoTime() : 0L;
 
         /* Event.LayoutPassStart */
-        Event.publish(node, new LayoutPassStartEventData(layoutContext));
-         LayoutData markerData = new LayoutData();
+        if (Event.isSubscribed(Event.Type.LayoutPassStart)) {
+            Event.publish(node, Event.Type.LayoutPassStart, new LayoutPassStartEventData(layoutContext));
+        }
+        final YGLayoutPassContext pass = new YGLayoutPassContext();
 
-        gCurrentGenerationCount.incrementAndGet();
         node.resolveDimension();
         float width;
          YGMeasureMode widthMeasureMode;
@@ -3488,30 +3839,36 @@ public class GlobalMembers {
             heightMeasureMode = YGFloatIsUndefined(
                     height) ? YGMeasureModeUndefined : YGMeasureModeExactly;
         }
+        if (node.getConfig() != null && node.getConfig().batchMeasureFunc != null) {
+            pass.measureBatch = YGPrefetchMeasurements(node, width, height, ownerDirection, widthMeasureMode,
+                    heightMeasureMode, ownerWidth, ownerHeight, pass, layoutContext);
+        }
         if (YGLayoutNodeInternal(node, width, height, ownerDirection, widthMeasureMode, heightMeasureMode, ownerWidth,
-                ownerHeight, true, LayoutPassReason.kInitial, node.getConfig(), markerData, layoutContext, 0,
-                gCurrentGenerationCount.get())) {
+                ownerHeight, true, LayoutPassReason.kInitial, node.getConfig(), pass, layoutContext, 0)) {
             node.setPosition(node.getLayout().direction(), ownerWidth, ownerHeight, ownerWidth);
             if (node.getConfig() != null) {
                 YGRoundToPixelGrid(node, node.getConfig().pointScaleFactor, 0.0f, 0.0f);
             }
         }
+        if (rootState != null) {
+            rootState.update(ownerWidth, ownerHeight, ownerDirection, pointScaleFactor);
+        }
 
         /* Event.LayoutPassEnd */
-        Event.publish(node, new LayoutPassEndEventData(layoutContext, markerData));
+        if (Event.isSubscribed(Event.Type.LayoutPassEnd)) {
+            Event.publish(node, Event.Type.LayoutPassEnd, new LayoutPassEndEventData(layoutContext, pass.layoutData));
+        }
         if (node.getConfig() != null && node.getConfig().shouldDiffLayoutWithoutLegacyStretchBehaviour && node.didUseLegacyFlag()) {
              YGNode nodeWithoutLegacyFlag = YGNodeDeepClone(node);
             nodeWithoutLegacyFlag.resolveDimension();
 
             nodeWithoutLegacyFlag.markDirtyAndPropogateDownwards();
-            gCurrentGenerationCount.incrementAndGet();
 
             unsetUseLegacyFlagRecursively(nodeWithoutLegacyFlag);
-             LayoutData layoutMarkerData = new LayoutData();
+            final YGLayoutPassContext legacyPass = new YGLayoutPassContext();
             if (YGLayoutNodeInternal(nodeWithoutLegacyFlag, width, height, ownerDirection, widthMeasureMode,
                     heightMeasureMode, ownerWidth, ownerHeight, true, LayoutPassReason.kInitial,
-                    nodeWithoutLegacyFlag.getConfig(), layoutMarkerData, layoutContext, 0,
-                    gCurrentGenerationCount.get())) {
+                    nodeWithoutLegacyFlag.getConfig(), legacyPass, layoutContext, 0)) {
                 nodeWithoutLegacyFlag.setPosition(nodeWithoutLegacyFlag.getLayout().direction(), ownerWidth,
                         ownerHeight, ownerWidth);
                 YGRoundToPixelGrid(nodeWithoutLegacyFlag, nodeWithoutLegacyFlag.getConfig().pointScaleFactor, 0.0f,
@@ -3524,6 +3881,109 @@ public class GlobalMembers {
             YGConfigFreeRecursive(nodeWithoutLegacyFlag);
             YGNodeFreeRecursive(nodeWithoutLegacyFlag);
         }
+
+        if (rootState != null) {
+            rootState.recordPass(pass.layoutData, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Measures {@code node} as a root within the given constraints without laying it out. Only measurement caches
+     * are kept, the layout results of every visited node are put back afterwards, so the layout of the tree stays as
+     * its last full pass left it and dirty nodes stay dirty. Measuring a clean tree again under the same
+     * constraints is answered from the measurement cache of {@code node}.
+     */
+    public static YGSize YGNodeCalculateMeasuredSize( YGNode node, final float availableWidth, final YGMeasureMode widthMode, final float availableHeight, final YGMeasureMode heightMode, final YGDirection ownerDirection, Object layoutContext) {
+        final float ownerWidth = widthMode == YGMeasureModeUndefined ? YGUndefined : availableWidth;
+        final float ownerHeight = heightMode == YGMeasureModeUndefined ? YGUndefined : availableHeight;
+
+        node.resolveDimension();
+        float width = ownerWidth;
+        YGMeasureMode widthMeasureMode = widthMode;
+        final YGFloatOptional maxWidth = YGResolveValue(node.getStyle().maxDimensions().get(YGDimensionWidth.getValue()),
+                ownerWidth);
+        if (YGNodeIsStyleDimDefined(node, YGFlexDirectionRow, ownerWidth)) {
+            width = YGResolveValue(node.getResolvedDimension(YGDimensionWidth.getValue()), ownerWidth).unwrap()
+                    + node.getMarginForAxis(YGFlexDirectionRow, ownerWidth).unwrap();
+            widthMeasureMode = YGMeasureModeExactly;
+        } else if (!maxWidth.isUndefined() && (widthMeasureMode == YGMeasureModeUndefined || maxWidth.unwrap() < width)) {
+            width = maxWidth.unwrap();
+            widthMeasureMode = YGMeasureModeAtMost;
+        }
+
+        float height = ownerHeight;
+        YGMeasureMode heightMeasureMode = heightMode;
+        final YGFloatOptional maxHeight = YGResolveValue(
+                node.getStyle().maxDimensions().get(YGDimensionHeight.getValue()), ownerHeight);
+        if (YGNodeIsStyleDimDefined(node, YGFlexDirectionColumn, ownerHeight)) {
+            height = YGResolveValue(node.getResolvedDimension(YGDimensionHeight.getValue()), ownerHeight).unwrap()
+                    + node.getMarginForAxis(YGFlexDirectionColumn, ownerWidth).unwrap();
+            heightMeasureMode = YGMeasureModeExactly;
+        } else if (!maxHeight.isUndefined() && (heightMeasureMode == YGMeasureModeUndefined || maxHeight.unwrap() < height)) {
+            height = maxHeight.unwrap();
+            heightMeasureMode = YGMeasureModeAtMost;
+        }
+
+        //the algorithm resolves margins, borders and paddings against the owner size of the measure pass, which
+        //may differ from the one of the last full pass, keep the layout as that pass left it
+        final YGLayoutPassContext pass = new YGLayoutPassContext();
+        pass.preserveLayouts();
+        try {
+            YGLayoutNodeInternal(node, width, height, ownerDirection, widthMeasureMode, heightMeasureMode,
+                    ownerWidth, ownerHeight, false, LayoutPassReason.kInitial, node.getConfig(), pass, layoutContext, 0);
+            return new YGSize(node.getLayout().measuredDimension(YGDimensionWidth.getValue()),
+                    node.getLayout().measuredDimension(YGDimensionHeight.getValue()));
+        } finally {
+            pass.restoreLayouts();
+        }
+    }
+
+    /**
+     * First phase of a batch measured pass: dry runs the layout of {@code node} to find the measure calls it will
+     * make, hands them to {@link YGConfig#batchMeasureFunc} and repeats with the results until no new calls show up
+     * or {@link YGMeasureBatch#MAX_COLLECT_ROUNDS} is reached. Calls the last dry run could not predict are made
+     * synchronously by the real pass, so the final layout matches an unbatched pass.
+     */
+    public static YGMeasureBatch YGPrefetchMeasurements( YGNode node, final float width, final float height, final YGDirection ownerDirection, final YGMeasureMode widthMeasureMode, final YGMeasureMode heightMeasureMode, final float ownerWidth, final float ownerHeight,  YGLayoutPassContext pass, Object layoutContext) {
+        final YGMeasureBatch batch = new YGMeasureBatch();
+        for (int round = 0; round < YGMeasureBatch.MAX_COLLECT_ROUNDS; round++) {
+            final YGLayoutPassContext dryRun = new YGLayoutPassContext();
+            dryRun.measureBatch = batch;
+            YGLayoutNodeInternal(node, width, height, ownerDirection, widthMeasureMode, heightMeasureMode, ownerWidth,
+                    ownerHeight, true, LayoutPassReason.kInitial, node.getConfig(), dryRun, layoutContext, 0);
+            batch.invalidateVisited();
+            if (batch.getPending().isEmpty()) {
+                break;
+            }
+            node.getConfig().batchMeasureFunc.invoke(batch.getPending());
+            pass.layoutData.batchedMeasureCallbacks += batch.acceptPending();
+        }
+        batch.finishCollecting();
+        return batch;
+    }
+
+    /**
+     * Returns the layout bookkeeping of {@code node}, or null if it has not been laid out as a root since it last
+     * changed owner.
+     */
+    public static YGRootLayoutState YGNodeGetRootLayoutState( YGNode node) {
+        return node.peekRootLayoutState();
+    }
+
+    /**
+     * Number of {@link #YGNodeCalculateLayoutWithContext} calls on {@code node} as a root since it last changed owner.
+     */
+    public static long YGNodeGetLayoutCalculationCount( YGNode node) {
+        final YGRootLayoutState rootState = node.peekRootLayoutState();
+        return rootState == null ? 0 : rootState.calculateCount;
+    }
+
+    /**
+     * Number of those calls that were skipped because the tree was clean and the constraints were unchanged.
+     */
+    public static long YGNodeGetSkippedLayoutCount( YGNode node) {
+        final YGRootLayoutState rootState = node.peekRootLayoutState();
+        return rootState == null ? 0 : rootState.skippedCount;
     }
 
     public static void YGTraverseChildrenPreOrder(final  ArrayList<YGNode> children,  NodeTraverseDelegate f) {
@@ -12,13 +12,23 @@ public class YGCachedMeasurement {
     public float computedWidth;
     public float computedHeight;
 
+    /**
+     * Value of {@link YGLayout#measurementClock} when this entry was last written or hit, used for LRU replacement.
+     */
+    public int lastUsed;
+
     public YGCachedMeasurement() {
+        reset();
+    }
+
+    public final void reset() {
         this.availableWidth = -1F;
         this.availableHeight = -1F;
         this.widthMeasureMode = YGMeasureMode.YGMeasureModeUndefined;
         this.heightMeasureMode = YGMeasureMode.YGMeasureModeUndefined;
         this.computedWidth = -1F;
         this.computedHeight = -1F;
+        this.lastUsed = 0;
     }
 
     public boolean equalsTo( YGCachedMeasurement measurement) {
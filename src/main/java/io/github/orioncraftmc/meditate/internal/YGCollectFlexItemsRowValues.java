@@ -13,4 +13,16 @@ public class YGCollectFlexItemsRowValues //Type originates from: Utils.h
     public float remainingFreeSpace;
     public float mainDim;
     public float crossDim;
+
+    public void reset() {
+        itemsOnLine = 0;
+        sizeConsumedOnCurrentLine = 0;
+        totalFlexGrowFactors = 0;
+        totalFlexShrinkScaledFactors = 0;
+        endOfLineIndex = 0;
+        relativeChildren.clear();
+        remainingFreeSpace = 0;
+        mainDim = 0;
+        crossDim = 0;
+    }
 }
\ No newline at end of file
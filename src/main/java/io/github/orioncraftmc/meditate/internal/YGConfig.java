@@ -1,8 +1,10 @@
 package io.github.orioncraftmc.meditate.internal;
 
 import static io.github.orioncraftmc.meditate.internal.GlobalMembers.YGNodeClone;
-import io.github.orioncraftmc.meditate.internal.enums.YGExperiment;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import io.github.orioncraftmc.meditate.internal.enums.YGExperimentalFeature;
 import io.github.orioncraftmc.meditate.internal.enums.YGLogLevel;
+import io.github.orioncraftmc.meditate.internal.interfaces.YGBatchMeasureFunc;
 import io.github.orioncraftmc.meditate.internal.interfaces.YGCloneNodeFunc;
 import io.github.orioncraftmc.meditate.internal.interfaces.YGLogger;
 import java.util.ArrayList;
@@ -17,6 +19,24 @@ public class YGConfig //Type originates from: YGConfig.h
     public float pointScaleFactor = 1.0f;
     public ArrayList<Boolean> experimentalFeatures = new ArrayList<>();
     public Object context = null;
+    /**
+     * Executor used by {@link YGExperimentalFeature#YGExperimentalFeatureParallelSubtreeLayout}; without one the
+     * feature has no effect.
+     */
+    public AsyncExecutor parallelLayoutExecutor = null;
+    /**
+     * Minimum number of nodes a child subtree needs before it is laid out on {@link #parallelLayoutExecutor}.
+     */
+    public int parallelLayoutThreshold = 256;
+    /**
+     * Number of measurements each node caches before the least recently used one is replaced.
+     */
+    public int measurementCacheCapacity = YGLayout.YG_MAX_CACHED_RESULT_COUNT;
+    public YGSharedMeasureCache sharedMeasureCache = null;
+    /**
+     * When set, measure calls are predicted by dry runs of each pass and handed to this function in batches.
+     */
+    public YGBatchMeasureFunc batchMeasureFunc = null;
     private cloneNodeCallback_Struct cloneNodeCallback_struct = new cloneNodeCallback_Struct();
     private boolean cloneNodeUsesContext_;
     private boolean loggerUsesContext_;
@@ -26,7 +46,7 @@ public class YGConfig //Type originates from: YGConfig.h
         this.cloneNodeCallback_struct = null;
         logger_struct.noContext = logger;
         loggerUsesContext_ = false;
-        for (int i = 0; i < YGExperiment.values().length; i++) {
+        for (int i = 0; i < YGExperimentalFeature.values().length; i++) {
             experimentalFeatures.add(false);
         }
     }
@@ -42,6 +62,11 @@ public class YGConfig //Type originates from: YGConfig.h
         clone.pointScaleFactor = this.pointScaleFactor;
         clone.experimentalFeatures = this.experimentalFeatures;
         clone.context = this.context;
+        clone.parallelLayoutExecutor = this.parallelLayoutExecutor;
+        clone.parallelLayoutThreshold = this.parallelLayoutThreshold;
+        clone.measurementCacheCapacity = this.measurementCacheCapacity;
+        clone.sharedMeasureCache = this.sharedMeasureCache;
+        clone.batchMeasureFunc = this.batchMeasureFunc;
         clone.cloneNodeCallback_struct = this.cloneNodeCallback_struct;
         clone.cloneNodeUsesContext_ = this.cloneNodeUsesContext_;
         clone.loggerUsesContext_ = this.loggerUsesContext_;
@@ -4,7 +4,8 @@ import static io.github.orioncraftmc.meditate.internal.GlobalMembers.YGFloatArra
 import static io.github.orioncraftmc.meditate.internal.GlobalMembers.YGUndefined;
 import static io.github.orioncraftmc.meditate.internal.detail.GlobalMembers.*;
 import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 public class YGLayout {
 
@@ -15,43 +16,141 @@ public class YGLayout {
     private static final int didUseLegacyFlagOffset = directionOffset + bitWidthFn(YGDirection.class);
     private static final int doesLegacyStretchFlagAffectsLayoutOffset = didUseLegacyFlagOffset + 1;
     private static final int hadOverflowOffset = doesLegacyStretchFlagAffectsLayoutOffset + 1;
-    private final Map<Object, Object> flags = new HashMap<>();
-    public final  ArrayList<Float> position = createEmptyFloatArray();
-    public final  ArrayList<Float> dimensions = new ArrayList<>(Arrays.asList(YGUndefined, YGUndefined));
-    public final  ArrayList<Float> margin = createEmptyFloatArray();
-    public final  ArrayList<Float> border = createEmptyFloatArray();
-    public final  ArrayList<Float> padding = createEmptyFloatArray();
+    private static final YGDirection[] directionValues = YGDirection.values();
+    private int flags = 0;
+    // Offsets of the per edge and per dimension values packed into values.
+    public static final int POSITION_OFFSET = 0;
+    public static final int DIMENSIONS_OFFSET = POSITION_OFFSET + 4;
+    public static final int MEASURED_DIMENSIONS_OFFSET = DIMENSIONS_OFFSET + 2;
+    public static final int MARGIN_OFFSET = MEASURED_DIMENSIONS_OFFSET + 2;
+    public static final int BORDER_OFFSET = MARGIN_OFFSET + 4;
+    public static final int PADDING_OFFSET = BORDER_OFFSET + 4;
+    private static final int VALUES_SIZE = PADDING_OFFSET + 4;
+    private final float[] values = new float[VALUES_SIZE];
     public int computedFlexBasisGeneration = 0;
     public YGFloatOptional computedFlexBasis = new YGFloatOptional();
     public int generationCount = 0;
     public YGDirection lastOwnerDirection = YGDirection.YGDirectionInherit;
+    /**
+     * Number of valid entries at the front of {@link #cachedMeasurements}. Entries are only allocated once a node is
+     * measured under that many different constraints, most nodes never need more than one or two.
+     */
     public int nextCachedMeasurementsIndex = 0;
-    public final  ArrayList<YGCachedMeasurement> cachedMeasurements = new ArrayList<>(YG_MAX_CACHED_RESULT_COUNT);
-    public final  ArrayList<Float> measuredDimensions = new ArrayList<>(Arrays.asList(YGUndefined, YGUndefined));
+    public int measurementClock = 0;
+    public final  ArrayList<YGCachedMeasurement> cachedMeasurements = new ArrayList<>();
     public final  YGCachedMeasurement cachedLayout = new YGCachedMeasurement();
 
     public YGLayout() {
-        for (int i = 0; i < YG_MAX_CACHED_RESULT_COUNT; i++) {
-            cachedMeasurements.add(new YGCachedMeasurement());
+        values[DIMENSIONS_OFFSET] = YGUndefined;
+        values[DIMENSIONS_OFFSET + 1] = YGUndefined;
+        values[MEASURED_DIMENSIONS_OFFSET] = YGUndefined;
+        values[MEASURED_DIMENSIONS_OFFSET + 1] = YGUndefined;
+    }
+
+    /**
+     * Returns this layout to the state of a new one, keeping the measurement cache entries allocated so far.
+     */
+    public final void reset() {
+        flags = 0;
+        Arrays.fill(values, 0);
+        values[DIMENSIONS_OFFSET] = YGUndefined;
+        values[DIMENSIONS_OFFSET + 1] = YGUndefined;
+        values[MEASURED_DIMENSIONS_OFFSET] = YGUndefined;
+        values[MEASURED_DIMENSIONS_OFFSET + 1] = YGUndefined;
+        computedFlexBasisGeneration = 0;
+        computedFlexBasis = new YGFloatOptional();
+        generationCount = 0;
+        lastOwnerDirection = YGDirection.YGDirectionInherit;
+        for (int i = 0; i < nextCachedMeasurementsIndex; i++) {
+            cachedMeasurements.get(i).reset();
+        }
+        nextCachedMeasurementsIndex = 0;
+        measurementClock = 0;
+        cachedLayout.reset();
+    }
+
+    public final void touchCachedMeasurement(YGCachedMeasurement measurement) {
+        measurement.lastUsed = ++measurementClock;
+    }
+
+    /**
+     * Returns the entry a new measurement should be written to: a free slot while fewer than {@code capacity} are in
+     * use, otherwise the least recently used one. The returned entry is marked as most recently used.
+     */
+    public final YGCachedMeasurement nextCachedMeasurement(int capacity) {
+        YGCachedMeasurement entry;
+        if (nextCachedMeasurementsIndex < capacity) {
+            if (nextCachedMeasurementsIndex == cachedMeasurements.size()) {
+                cachedMeasurements.add(new YGCachedMeasurement());
+            }
+            entry = cachedMeasurements.get(nextCachedMeasurementsIndex++);
+        } else {
+            entry = cachedMeasurements.get(0);
+            for (int i = 1; i < nextCachedMeasurementsIndex; i++) {
+                final YGCachedMeasurement candidate = cachedMeasurements.get(i);
+                if (candidate.lastUsed - entry.lastUsed < 0) {
+                    entry = candidate;
+                }
+            }
         }
+        touchCachedMeasurement(entry);
+        return entry;
+    }
+
+    public final float position(int edge) {
+        return values[POSITION_OFFSET + edge];
+    }
+
+    public final void setPosition(int edge, float position) {
+        values[POSITION_OFFSET + edge] = position;
+    }
+
+    public final float dimension(int dimension) {
+        return values[DIMENSIONS_OFFSET + dimension];
+    }
+
+    public final void setDimension(int dimension, float value) {
+        values[DIMENSIONS_OFFSET + dimension] = value;
+    }
+
+    public final float measuredDimension(int dimension) {
+        return values[MEASURED_DIMENSIONS_OFFSET + dimension];
+    }
+
+    public final void setMeasuredDimension(int dimension, float value) {
+        values[MEASURED_DIMENSIONS_OFFSET + dimension] = value;
     }
 
-    
-    private ArrayList<Float> createEmptyFloatArray() {
-        List<Float> floats = new ArrayList<>();
-        floats.add(0f);
-        floats.add(0f);
-        floats.add(0f);
-        floats.add(0f);
-        return new ArrayList<>(floats);
+    public final float margin(int edge) {
+        return values[MARGIN_OFFSET + edge];
+    }
+
+    public final void setMargin(int edge, float margin) {
+        values[MARGIN_OFFSET + edge] = margin;
+    }
+
+    public final float border(int edge) {
+        return values[BORDER_OFFSET + edge];
+    }
+
+    public final void setBorder(int edge, float border) {
+        values[BORDER_OFFSET + edge] = border;
+    }
+
+    public final float padding(int edge) {
+        return values[PADDING_OFFSET + edge];
+    }
+
+    public final void setPadding(int edge, float padding) {
+        values[PADDING_OFFSET + edge] = padding;
     }
 
     public final YGDirection direction() {
-        return getEnumData(YGDirection.class, flags, directionOffset);
+        return getEnumData(directionValues, flags, directionOffset);
     }
 
     public final void setDirection( YGDirection direction) {
-        setEnumData(YGDirection.class, flags, directionOffset, direction);
+        flags = setEnumData(directionValues, flags, directionOffset, direction);
     }
 
     public final boolean didUseLegacyFlag() {
@@ -59,7 +158,7 @@ public class YGLayout {
     }
 
     public final void setDidUseLegacyFlag(boolean val) {
-        setBooleanData(flags, didUseLegacyFlagOffset, val);
+        flags = setBooleanData(flags, didUseLegacyFlagOffset, val);
     }
 
     public final boolean doesLegacyStretchFlagAffectsLayout() {
@@ -67,7 +166,7 @@ public class YGLayout {
     }
 
     public final void setDoesLegacyStretchFlagAffectsLayout(boolean val) {
-        setBooleanData(flags, doesLegacyStretchFlagAffectsLayoutOffset, val);
+        flags = setBooleanData(flags, doesLegacyStretchFlagAffectsLayoutOffset, val);
     }
 
     public final boolean hadOverflow() {
@@ -75,28 +174,52 @@ public class YGLayout {
     }
 
     public final void setHadOverflow(boolean hadOverflow) {
-        setBooleanData(flags, hadOverflowOffset, hadOverflow);
+        flags = setBooleanData(flags, hadOverflowOffset, hadOverflow);
+    }
+
+    /**
+     * Returns a copy of the layout results and flags, measurement caches are not included.
+     */
+    public final Snapshot snapshot() {
+        return new Snapshot(values.clone(), flags);
+    }
+
+    /**
+     * Puts back the layout results and flags of a {@link #snapshot()}.
+     */
+    public final void restore(Snapshot snapshot) {
+        System.arraycopy(snapshot.values, 0, values, 0, VALUES_SIZE);
+        flags = snapshot.flags;
+    }
+
+    public static final class Snapshot {
+        private final float[] values;
+        private final int flags;
+
+        private Snapshot(float[] values, int flags) {
+            this.values = values;
+            this.flags = flags;
+        }
     }
 
     public boolean equalsTo( YGLayout layout) //Method definition originates from: YGLayout.cpp
     {
-        boolean isEqual = YGFloatArrayEqual(position, layout.position) && YGFloatArrayEqual(dimensions,
-                layout.dimensions) && YGFloatArrayEqual(margin, layout.margin) && YGFloatArrayEqual(border,
-                layout.border) && YGFloatArrayEqual(padding,
-                layout.padding) && direction() == layout.direction() && hadOverflow() == layout.hadOverflow() && lastOwnerDirection == layout.lastOwnerDirection && nextCachedMeasurementsIndex == layout.nextCachedMeasurementsIndex && cachedLayout.equalsTo(
-                layout.cachedLayout) && computedFlexBasis == layout.computedFlexBasis;
+        boolean isEqual = YGFloatArrayEqual(values, layout.values, POSITION_OFFSET, 6) && YGFloatArrayEqual(values,
+                layout.values, MARGIN_OFFSET, 12) && direction() == layout.direction() && hadOverflow() == layout.hadOverflow() && lastOwnerDirection == layout.lastOwnerDirection && nextCachedMeasurementsIndex == layout.nextCachedMeasurementsIndex && cachedLayout.equalsTo(
+                layout.cachedLayout) && (computedFlexBasis.isUndefined() ? layout.computedFlexBasis.isUndefined()
+                : computedFlexBasis.unwrap() == layout.computedFlexBasis.unwrap());
 
-        for (int i = 0; i < YG_MAX_CACHED_RESULT_COUNT && isEqual; ++i) { //TODO: Verify if this is correct
+        for (int i = 0; i < nextCachedMeasurementsIndex && isEqual; ++i) {
             isEqual = cachedMeasurements.get(i).equalsTo(layout.cachedMeasurements.get(i));
         }
 
-        if (!GlobalMembers.isUndefined(measuredDimensions.get(0)) || !GlobalMembers.isUndefined(
-                layout.measuredDimensions.get(0))) {
-            isEqual = isEqual && (Objects.equals(measuredDimensions.get(0), layout.measuredDimensions.get(0)));
+        if (!GlobalMembers.isUndefined(measuredDimension(0)) || !GlobalMembers.isUndefined(
+                layout.measuredDimension(0))) {
+            isEqual = isEqual && (measuredDimension(0) == layout.measuredDimension(0));
         }
-        if (!GlobalMembers.isUndefined(measuredDimensions.get(1)) || !GlobalMembers.isUndefined(
-                layout.measuredDimensions.get(1))) {
-            isEqual = isEqual && (Objects.equals(measuredDimensions.get(1), layout.measuredDimensions.get(1)));
+        if (!GlobalMembers.isUndefined(measuredDimension(1)) || !GlobalMembers.isUndefined(
+                layout.measuredDimension(1))) {
+            isEqual = isEqual && (measuredDimension(1) == layout.measuredDimension(1));
         }
 
         return isEqual;
@@ -0,0 +1,90 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import io.github.orioncraftmc.meditate.internal.event.LayoutData;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * State owned by a single call to {@link GlobalMembers#YGNodeCalculateLayoutWithContext}.
+ * <p>
+ * Everything a layout pass mutates lives either in the nodes of the tree being laid out or in this object, so
+ * disjoint trees can be laid out concurrently from different threads. The only shared state is the generation
+ * counter, which hands every pass a unique id with a single atomic increment. Subtrees laid out on other threads by
+ * {@link YGSubtreeLayoutTask} use a {@link #fork()} of this context.
+ */
+public class YGLayoutPassContext {
+    private static final AtomicInteger nextGenerationCount = new AtomicInteger();
+
+    public final int generationCount;
+    public final LayoutData layoutData = new LayoutData();
+    /**
+     * Measurements prefetched for this pass, or null when the config has no batch measure function.
+     */
+    public YGMeasureBatch measureBatch;
+
+    private final ArrayList<YGCollectFlexItemsRowValues> flexItemsRowValues = new ArrayList<>();
+    /**
+     * Layouts of the nodes visited by a measure-only pass as they were before it, or null when the pass may change
+     * them.
+     */
+    private IdentityHashMap<YGLayout, YGLayout.Snapshot> preservedLayouts;
+
+    public YGLayoutPassContext() {
+        this(nextGenerationCount.incrementAndGet());
+    }
+
+    private YGLayoutPassContext(int generationCount) {
+        this.generationCount = generationCount;
+    }
+
+    /**
+     * Returns a context for a subtree laid out on another thread. It belongs to the same generation but has its own
+     * counters and scratch buffers; merge its {@link #layoutData} back once the subtree is done.
+     */
+    public YGLayoutPassContext fork() {
+        final YGLayoutPassContext fork = new YGLayoutPassContext(generationCount);
+        fork.measureBatch = measureBatch;
+        return fork;
+    }
+
+    /**
+     * Makes the pass remember the layout of every node it visits, so that {@link #restoreLayouts()} can undo what it
+     * wrote.
+     */
+    public void preserveLayouts() {
+        preservedLayouts = new IdentityHashMap<>();
+    }
+
+    /**
+     * Remembers the layout of {@code node} if the pass preserves layouts and has not visited it before.
+     */
+    public void preserveLayout(YGNode node) {
+        if (preservedLayouts != null && !preservedLayouts.containsKey(node.getLayout())) {
+            preservedLayouts.put(node.getLayout(), node.getLayout().snapshot());
+        }
+    }
+
+    /**
+     * Puts back the layouts remembered since {@link #preserveLayouts()}.
+     */
+    public void restoreLayouts() {
+        for (Map.Entry<YGLayout, YGLayout.Snapshot> entry : preservedLayouts.entrySet()) {
+            entry.getKey().restore(entry.getValue());
+        }
+        preservedLayouts = null;
+    }
+
+    /**
+     * Returns the flex line scratch buffer for the given recursion depth, creating it on first use. A node only uses
+     * it while laying out its own lines, so nodes at different depths never share a buffer.
+     */
+    public YGCollectFlexItemsRowValues flexItemsRowValues(int depth) {
+        while (flexItemsRowValues.size() <= depth) {
+            flexItemsRowValues.add(new YGCollectFlexItemsRowValues());
+        }
+        return flexItemsRowValues.get(depth);
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import io.github.orioncraftmc.meditate.internal.enums.YGMeasureMode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * Measurements prefetched for one layout pass by {@link GlobalMembers#YGPrefetchMeasurements}.
+ * <p>
+ * While {@link #isCollecting()} the pass is a dry run: measure functions are not called, their requests are queued
+ * and a zero size is assumed instead. Every node the dry run computed is remembered so its layout cache, which now
+ * holds results based on those placeholders, can be invalidated afterwards. Once collection is over the batch is
+ * read only and may be shared by forked subtree passes.
+ */
+public class YGMeasureBatch {
+    /**
+     * Upper bound on dry runs, each one only asks for measurements the previous results uncovered.
+     */
+    public static final int MAX_COLLECT_ROUNDS = 3;
+
+    private final HashMap<YGMeasureRequest, YGMeasureRequest> measured = new HashMap<>();
+    private final ArrayList<YGMeasureRequest> pending = new ArrayList<>();
+    private final HashSet<YGMeasureRequest> pendingKeys = new HashSet<>();
+    private final ArrayList<YGNode> visited = new ArrayList<>();
+    private boolean collecting = true;
+
+    public boolean isCollecting() {
+        return collecting;
+    }
+
+    public void finishCollecting() {
+        collecting = false;
+    }
+
+    /**
+     * Returns the prefetched result for the given measure call, or null if it was not prefetched.
+     */
+    public YGSize lookup(YGNode node, float width, YGMeasureMode widthMode, float height, YGMeasureMode heightMode) {
+        if (measured.isEmpty()) {
+            return null;
+        }
+        final YGMeasureRequest request = measured.get(new YGMeasureRequest(node, width, widthMode, height, heightMode,
+                null));
+        return request != null ? request.getResult() : null;
+    }
+
+    public void request(YGNode node, float width, YGMeasureMode widthMode, float height, YGMeasureMode heightMode, Object layoutContext) {
+        final YGMeasureRequest request = new YGMeasureRequest(node, width, widthMode, height, heightMode,
+                layoutContext);
+        if (!measured.containsKey(request) && pendingKeys.add(request)) {
+            pending.add(request);
+        }
+    }
+
+    public void visited(YGNode node) {
+        visited.add(node);
+    }
+
+    public ArrayList<YGMeasureRequest> getPending() {
+        return pending;
+    }
+
+    /**
+     * Moves the pending requests that were measured into the results, and returns how many there were.
+     */
+    public int acceptPending() {
+        int count = 0;
+        for (int i = 0; i < pending.size(); i++) {
+            final YGMeasureRequest request = pending.get(i);
+            if (request.getResult() != null) {
+                measured.put(request, request);
+                count++;
+            }
+        }
+        pending.clear();
+        pendingKeys.clear();
+        return count;
+    }
+
+    /**
+     * Marks every node computed by the last dry run dirty again, without notifying dirtied callbacks, so the real
+     * pass recomputes them instead of trusting results based on placeholder sizes.
+     */
+    public void invalidateVisited() {
+        for (int i = 0; i < visited.size(); i++) {
+            visited.get(i).restoreDirtyFlag();
+        }
+        visited.clear();
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import io.github.orioncraftmc.meditate.internal.enums.YGMeasureMode;
+
+/**
+ * A call to a node's measure function predicted by {@link YGMeasureBatch}, to be run by a
+ * {@link io.github.orioncraftmc.meditate.internal.interfaces.YGBatchMeasureFunc} before the layout pass needs it.
+ * Requests are equal when they target the same node with the same constraints.
+ */
+public class YGMeasureRequest {
+    public final YGNode node;
+    public final float width;
+    public final YGMeasureMode widthMode;
+    public final float height;
+    public final YGMeasureMode heightMode;
+    public final Object layoutContext;
+
+    private YGSize result;
+
+    public YGMeasureRequest(YGNode node, float width, YGMeasureMode widthMode, float height, YGMeasureMode heightMode, Object layoutContext) {
+        this.node = node;
+        this.width = width;
+        this.widthMode = widthMode;
+        this.height = height;
+        this.heightMode = heightMode;
+        this.layoutContext = layoutContext;
+    }
+
+    /**
+     * Calls the node's measure function and stores its result. Safe to call from any thread as long as the measure
+     * function is.
+     */
+    public void measure() {
+        result = node.measure(width, widthMode, height, heightMode, layoutContext);
+    }
+
+    /**
+     * Returns the measured size, or null if {@link #measure()} has not run.
+     */
+    public YGSize getResult() {
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof YGMeasureRequest)) return false;
+        final YGMeasureRequest that = (YGMeasureRequest) o;
+        return node == that.node && Float.floatToIntBits(width) == Float.floatToIntBits(that.width)
+                && Float.floatToIntBits(height) == Float.floatToIntBits(that.height) && widthMode == that.widthMode
+                && heightMode == that.heightMode;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = System.identityHashCode(node);
+        result = 31 * result + Float.floatToIntBits(width);
+        result = 31 * result + Float.floatToIntBits(height);
+        result = 31 * result + widthMode.ordinal();
+        result = 31 * result + heightMode.ordinal();
+        return result;
+    }
+}
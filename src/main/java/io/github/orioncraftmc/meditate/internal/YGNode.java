@@ -21,8 +21,14 @@ public class YGNode {
     private static final int baselineUsesContext_ = 5;
     private static final int printUsesContext_ = 6;
     private static final int useWebDefaults_ = 7;
+    private static final int isBatchingStyle_ = 8;
+    private static final int hasBatchedDirty_ = 9;
+    private static final int isStyleShared_ = 10;
+    // Set on both nodes by the copy constructor, which shares the layout, children and callback holders.
+    private static final int isStorageShared_ = 11;
     private  Object context_ = null;
-    private Map<Object, Object> flags = new HashMap<>();
+    private static final YGNodeType[] nodeTypeValues = YGNodeType.values();
+    private int flags = 0;
     private byte reserved_ = 0;
     private measure_Struct measure_ = new measure_Struct();
     private baseline_Struct baseline_ = new baseline_Struct();
@@ -33,7 +39,8 @@ public class YGNode {
     private int lineIndex_ = 0;
     private  YGNode owner_ = null;
     private ArrayList<YGNode> children_ = new ArrayList<>();
-    private  YGConfig config_ = new YGConfig(null);
+    private  YGConfig config_;
+    private YGRootLayoutState rootLayoutState_ = null;
     private ArrayList<YGValue> resolvedDimensions_ = new ArrayList<>(
             Arrays.asList(GlobalMembers.YGValueUndefined, GlobalMembers.YGValueUndefined));
 
@@ -45,6 +52,10 @@ public class YGNode {
         print_ = node.print_;
         dirtied_ = node.dirtied_;
         style_ = node.style_;
+        flags = setBooleanData(flags, isStyleShared_, true);
+        node.flags = setBooleanData(node.flags, isStyleShared_, true);
+        flags = setBooleanData(flags, isStorageShared_, true);
+        node.flags = setBooleanData(node.flags, isStorageShared_, true);
         layout_ = node.layout_;
         lineIndex_ = node.lineIndex_;
         owner_ = node.owner_;
@@ -73,30 +84,34 @@ public class YGNode {
 
     public static CompactValue computeEdgeValueForRow(final  Values<YGEdge> edges,  YGEdge rowEdge,  YGEdge edge, CompactValue defaultValue) //Method definition originates from: YGNode.cpp
     {
-        if (!edges.getCompactValue(rowEdge).isUndefined()) {
-            return edges.getCompactValue(rowEdge);
-        } else if (!edges.getCompactValue(edge).isUndefined()) {
-            return edges.getCompactValue(edge);
-        } else if (!edges.getCompactValue(YGEdge.YGEdgeHorizontal).isUndefined()) {
-            return edges.getCompactValue(YGEdge.YGEdgeHorizontal);
-        } else if (!edges.getCompactValue(YGEdge.YGEdgeAll).isUndefined()) {
-            return edges.getCompactValue(YGEdge.YGEdgeAll);
-        } else {
-            return defaultValue;
+        CompactValue value = edges.getCompactValue(rowEdge);
+        if (!value.isUndefined()) {
+            return value;
+        }
+        value = edges.getCompactValue(edge);
+        if (!value.isUndefined()) {
+            return value;
         }
+        value = edges.getCompactValue(YGEdge.YGEdgeHorizontal);
+        if (!value.isUndefined()) {
+            return value;
+        }
+        value = edges.getCompactValue(YGEdge.YGEdgeAll);
+        return value.isUndefined() ? defaultValue : value;
     }
 
     public static CompactValue computeEdgeValueForColumn(final  Values<YGEdge> edges,  YGEdge edge, CompactValue defaultValue) //Method definition originates from: YGNode.cpp
     {
-        if (!edges.getCompactValue(edge).isUndefined()) {
-            return edges.getCompactValue(edge);
-        } else if (!edges.getCompactValue(YGEdge.YGEdgeVertical).isUndefined()) {
-            return edges.getCompactValue(YGEdge.YGEdgeVertical);
-        } else if (!edges.getCompactValue(YGEdge.YGEdgeAll).isUndefined()) {
-            return edges.getCompactValue(YGEdge.YGEdgeAll);
-        } else {
-            return defaultValue;
+        CompactValue value = edges.getCompactValue(edge);
+        if (!value.isUndefined()) {
+            return value;
         }
+        value = edges.getCompactValue(YGEdge.YGEdgeVertical);
+        if (!value.isUndefined()) {
+            return value;
+        }
+        value = edges.getCompactValue(YGEdge.YGEdgeAll);
+        return value.isUndefined() ? defaultValue : value;
     }
 
     public final YGValue getResolvedDimension(int index) {
@@ -111,12 +126,19 @@ public class YGNode {
         if (isDirty == getBooleanData(flags, isDirty_)) {
             return;
         }
-        setBooleanData(flags, isDirty_, isDirty);
+        flags = setBooleanData(flags, isDirty_, isDirty);
         if (isDirty && dirtied_ != null) {
             dirtied_.invoke(this);
         }
     }
 
+    /**
+     * Sets the dirty flag without invoking the dirtied callback, for undoing a dry run that cleaned the node.
+     */
+    public void restoreDirtyFlag() {
+        flags = setBooleanData(flags, isDirty_, true);
+    }
+
     public final boolean hasBaselineFunc() {
         if (baseline_ != null) {
             return baseline_.noContext != null;
@@ -125,21 +147,21 @@ public class YGNode {
     }
 
     public final void setBaselineFunc(YGBaselineFunc baseLineFunc) {
-        setBooleanData(flags, baselineUsesContext_, false);
+        flags = setBooleanData(flags, baselineUsesContext_, false);
         if (baseline_ != null) {
             baseline_.noContext = baseLineFunc;
         }
     }
 
     public final void setBaselineFunc(BaselineWithContextFn baseLineFunc) {
-        setBooleanData(flags, baselineUsesContext_, true);
+        flags = setBooleanData(flags, baselineUsesContext_, true);
         if (baseline_ != null) {
             baseline_.withContext = baseLineFunc;
         }
     }
 
     public final void resetBaselineFunc() {
-        setBooleanData(flags, baselineUsesContext_, false);
+        flags = setBooleanData(flags, baselineUsesContext_, false);
         if (baseline_ != null) {
             baseline_.noContext = null;
         }
@@ -153,21 +175,21 @@ public class YGNode {
         if (print_ != null) {
             print_.noContext = printFunc;
         }
-        setBooleanData(flags, printUsesContext_, false);
+        flags = setBooleanData(flags, printUsesContext_, false);
     }
 
     public final void setPrintFunc(PrintWithContextFn printFunc) {
         if (print_ != null) {
             print_.withContext = printFunc;
         }
-        setBooleanData(flags, printUsesContext_, true);
+        flags = setBooleanData(flags, printUsesContext_, true);
     }
 
     public final void resetPrintFunc() {
         if (print_ != null) {
             print_.noContext = null;
         }
-        setBooleanData(flags, printUsesContext_, false);
+        flags = setBooleanData(flags, printUsesContext_, false);
     }
 
     public final boolean getHasNewLayout() {
@@ -175,19 +197,19 @@ public class YGNode {
     }
 
     public final void setHasNewLayout(boolean hasNewLayout) {
-        setBooleanData(flags, hasNewLayout_, hasNewLayout);
+        flags = setBooleanData(flags, hasNewLayout_, hasNewLayout);
     }
 
     public final YGNodeType getNodeType() {
-        return getEnumData(YGNodeType.class, flags, nodeType_);
+        return getEnumData(nodeTypeValues, flags, nodeType_);
     }
 
     public final void setNodeType( YGNodeType nodeType) {
-        setEnumData(YGNodeType.class, flags, nodeType_, nodeType);
+        flags = setEnumData(nodeTypeValues, flags, nodeType_, nodeType);
     }
 
     public final void setIsReferenceBaseline(boolean isReferenceBaseline) {
-        setBooleanData(flags, isReferenceBaseline_, isReferenceBaseline);
+        flags = setBooleanData(flags, isReferenceBaseline_, isReferenceBaseline);
     }
 
     public final boolean isReferenceBaseline() {
@@ -206,9 +228,10 @@ public class YGNode {
     }
 
     private void useWebDefaults() {
-        setBooleanData(flags, useWebDefaults_, true);
-        style_.flexDirectionBitfieldRef().setValue(YGFlexDirection.YGFlexDirectionRow);
-        style_.alignContentBitfieldRef().setValue(YGAlign.YGAlignStretch);
+        flags = setBooleanData(flags, useWebDefaults_, true);
+        final YGStyle style = mutableStyle();
+        style.flexDirectionBitfieldRef().setValue(YGFlexDirection.YGFlexDirectionRow);
+        style.alignContentBitfieldRef().setValue(YGAlign.YGAlignStretch);
     }
 
     public void print(Object printContext) {
@@ -222,46 +245,27 @@ public class YGNode {
     }
 
     public  YGFloatOptional getLeadingPosition(final  YGFlexDirection axis, final float axisSize) {
-        CompactValue leadingPosition = GlobalMembers.YGFlexDirectionIsRow(axis) ? computeEdgeValueForRow(style_.position(), YGEdge.YGEdgeStart,
-                GlobalMembers.leading.get(axis.getValue()), CompactValue.ofZero()) : computeEdgeValueForColumn(style_.position(),
-                GlobalMembers.leading.get(axis.getValue()), CompactValue.ofZero());
-        return GlobalMembers.YGResolveValue(leadingPosition, axisSize);
+        return GlobalMembers.YGResolveValue(style_.position().leading(axis, CompactValue.ofZero()), axisSize);
     }
 
     public  YGFloatOptional getTrailingPosition(final  YGFlexDirection axis, final float axisSize) {
-        CompactValue trailingPosition = GlobalMembers.YGFlexDirectionIsRow(axis) ? computeEdgeValueForRow(style_.position(), YGEdge.YGEdgeEnd,
-                GlobalMembers.trailing.get(axis.getValue()), CompactValue.ofZero()) : computeEdgeValueForColumn(style_.position(),
-                GlobalMembers.trailing.get(axis.getValue()), CompactValue.ofZero());
-        return GlobalMembers.YGResolveValue(trailingPosition, axisSize);
+        return GlobalMembers.YGResolveValue(style_.position().trailing(axis, CompactValue.ofZero()), axisSize);
     }
 
     public boolean isLeadingPositionDefined(final  YGFlexDirection axis) {
-        CompactValue leadingPosition = GlobalMembers.YGFlexDirectionIsRow(axis) ? computeEdgeValueForRow(style_.position(), YGEdge.YGEdgeStart,
-                GlobalMembers.leading.get(axis.getValue()), CompactValue.ofUndefined()) : computeEdgeValueForColumn(style_.position(),
-                GlobalMembers.leading.get(axis.getValue()), CompactValue.ofUndefined());
-        return !leadingPosition.isUndefined();
+        return !style_.position().leading(axis).isUndefined();
     }
 
     public boolean isTrailingPosDefined(final  YGFlexDirection axis) {
-        CompactValue trailingPosition = GlobalMembers.YGFlexDirectionIsRow(axis) ? computeEdgeValueForRow(style_.position(), YGEdge.YGEdgeEnd,
-                GlobalMembers.trailing.get(axis.getValue()), CompactValue.ofUndefined()) : computeEdgeValueForColumn(
-                style_.position(),
-                GlobalMembers.trailing.get(axis.getValue()), CompactValue.ofUndefined());
-        return !trailingPosition.isUndefined();
+        return !style_.position().trailing(axis).isUndefined();
     }
 
     public  YGFloatOptional getLeadingMargin(final  YGFlexDirection axis, final float widthSize) {
-        CompactValue leadingMargin = GlobalMembers.YGFlexDirectionIsRow(axis) ? computeEdgeValueForRow(style_.margin(), YGEdge.YGEdgeStart,
-                GlobalMembers.leading.get(axis.getValue()), CompactValue.ofZero()) : computeEdgeValueForColumn(style_.margin(),
-                GlobalMembers.leading.get(axis.getValue()), CompactValue.ofZero());
-        return GlobalMembers.YGResolveValueMargin(leadingMargin, widthSize);
+        return GlobalMembers.YGResolveValueMargin(style_.margin().leading(axis, CompactValue.ofZero()), widthSize);
     }
 
     public  YGFloatOptional getTrailingMargin(final  YGFlexDirection axis, final float widthSize) {
-        CompactValue trailingMargin = GlobalMembers.YGFlexDirectionIsRow(axis) ? computeEdgeValueForRow(style_.margin(), YGEdge.YGEdgeEnd,
-                GlobalMembers.trailing.get(axis.getValue()), CompactValue.ofZero()) : computeEdgeValueForColumn(style_.margin(),
-                GlobalMembers.trailing.get(axis.getValue()), CompactValue.ofZero());
-        return GlobalMembers.YGResolveValueMargin(trailingMargin, widthSize);
+        return GlobalMembers.YGResolveValueMargin(style_.margin().trailing(axis, CompactValue.ofZero()), widthSize);
     }
 
     public  YGFloatOptional getMarginForAxis(final  YGFlexDirection axis, final float widthSize) {
@@ -291,13 +295,13 @@ public class YGNode {
     }
 
     public void setMeasureFunc(YGMeasureFunc measureFunc) {
-        setBooleanData(flags, measureUsesContext_, false);
+        flags = setBooleanData(flags, measureUsesContext_, false);
         measure_.noContext = measureFunc;
         setMeasureFunc(measure_);
     }
 
     public void setMeasureFunc(MeasureWithContextFn measureFunc) {
-        setBooleanData(flags, measureUsesContext_, true);
+        flags = setBooleanData(flags, measureUsesContext_, true);
         measure_.withContext = measureFunc;
         setMeasureFunc(measure_);
     }
@@ -327,15 +331,15 @@ public class YGNode {
     }
 
     public void setLayoutMargin(float margin, int index) {
-        layout_.margin.set(index, margin);
+        layout_.setMargin(index, margin);
     }
 
     public void setLayoutBorder(float border, int index) {
-        layout_.border.set(index, border);
+        layout_.setBorder(index, border);
     }
 
     public void setLayoutPadding(float padding, int index) {
-        layout_.padding.set(index, padding);
+        layout_.setPadding(index, padding);
     }
 
     public void setLayoutLastOwnerDirection(YGDirection direction) {
@@ -349,7 +353,7 @@ public class YGNode {
     }
 
     public void setLayoutPosition(float position, int index) {
-        layout_.position.set(index, position);
+        layout_.setPosition(index, position);
     }
 
     public void setLayoutComputedFlexBasisGeneration(Integer computedFlexBasisGeneration) {
@@ -357,7 +361,7 @@ public class YGNode {
     }
 
     public void setLayoutMeasuredDimension(float measuredDimension, int index) {
-        layout_.measuredDimensions.set(index, measuredDimension);
+        layout_.setMeasuredDimension(index, measuredDimension);
     }
 
     public void setLayoutHadOverflow(boolean hadOverflow) {
@@ -365,7 +369,7 @@ public class YGNode {
     }
 
     public void setLayoutDimension(float dimension, int index) {
-        layout_.dimensions.set(index, dimension);
+        layout_.setDimension(index, dimension);
     }
 
     public  YGFloatOptional relativePosition(final  YGFlexDirection axis, final float axisSize) {
@@ -418,9 +422,9 @@ public class YGNode {
     }
 
     public YGValue resolveFlexBasisPtr() {
-        YGValue flexBasis = style_.flexBasis().convertToYgValue();
-        if (flexBasis.unit != YGUnit.YGUnitAuto && flexBasis.unit != YGUnit.YGUnitUndefined) {
-            return flexBasis;
+        CompactValue flexBasis = style_.flexBasis();
+        if (!flexBasis.isAuto() && !flexBasis.isUndefined()) {
+            return flexBasis.convertToYgValue();
         }
         if (!style_.flex().isUndefined() && style_.flex().unwrap() > 0.0f) {
             return getBooleanData(flags, useWebDefaults_) ? GlobalMembers.YGValueAuto : GlobalMembers.YGValueZero;
@@ -474,7 +478,28 @@ public class YGNode {
         }
     }
 
+    /**
+     * Defers {@link #markDirtyAndPropogate()} until {@link #endStyleBatch()}, so a batch of style changes dirties the
+     * node and its owners at most once.
+     */
+    public void beginStyleBatch() {
+        flags = setBooleanData(flags, isBatchingStyle_, true);
+    }
+
+    public void endStyleBatch() {
+        final boolean dirtied = getBooleanData(flags, hasBatchedDirty_);
+        flags = setBooleanData(flags, isBatchingStyle_, false);
+        flags = setBooleanData(flags, hasBatchedDirty_, false);
+        if (dirtied) {
+            markDirtyAndPropogate();
+        }
+    }
+
     public void markDirtyAndPropogate() {
+        if (getBooleanData(flags, isBatchingStyle_)) {
+            flags = setBooleanData(flags, hasBatchedDirty_, true);
+            return;
+        }
         if (!getBooleanData(flags, isDirty_)) {
             setDirty(true);
             setLayoutComputedFlexBasis(new YGFloatOptional());
@@ -485,7 +510,7 @@ public class YGNode {
     }
 
     public void markDirtyAndPropogateDownwards() {
-        setBooleanData(flags, isDirty_, true);
+        flags = setBooleanData(flags, isDirty_, true);
         children_.forEach(YGNode::markDirtyAndPropogateDownwards);
     }
 
@@ -521,32 +546,23 @@ public class YGNode {
     }
 
     public float getLeadingBorder(final  YGFlexDirection axis) {
-        YGValue leadingBorder = (GlobalMembers.YGFlexDirectionIsRow(axis) ? computeEdgeValueForRow(style_.border(),
-                YGEdge.YGEdgeStart,
-                GlobalMembers.leading.get(axis.getValue()), CompactValue.ofZero()) : computeEdgeValueForColumn(style_.border(),
-                GlobalMembers.leading.get(axis.getValue()), CompactValue.ofZero())).convertToYgValue();
-        return Math.max(leadingBorder.value, 0.0f);
+        return Math.max(style_.border().leading(axis, CompactValue.ofZero()).value(), 0.0f);
     }
 
     public float getTrailingBorder(final  YGFlexDirection axis) {
-        YGValue trailingBorder = (GlobalMembers.YGFlexDirectionIsRow(axis) ? computeEdgeValueForRow(style_.border(), YGEdge.YGEdgeEnd,
-                GlobalMembers.trailing.get(axis.getValue()), CompactValue.ofZero()) : computeEdgeValueForColumn(style_.border(),
-                GlobalMembers.trailing.get(axis.getValue()), CompactValue.ofZero())).convertToYgValue();
-        return Math.max(trailingBorder.value, 0.0f);
+        return Math.max(style_.border().trailing(axis, CompactValue.ofZero()).value(), 0.0f);
     }
 
     public YGFloatOptional getLeadingPadding(final  YGFlexDirection axis, final float widthSize) {
-        CompactValue leadingPadding = GlobalMembers.YGFlexDirectionIsRow(axis) ? computeEdgeValueForRow(style_.padding(), YGEdge.YGEdgeStart,
-                GlobalMembers.leading.get(axis.getValue()), CompactValue.ofZero()) : computeEdgeValueForColumn(style_.padding(),
-                GlobalMembers.leading.get(axis.getValue()), CompactValue.ofZero());
-        return GlobalMembers.YGFloatOptionalMax(GlobalMembers.YGResolveValue(leadingPadding, widthSize), new YGFloatOptional(0.0f));
+        return GlobalMembers.YGFloatOptionalMax(
+                GlobalMembers.YGResolveValue(style_.padding().leading(axis, CompactValue.ofZero()), widthSize),
+                new YGFloatOptional(0.0f));
     }
 
     public YGFloatOptional getTrailingPadding(final  YGFlexDirection axis, final float widthSize) {
-        CompactValue trailingPadding = GlobalMembers.YGFlexDirectionIsRow(axis) ? computeEdgeValueForRow(style_.padding(), YGEdge.YGEdgeEnd,
-                GlobalMembers.trailing.get(axis.getValue()), CompactValue.ofZero()) : computeEdgeValueForColumn(style_.padding(),
-                GlobalMembers.trailing.get(axis.getValue()), CompactValue.ofZero());
-        return GlobalMembers.YGFloatOptionalMax(GlobalMembers.YGResolveValue(trailingPadding, widthSize), new YGFloatOptional(0.0f));
+        return GlobalMembers.YGFloatOptionalMax(
+                GlobalMembers.YGResolveValue(style_.padding().trailing(axis, CompactValue.ofZero()), widthSize),
+                new YGFloatOptional(0.0f));
     }
 
     public  YGFloatOptional getLeadingPaddingAndBorder(final  YGFlexDirection axis, final float widthSize) {
@@ -601,15 +617,49 @@ public class YGNode {
         return isLayoutTreeEqual;
     }
 
+    /**
+     * Returns this node to the state of a new node of the same config, reusing its style, layout and child list
+     * unless they are shared with another node.
+     */
     public void reset() {
         GlobalMembers.YGAssertWithNode(this, children_.size() == 0, "Cannot reset a node which still has children attached");
         GlobalMembers.YGAssertWithNode(this, owner_ == null, "Cannot reset a node still attached to a owner");
 
-        clearChildren();
+        final boolean webDefaults = getBooleanData(flags, useWebDefaults_);
+        if (getBooleanData(flags, isStorageShared_)) {
+            measure_ = new measure_Struct();
+            baseline_ = new baseline_Struct();
+            print_ = new print_Struct();
+            layout_ = new YGLayout();
+            children_ = new ArrayList<>();
+            resolvedDimensions_ = new ArrayList<>(
+                    Arrays.asList(GlobalMembers.YGValueUndefined, GlobalMembers.YGValueUndefined));
+        } else {
+            measure_.noContext = null;
+            measure_.withContext = null;
+            measure_.key = null;
+            baseline_.noContext = null;
+            baseline_.withContext = null;
+            print_.noContext = null;
+            print_.withContext = null;
+            layout_.reset();
+            clearChildren();
+            resolvedDimensions_.set(YGDimension.YGDimensionWidth.getValue(), GlobalMembers.YGValueUndefined);
+            resolvedDimensions_.set(YGDimension.YGDimensionHeight.getValue(), GlobalMembers.YGValueUndefined);
+        }
+        if (getBooleanData(flags, isStyleShared_)) {
+            style_ = new YGStyle();
+        } else {
+            style_.reset();
+        }
 
-        boolean webDefaults = getBooleanData(flags, useWebDefaults_);
-        this.config_ = new YGConfig(null);
-        if (webDefaults) {
+        context_ = null;
+        flags = 0;
+        reserved_ = 0;
+        dirtied_ = null;
+        lineIndex_ = 0;
+        rootLayoutState_ = null;
+        if (webDefaults || config_.useWebDefaults) {
             useWebDefaults();
         }
     }
@@ -622,11 +672,11 @@ public class YGNode {
         this.context_ = context_;
     }
 
-    public Map<Object, Object> getFlags() {
+    public int getFlags() {
         return flags;
     }
 
-    public void setFlags(Map<Object, Object> flags) {
+    public void setFlags(int flags) {
         this.flags = flags;
     }
 
@@ -670,12 +720,43 @@ public class YGNode {
         this.dirtied_ = dirtied_;
     }
 
+    /**
+     * Returns the style for reading. It may be shared with other nodes, so writes must go through
+     * {@link #mutableStyle()}.
+     */
     public YGStyle getStyle() {
         return style_;
     }
 
+    /**
+     * Returns a style this node may write to, copying the current one first if it is shared.
+     */
+    public YGStyle mutableStyle() {
+        if (getBooleanData(flags, isStyleShared_)) {
+            style_ = new YGStyle(style_);
+            flags = setBooleanData(flags, isStyleShared_, false);
+        }
+        return style_;
+    }
+
+    /**
+     * Makes this node reference {@code style} without copying it. The style is treated as shared from then on and
+     * is copied on the node's first write.
+     */
     public void setStyle(YGStyle style_) {
         this.style_ = style_;
+        markStyleShared();
+    }
+
+    /**
+     * Makes the next write to this node's style copy it first, for when another node starts referencing it.
+     */
+    public void markStyleShared() {
+        flags = setBooleanData(flags, isStyleShared_, true);
+    }
+
+    public boolean isStyleShared() {
+        return getBooleanData(flags, isStyleShared_);
     }
 
     public YGLayout getLayout() {
@@ -701,6 +782,25 @@ public class YGNode {
 
     public void setOwner(YGNode owner_) {
         this.owner_ = owner_;
+        rootLayoutState_ = null;
+    }
+
+    /**
+     * Returns the root bookkeeping of this node, allocating it on first use.
+     */
+    public YGRootLayoutState getRootLayoutState() {
+        if (rootLayoutState_ == null) {
+            rootLayoutState_ = new YGRootLayoutState();
+        }
+        return rootLayoutState_;
+    }
+
+    /**
+     * Returns the root bookkeeping of this node, or null if it has not been laid out as a root since it last changed
+     * owner.
+     */
+    public YGRootLayoutState peekRootLayoutState() {
+        return rootLayoutState_;
     }
 
     public ArrayList<YGNode> getChildren() {
@@ -731,6 +831,11 @@ public class YGNode {
 
         public  YGMeasureFunc noContext = null;
         public MeasureWithContextFn withContext;
+        /**
+         * Supplies the content key under which {@link YGConfig#sharedMeasureCache} stores this node's measurements,
+         * a null function or key keeps the node out of the shared cache.
+         */
+        public YGMeasureKeyFunc key;
 
     }
 
@@ -0,0 +1,89 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans a fixed number of chunks of work out over an {@link AsyncExecutor}, shared by
+ * {@link io.github.orioncraftmc.meditate.YogaLayoutBatch}, {@link io.github.orioncraftmc.meditate.YogaParallelMeasurer}
+ * and {@link YGSubtreeLayoutTask}.
+ * <p>
+ * Chunks are claimed before they run. The calling thread runs every chunk nobody has claimed yet and then only waits
+ * for the chunks an executor thread claimed, which are already executing, so nested fan-outs on the same executor
+ * cannot deadlock it. On GWT the executor runs every chunk as it is submitted.
+ */
+public final class YGParallelChunks {
+
+    public interface Chunk {
+        void run(int chunk);
+    }
+
+    private YGParallelChunks() {
+    }
+
+    /**
+     * Runs chunks {@code 0} to {@code chunkCount - 1} and returns once every chunk has finished. The first failure is
+     * rethrown after all chunks are done so none is left half run.
+     */
+    public static void invokeAll(AsyncExecutor executor, final int chunkCount, final Chunk chunk) {
+        if (chunkCount <= 1) {
+            if (chunkCount == 1) {
+                chunk.run(0);
+            }
+            return;
+        }
+
+        final AtomicBoolean[] claimed = new AtomicBoolean[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            claimed[i] = new AtomicBoolean();
+        }
+        @SuppressWarnings("unchecked")
+        final AsyncResult<Void>[] results = new AsyncResult[chunkCount];
+        for (int i = 1; i < chunkCount; i++) {
+            final int index = i;
+            results[i] = executor.submit(new AsyncTask<Void>() {
+                @Override
+                public Void call() {
+                    if (claimed[index].compareAndSet(false, true)) {
+                        chunk.run(index);
+                    }
+                    return null;
+                }
+            });
+        }
+
+        RuntimeException failure = null;
+        for (int i = 0; i < chunkCount; i++) {
+            if (!claimed[i].compareAndSet(false, true)) {
+                continue;
+            }
+            results[i] = null;
+            try {
+                chunk.run(i);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        for (int i = 1; i < chunkCount; i++) {
+            if (results[i] == null) {
+                continue;
+            }
+            try {
+                results[i].get();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
+import io.github.orioncraftmc.meditate.internal.event.LayoutData;
+
+/**
+ * Bookkeeping for a node that {@link GlobalMembers#YGNodeCalculateLayoutWithContext} has been called on directly.
+ * It is only allocated for such roots, and dropped whenever the node is attached to or detached from an owner.
+ * <p>
+ * The constraints of the last full pass let the next call return straight away when the root is clean and nothing
+ * about the request changed. The counters of the last full pass and their running totals back the public layout
+ * stats.
+ */
+public class YGRootLayoutState {
+    public float ownerWidth = Float.NaN;
+    public float ownerHeight = Float.NaN;
+    public YGDirection ownerDirection = null;
+    public float pointScaleFactor = Float.NaN;
+
+    /**
+     * Number of calls to {@link GlobalMembers#YGNodeCalculateLayoutWithContext} on this root.
+     */
+    public long calculateCount;
+    /**
+     * Number of those calls that returned through the clean tree fast path.
+     */
+    public long skippedCount;
+
+    public LayoutData lastLayoutData;
+    public long lastDurationNanos;
+    public final LayoutData totalLayoutData = new LayoutData();
+    public long totalDurationNanos;
+    /**
+     * Number of full passes, i.e. calls that did not take the fast path.
+     */
+    public long passCount;
+
+    public void recordPass(LayoutData layoutData, long durationNanos) {
+        lastLayoutData = layoutData;
+        lastDurationNanos = durationNanos;
+        totalLayoutData.merge(layoutData);
+        totalDurationNanos += durationNanos;
+        passCount++;
+    }
+
+    public boolean matches(float ownerWidth, float ownerHeight, YGDirection ownerDirection, float pointScaleFactor) {
+        return ownerDirection == this.ownerDirection && Float.compare(ownerWidth, this.ownerWidth) == 0 && Float.compare(
+                ownerHeight, this.ownerHeight) == 0 && Float.compare(pointScaleFactor, this.pointScaleFactor) == 0;
+    }
+
+    public void update(float ownerWidth, float ownerHeight, YGDirection ownerDirection, float pointScaleFactor) {
+        this.ownerWidth = ownerWidth;
+        this.ownerHeight = ownerHeight;
+        this.ownerDirection = ownerDirection;
+        this.pointScaleFactor = pointScaleFactor;
+    }
+}
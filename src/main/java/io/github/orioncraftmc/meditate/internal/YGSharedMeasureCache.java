@@ -0,0 +1,115 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import io.github.orioncraftmc.meditate.internal.enums.YGMeasureMode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded measurement cache shared by every node of a {@link YGConfig}, keyed by a content key the node supplies
+ * together with the constraints it was measured under. Nodes measuring identical content (the same text and font in
+ * a long list) then call their measure function once per distinct constraint instead of once per node.
+ * <p>
+ * Entries are evicted least recently used first. All methods are synchronized so the cache may be used from
+ * parallel layout passes.
+ */
+public class YGSharedMeasureCache {
+    private final int capacity;
+    private final LinkedHashMap<Key, YGSize> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public YGSharedMeasureCache(final int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<Key, YGSize>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, YGSize> eldest) {
+                if (size() > YGSharedMeasureCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the size measured for {@code contentKey} under the given constraints, or null after counting a miss.
+     */
+    public synchronized YGSize get(Object contentKey, float width, YGMeasureMode widthMode, float height, YGMeasureMode heightMode) {
+        final YGSize size = entries.get(new Key(contentKey, width, widthMode, height, heightMode));
+        if (size == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return new YGSize(size.width, size.height);
+    }
+
+    public synchronized void put(Object contentKey, float width, YGMeasureMode widthMode, float height, YGMeasureMode heightMode, YGSize size) {
+        entries.put(new Key(contentKey, width, widthMode, height, heightMode), new YGSize(size.width, size.height));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Drops every entry, for example after a font change. The counters are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private static final class Key {
+        private final Object contentKey;
+        private final int width;
+        private final int height;
+        private final YGMeasureMode widthMode;
+        private final YGMeasureMode heightMode;
+
+        Key(Object contentKey, float width, YGMeasureMode widthMode, float height, YGMeasureMode heightMode) {
+            this.contentKey = contentKey;
+            this.width = Float.floatToIntBits(width);
+            this.height = Float.floatToIntBits(height);
+            this.widthMode = widthMode;
+            this.heightMode = heightMode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key key = (Key) o;
+            return width == key.width && height == key.height && widthMode == key.widthMode
+                    && heightMode == key.heightMode && contentKey.equals(key.contentKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = contentKey.hashCode();
+            result = 31 * result + width;
+            result = 31 * result + height;
+            result = 31 * result + widthMode.ordinal();
+            result = 31 * result + heightMode.ordinal();
+            return result;
+        }
+    }
+}
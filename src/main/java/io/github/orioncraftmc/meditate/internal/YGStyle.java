@@ -1,43 +1,46 @@
 package io.github.orioncraftmc.meditate.internal;
 
 import io.github.orioncraftmc.meditate.internal.detail.CompactValue;
+import io.github.orioncraftmc.meditate.internal.detail.EdgeValues;
 import static io.github.orioncraftmc.meditate.internal.detail.GlobalMembers.bitWidthFn;
 import static io.github.orioncraftmc.meditate.internal.detail.GlobalMembers.getEnumData;
 import static io.github.orioncraftmc.meditate.internal.detail.GlobalMembers.setEnumData;
 import io.github.orioncraftmc.meditate.internal.detail.Values;
 import io.github.orioncraftmc.meditate.internal.enums.*;
-import java.util.HashMap;
-import java.util.Map;
 
 public class YGStyle //Type originates from: YGStyle.h
 {
 
-    private static final Integer directionOffset = 0;
-    private static final Integer flexdirectionOffset = directionOffset + bitWidthFn(YGDirection.class);
+    private static final int directionOffset = 0;
+    private static final int flexdirectionOffset = directionOffset + bitWidthFn(YGDirection.class);
 
 
-    private static final Integer justifyContentOffset = flexdirectionOffset + bitWidthFn(YGFlexDirection.class);
-    private static final Integer alignContentOffset = justifyContentOffset + bitWidthFn(YGJustify.class);
+    private static final int justifyContentOffset = flexdirectionOffset + bitWidthFn(YGFlexDirection.class);
+    private static final int alignContentOffset = justifyContentOffset + bitWidthFn(YGJustify.class);
 
     //  ~YGStyle() = default;
-    private static final Integer alignItemsOffset = alignContentOffset + bitWidthFn(YGAlign.class);
-    private static final Integer alignSelfOffset = alignItemsOffset + bitWidthFn(YGAlign.class);
-    private static final Integer positionTypeOffset = alignSelfOffset + bitWidthFn(YGAlign.class);
-    private static final Integer flexWrapOffset = positionTypeOffset + bitWidthFn(YGPositionType.class);
-    private static final Integer overflowOffset = flexWrapOffset + bitWidthFn(YGWrap.class);
-    private static final Integer displayOffset = overflowOffset + bitWidthFn(YGOverflow.class);
-    private final Values<YGEdge> margin_ = new Values<>();
-    private final Values<YGEdge> position_ = new Values<>();
-    private final Values<YGEdge> padding_ = new Values<>();
-    private final Values<YGEdge> border_ = new Values<>();
+    private static final int alignItemsOffset = alignContentOffset + bitWidthFn(YGAlign.class);
+    private static final int alignSelfOffset = alignItemsOffset + bitWidthFn(YGAlign.class);
+    private static final int positionTypeOffset = alignSelfOffset + bitWidthFn(YGAlign.class);
+    private static final int flexWrapOffset = positionTypeOffset + bitWidthFn(YGPositionType.class);
+    private static final int overflowOffset = flexWrapOffset + bitWidthFn(YGWrap.class);
+    private static final int displayOffset = overflowOffset + bitWidthFn(YGOverflow.class);
+    private final EdgeValues margin_ = new EdgeValues();
+    private final EdgeValues position_ = new EdgeValues();
+    private final EdgeValues padding_ = new EdgeValues();
+    private final EdgeValues border_ = new EdgeValues();
     private final Values<YGDimension> dimensions_ = new Values<>(CompactValue.ofAuto().convertToYgValue());
     private final Values<YGDimension> minDimensions_ = new Values<>();
     private final Values<YGDimension> maxDimensions_ = new Values<>();
-    private final Map<Object, Object> flags;
-
-    {
-        flags = new HashMap<>();
-    }
+    private static final YGDirection[] directionValues = YGDirection.values();
+    private static final YGFlexDirection[] flexDirectionValues = YGFlexDirection.values();
+    private static final YGJustify[] justifyValues = YGJustify.values();
+    private static final YGAlign[] alignValues = YGAlign.values();
+    private static final YGPositionType[] positionTypeValues = YGPositionType.values();
+    private static final YGWrap[] wrapValues = YGWrap.values();
+    private static final YGOverflow[] overflowValues = YGOverflow.values();
+    private static final YGDisplay[] displayValues = YGDisplay.values();
+    private int flags = 0;
 
     private YGFloatOptional aspectRatio_ = new YGFloatOptional();
     private YGFloatOptional flex_ = new YGFloatOptional();
@@ -45,9 +48,77 @@ public class YGStyle //Type originates from: YGStyle.h
     private YGFloatOptional flexShrink_ = new YGFloatOptional();
     private CompactValue flexBasis_ = CompactValue.ofAuto();
 
+    private static final YGStyle DEFAULT = new YGStyle();
+
     public YGStyle() {
-        setEnumData(YGAlign.class, flags, alignContentOffset, YGAlign.YGAlignFlexStart);
-        setEnumData(YGAlign.class, flags, alignItemsOffset, YGAlign.YGAlignStretch);
+        flags = setEnumData(alignValues, flags, alignContentOffset, YGAlign.YGAlignFlexStart);
+        flags = setEnumData(alignValues, flags, alignItemsOffset, YGAlign.YGAlignStretch);
+    }
+
+    /**
+     * Copies {@code other}, used when a node writes to a style it shares with other nodes.
+     */
+    public YGStyle(final YGStyle other) {
+        copyFrom(other);
+    }
+
+    public final void copyFrom(final YGStyle other) {
+        flags = other.flags;
+        aspectRatio_ = other.aspectRatio_;
+        flex_ = other.flex_;
+        flexGrow_ = other.flexGrow_;
+        flexShrink_ = other.flexShrink_;
+        flexBasis_ = other.flexBasis_;
+        margin_.copyFrom(other.margin_);
+        position_.copyFrom(other.position_);
+        padding_.copyFrom(other.padding_);
+        border_.copyFrom(other.border_);
+        dimensions_.copyFrom(other.dimensions_);
+        minDimensions_.copyFrom(other.minDimensions_);
+        maxDimensions_.copyFrom(other.maxDimensions_);
+    }
+
+    /**
+     * Restores the default style in place.
+     */
+    public final void reset() {
+        copyFrom(DEFAULT);
+    }
+
+    public boolean equalsTo(final YGStyle other) {
+        return flags == other.flags && sameOptional(aspectRatio_, other.aspectRatio_) && sameOptional(flex_,
+                other.flex_) && sameOptional(flexGrow_, other.flexGrow_) && sameOptional(flexShrink_,
+                other.flexShrink_) && CompactValue.equalsTo(flexBasis_, other.flexBasis_) && margin_.equalsTo(
+                other.margin_) && position_.equalsTo(other.position_) && padding_.equalsTo(other.padding_)
+                && border_.equalsTo(other.border_) && dimensions_.equalsTo(other.dimensions_)
+                && minDimensions_.equalsTo(other.minDimensions_) && maxDimensions_.equalsTo(other.maxDimensions_);
+    }
+
+    private static boolean sameOptional(YGFloatOptional a, YGFloatOptional b) {
+        return Float.floatToIntBits(a.unwrap()) == Float.floatToIntBits(b.unwrap());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof YGStyle && equalsTo((YGStyle) o);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = flags;
+        result = 31 * result + Float.floatToIntBits(aspectRatio_.unwrap());
+        result = 31 * result + Float.floatToIntBits(flex_.unwrap());
+        result = 31 * result + Float.floatToIntBits(flexGrow_.unwrap());
+        result = 31 * result + Float.floatToIntBits(flexShrink_.unwrap());
+        result = 31 * result + flexBasis_.hashCode();
+        result = 31 * result + margin_.contentHashCode();
+        result = 31 * result + position_.contentHashCode();
+        result = 31 * result + padding_.contentHashCode();
+        result = 31 * result + border_.contentHashCode();
+        result = 31 * result + dimensions_.contentHashCode();
+        result = 31 * result + minDimensions_.contentHashCode();
+        result = 31 * result + maxDimensions_.contentHashCode();
+        return result;
     }
 
     public void setAspectRatio(YGFloatOptional aspectRatio_) {
@@ -71,84 +142,84 @@ public class YGStyle //Type originates from: YGStyle.h
     }
 
     public final YGDirection direction() {
-        return getEnumData(YGDirection.class, flags, directionOffset);
+        return getEnumData(directionValues, flags, directionOffset);
     }
 
     public final  BitfieldRef<YGDirection> directionBitfieldRef() {
-        return new BitfieldRef<>(this, directionOffset);
+        return new BitfieldRef<>(this, directionOffset, directionValues);
     }
 
     public final YGFlexDirection flexDirection() {
-        return getEnumData(YGFlexDirection.class, flags, flexdirectionOffset);
+        return getEnumData(flexDirectionValues, flags, flexdirectionOffset);
     }
 
     public final  BitfieldRef<YGFlexDirection> flexDirectionBitfieldRef() {
-        return new BitfieldRef<>(this, flexdirectionOffset);
+        return new BitfieldRef<>(this, flexdirectionOffset, flexDirectionValues);
     }
 
     public final YGJustify justifyContent() {
-        return getEnumData(YGJustify.class, flags, justifyContentOffset);
+        return getEnumData(justifyValues, flags, justifyContentOffset);
     }
 
     public final  BitfieldRef<YGJustify> justifyContentBitfieldRef() {
-        return new BitfieldRef<>(this, justifyContentOffset);
+        return new BitfieldRef<>(this, justifyContentOffset, justifyValues);
     }
 
     public final YGAlign alignContent() {
-        return getEnumData(YGAlign.class, flags, alignContentOffset);
+        return getEnumData(alignValues, flags, alignContentOffset);
     }
 
     public final  BitfieldRef<YGAlign> alignContentBitfieldRef() {
-        return new BitfieldRef<>(this, alignContentOffset);
+        return new BitfieldRef<>(this, alignContentOffset, alignValues);
     }
 
     public final YGAlign alignItems() {
-        return getEnumData(YGAlign.class, flags, alignItemsOffset);
+        return getEnumData(alignValues, flags, alignItemsOffset);
     }
 
     public final  BitfieldRef<YGAlign> alignItemsBitfieldRef() {
-        return new BitfieldRef<>(this, alignItemsOffset);
+        return new BitfieldRef<>(this, alignItemsOffset, alignValues);
     }
 
     public final YGAlign alignSelf() {
-        return getEnumData(YGAlign.class, flags, alignSelfOffset);
+        return getEnumData(alignValues, flags, alignSelfOffset);
     }
 
     public final  BitfieldRef<YGAlign> alignSelfBitfieldRef() {
-        return new BitfieldRef<>(this, alignSelfOffset);
+        return new BitfieldRef<>(this, alignSelfOffset, alignValues);
     }
 
     public final YGPositionType positionType() {
-        return getEnumData(YGPositionType.class, flags, positionTypeOffset);
+        return getEnumData(positionTypeValues, flags, positionTypeOffset);
     }
 
     public final  BitfieldRef<YGPositionType> positionTypeBitfieldRef() {
-        return new BitfieldRef<>(this, positionTypeOffset);
+        return new BitfieldRef<>(this, positionTypeOffset, positionTypeValues);
     }
 
     public final YGWrap flexWrap() {
-        return getEnumData(YGWrap.class, flags, flexWrapOffset);
+        return getEnumData(wrapValues, flags, flexWrapOffset);
     }
 
     public final  BitfieldRef<YGWrap> flexWrapBitfieldRef() {
-        return new BitfieldRef<>(this, flexWrapOffset);
+        return new BitfieldRef<>(this, flexWrapOffset, wrapValues);
     }
 
     public final YGOverflow overflow() {
-        return getEnumData(YGOverflow.class, flags, overflowOffset);
+        return getEnumData(overflowValues, flags, overflowOffset);
     }
 
     public final  BitfieldRef<YGOverflow> overflowBitfieldRef() {
-        return new BitfieldRef<>(this, overflowOffset);
+        return new BitfieldRef<>(this, overflowOffset, overflowValues);
     }
 
 
     public final YGDisplay display() {
-        return getEnumData(YGDisplay.class, flags, displayOffset);
+        return getEnumData(displayValues, flags, displayOffset);
     }
 
     public final  BitfieldRef<YGDisplay> displayBitfieldRef() {
-        return new BitfieldRef<>(this, displayOffset);
+        return new BitfieldRef<>(this, displayOffset, displayValues);
     }
 
 
@@ -169,22 +240,22 @@ public class YGStyle //Type originates from: YGStyle.h
     }
 
 
-    public final  Values<YGEdge> margin() {
+    public final  EdgeValues margin() {
         return margin_;
     }
 
 
-    public final  Values<YGEdge> position() {
+    public final  EdgeValues position() {
         return position_;
     }
 
 
-    public final  Values<YGEdge> padding() {
+    public final  EdgeValues padding() {
         return padding_;
     }
 
 
-    public final  Values<YGEdge> border() {
+    public final  EdgeValues border() {
         return border_;
     }
 
@@ -211,19 +282,25 @@ public class YGStyle //Type originates from: YGStyle.h
     public static class BitfieldRef<T extends Enum<T>> //Type originates from: YGStyle.h
     {
         public final YGStyle style;
-        public final Integer offset;
+        public final int offset;
+        private final T[] values;
 
-        public BitfieldRef(YGStyle style, Integer offset) {
+        public BitfieldRef(YGStyle style, int offset, T[] values) {
             this.style = style;
             this.offset = offset;
+            this.values = values;
+        }
+
+        public T getValue() {
+            return getEnumData(values, style.flags, offset);
         }
 
         public T getValue( Class<T> enumClazz) {
-            return getEnumData(enumClazz, style.flags, offset);
+            return getValue();
         }
 
         public final  BitfieldRef<T> setValue( T x) {
-            setEnumData((Class<T>) x.getClass(), style.flags, offset, x);
+            style.flags = setEnumData(values, style.flags, offset, x);
             return this;
         }
     }
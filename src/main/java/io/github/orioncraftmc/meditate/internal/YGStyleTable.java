@@ -0,0 +1,32 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import java.util.HashMap;
+
+/**
+ * Interns {@link YGStyle}s by value so nodes with identical styles can reference one instance. Styles stored here
+ * are never written to: nodes referencing them copy on their first write, see {@link YGNode#mutableStyle()}.
+ */
+public class YGStyleTable {
+    private final HashMap<YGStyle, YGStyle> styles = new HashMap<>();
+
+    /**
+     * Returns the interned style equal to {@code style}, adding {@code style} itself if there is none yet. The
+     * caller must stop writing to {@code style} in place.
+     */
+    public synchronized YGStyle intern(YGStyle style) {
+        final YGStyle interned = styles.get(style);
+        if (interned != null) {
+            return interned;
+        }
+        styles.put(style, style);
+        return style;
+    }
+
+    public synchronized int size() {
+        return styles.size();
+    }
+
+    public synchronized void clear() {
+        styles.clear();
+    }
+}
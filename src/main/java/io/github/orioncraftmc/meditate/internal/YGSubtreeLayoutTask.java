@@ -0,0 +1,84 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
+import io.github.orioncraftmc.meditate.internal.event.LayoutPassReason;
+
+import java.util.ArrayList;
+
+import static io.github.orioncraftmc.meditate.internal.enums.YGMeasureMode.YGMeasureModeExactly;
+
+/**
+ * A deferred exact-size layout of one child subtree, used by
+ * {@link io.github.orioncraftmc.meditate.internal.enums.YGExperimentalFeature#YGExperimentalFeatureParallelSubtreeLayout}.
+ * <p>
+ * A child whose width and height are both exact depends on nothing but its own subtree, so siblings can be laid out in
+ * any order and the result matches the sequential pass. Each task runs with a {@link YGLayoutPassContext#fork()} of
+ * the parent pass so it never shares scratch buffers or counters with another thread.
+ * <p>
+ * Batches run through {@link YGParallelChunks}, whose claiming keeps nested batches from deadlocking the executor.
+ */
+public class YGSubtreeLayoutTask {
+    private final YGNode child;
+    private final float width;
+    private final float height;
+    private final YGDirection direction;
+    private final float ownerWidth;
+    private final float ownerHeight;
+    private final LayoutPassReason reason;
+    private final YGConfig config;
+    private final Object layoutContext;
+    private final int depth;
+
+    public final YGLayoutPassContext pass;
+
+    public YGSubtreeLayoutTask(YGNode child, float width, float height, YGDirection direction, float ownerWidth,
+                               float ownerHeight, LayoutPassReason reason, YGConfig config, YGLayoutPassContext pass,
+                               Object layoutContext, int depth) {
+        this.child = child;
+        this.width = width;
+        this.height = height;
+        this.direction = direction;
+        this.ownerWidth = ownerWidth;
+        this.ownerHeight = ownerHeight;
+        this.reason = reason;
+        this.config = config;
+        this.pass = pass;
+        this.layoutContext = layoutContext;
+        this.depth = depth;
+    }
+
+    public YGNode getChild() {
+        return child;
+    }
+
+    private void run() {
+        GlobalMembers.YGLayoutNodeInternal(child, width, height, direction, YGMeasureModeExactly,
+                YGMeasureModeExactly, ownerWidth, ownerHeight, true, reason, config, pass, layoutContext, depth);
+    }
+
+    /**
+     * Runs all tasks over {@code executor} and returns once every task has finished, see
+     * {@link YGParallelChunks#invokeAll}.
+     */
+    public static void invokeAll(AsyncExecutor executor, final ArrayList<YGSubtreeLayoutTask> tasks) {
+        YGParallelChunks.invokeAll(executor, tasks.size(), task -> tasks.get(task).run());
+    }
+
+    /**
+     * Returns whether the subtree rooted at {@code node} has at least {@code threshold} nodes, visiting no more than
+     * {@code threshold} of them.
+     */
+    public static boolean isSubtreeAtLeast(YGNode node, int threshold) {
+        return countSubtree(node, threshold) >= threshold;
+    }
+
+    private static int countSubtree(YGNode node, int limit) {
+        int count = 1;
+        final int childCount = node.getChildren().size();
+        for (int i = 0; i < childCount && count < limit; i++) {
+            count += countSubtree(node.getChild(i), limit - count);
+        }
+        return count;
+    }
+}
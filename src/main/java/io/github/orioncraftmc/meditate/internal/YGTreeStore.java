@@ -0,0 +1,284 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
+import io.github.orioncraftmc.meditate.internal.interfaces.YGMeasureFunc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * A compact store for large, mostly static trees. Nodes are int ids and the tree itself lives in arrays indexed by
+ * id: the tree as parent / first child / next sibling links, an index into a table of interned styles, the measure
+ * function and context of leaves, and the computed left, top, width and height.
+ * <p>
+ * The first {@link #calculateLayout} builds a {@link YGNode} tree referencing the interned styles (shared, see
+ * {@link YGNode#mutableStyle()}) and runs the regular layout algorithm over it. The node tree is kept and updated in
+ * place by later changes, so the next layouts only redo what those changes dirtied. {@link #releaseNodes} drops it
+ * again, bringing memory at rest back to a few dozen bytes per node at the cost of a full relayout on the next call.
+ */
+public class YGTreeStore {
+    public static final int NO_NODE = -1;
+
+    private static final int LAYOUT_STRIDE = 4;
+
+    private final YGConfig config;
+    private final ArrayList<YGStyle> styles = new ArrayList<>();
+    private final HashMap<YGStyle, Integer> styleIds = new HashMap<>();
+
+    private int size;
+    private int[] parent;
+    private int[] firstChild;
+    private int[] lastChild;
+    private int[] nextSibling;
+    private int[] styleId;
+    private YGMeasureFunc[] measureFuncs;
+    private Object[] contexts;
+    private float[] layout;
+    private YGNode[] nodes;
+
+    public YGTreeStore(YGConfig config, int initialCapacity) {
+        this.config = config;
+        final int capacity = Math.max(1, initialCapacity);
+        parent = new int[capacity];
+        firstChild = new int[capacity];
+        lastChild = new int[capacity];
+        nextSibling = new int[capacity];
+        styleId = new int[capacity];
+        measureFuncs = new YGMeasureFunc[capacity];
+        contexts = new Object[capacity];
+        layout = new float[capacity * LAYOUT_STRIDE];
+        internStyle(new YGNode(config).getStyle());
+    }
+
+    /**
+     * Copies the tree rooted at {@code root} into a new store; the root gets id 0 and ids follow in pre-order. Measure
+     * functions and contexts are copied as they are, measure functions are called with the nodes of the store.
+     */
+    public static YGTreeStore copyOf(YGNode root) {
+        final YGTreeStore store = new YGTreeStore(root.getConfig(), 64);
+        store.copySubtree(root, NO_NODE);
+        return store;
+    }
+
+    private void copySubtree(YGNode node, int parentId) {
+        final int id = addNode(parentId);
+        setStyle(id, node.getStyle());
+        if (node.hasMeasureFunc()) {
+            setMeasureFunc(id, node.getMeasure().noContext);
+        }
+        setContext(id, node.getContext());
+        final ArrayList<YGNode> children = node.getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            copySubtree(children.get(i), id);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getStyleCount() {
+        return styles.size();
+    }
+
+    /**
+     * Appends a node with the default style as the last child of {@code parentId}, or as a new root for
+     * {@link #NO_NODE}, and returns its id.
+     */
+    public int addNode(int parentId) {
+        if (size == parent.length) {
+            grow();
+        }
+        final int id = size++;
+        parent[id] = parentId;
+        firstChild[id] = NO_NODE;
+        lastChild[id] = NO_NODE;
+        nextSibling[id] = NO_NODE;
+        styleId[id] = 0;
+        if (parentId != NO_NODE) {
+            YGAssert(measureFuncs[parentId] == null, "Cannot add a child to a node with a measure function");
+            if (lastChild[parentId] == NO_NODE) {
+                firstChild[parentId] = id;
+            } else {
+                nextSibling[lastChild[parentId]] = id;
+            }
+            lastChild[parentId] = id;
+        }
+        if (nodes != null) {
+            nodes[id] = createNode(id);
+        }
+        return id;
+    }
+
+    public int getParent(int id) {
+        return parent[id];
+    }
+
+    public int getFirstChild(int id) {
+        return firstChild[id];
+    }
+
+    public int getNextSibling(int id) {
+        return nextSibling[id];
+    }
+
+    /**
+     * Makes {@code id} use a style equal to {@code style}; equal styles are stored once.
+     */
+    public void setStyle(int id, YGStyle style) {
+        final int interned = internStyle(style);
+        if (interned == styleId[id]) {
+            return;
+        }
+        styleId[id] = interned;
+        if (nodes != null) {
+            nodes[id].setStyle(styles.get(interned));
+            nodes[id].markDirtyAndPropogate();
+        }
+    }
+
+    /**
+     * Applies a packed style diff, see {@link GlobalMembers#YGNodeSetStyleInputs}, to the style of {@code id}.
+     */
+    public void setStyleInputs(int id, float[] styleInputs, int length) {
+        final YGNode scratch = new YGNode(config);
+        scratch.setStyle(styles.get(styleId[id]));
+        GlobalMembers.YGNodeSetStyleInputs(scratch, styleInputs, length);
+        setStyle(id, scratch.getStyle());
+    }
+
+    public YGStyle getStyle(int id) {
+        return styles.get(styleId[id]);
+    }
+
+    public void setMeasureFunc(int id, YGMeasureFunc measureFunc) {
+        YGAssert(measureFunc == null || firstChild[id] == NO_NODE,
+                "Cannot set measure function: Nodes with measure functions cannot have children.");
+        measureFuncs[id] = measureFunc;
+        if (nodes != null) {
+            nodes[id].setMeasureFunc(measureFunc);
+            nodes[id].markDirtyAndPropogate();
+        }
+    }
+
+    /**
+     * Sets the context that the measure function of {@code id} finds with {@link YGNode#getContext()}.
+     */
+    public void setContext(int id, Object context) {
+        contexts[id] = context;
+        if (nodes != null) {
+            nodes[id].setContext(context);
+        }
+    }
+
+    public Object getContext(int id) {
+        return contexts[id];
+    }
+
+    public float getLayoutLeft(int id) {
+        return layout[id * LAYOUT_STRIDE];
+    }
+
+    public float getLayoutTop(int id) {
+        return layout[id * LAYOUT_STRIDE + 1];
+    }
+
+    public float getLayoutWidth(int id) {
+        return layout[id * LAYOUT_STRIDE + 2];
+    }
+
+    public float getLayoutHeight(int id) {
+        return layout[id * LAYOUT_STRIDE + 3];
+    }
+
+    /**
+     * Lays out the subtree rooted at {@code rootId} as a root, see {@link GlobalMembers#YGNodeCalculateLayout}.
+     */
+    public void calculateLayout(int rootId, float ownerWidth, float ownerHeight, YGDirection ownerDirection) {
+        if (nodes == null) {
+            materialize();
+        }
+        final YGNode root = nodes[rootId];
+        GlobalMembers.YGNodeCalculateLayout(root, ownerWidth, ownerHeight, ownerDirection);
+        readBack(root, rootId);
+        if (parent[rootId] != NO_NODE) {
+            // laid out on its own, the subtree no longer matches what its ancestors have cached
+            root.markDirtyAndPropogate();
+        }
+    }
+
+    /**
+     * Drops the node tree kept since the last {@link #calculateLayout}; the computed layout stays readable and the
+     * next layout rebuilds the tree.
+     */
+    public void releaseNodes() {
+        nodes = null;
+    }
+
+    private void materialize() {
+        nodes = new YGNode[parent.length];
+        // a parent always has a lower id than its children, and siblings are in id order
+        for (int id = 0; id < size; id++) {
+            nodes[id] = createNode(id);
+        }
+    }
+
+    private YGNode createNode(int id) {
+        final YGNode node = new YGNode(config);
+        node.setStyle(styles.get(styleId[id]));
+        node.setContext(contexts[id]);
+        if (measureFuncs[id] != null) {
+            node.setMeasureFunc(measureFuncs[id]);
+        }
+        if (parent[id] != NO_NODE) {
+            final YGNode owner = nodes[parent[id]];
+            GlobalMembers.YGNodeInsertChild(owner, node, owner.getChildren().size());
+        }
+        return node;
+    }
+
+    private void readBack(YGNode node, int id) {
+        final int offset = id * LAYOUT_STRIDE;
+        layout[offset] = GlobalMembers.YGNodeLayoutGetLeft(node);
+        layout[offset + 1] = GlobalMembers.YGNodeLayoutGetTop(node);
+        layout[offset + 2] = GlobalMembers.YGNodeLayoutGetWidth(node);
+        layout[offset + 3] = GlobalMembers.YGNodeLayoutGetHeight(node);
+        final ArrayList<YGNode> children = node.getChildren();
+        int child = firstChild[id];
+        for (int i = 0; i < children.size(); i++, child = nextSibling[child]) {
+            readBack(children.get(i), child);
+        }
+    }
+
+    private int internStyle(YGStyle style) {
+        final Integer existing = styleIds.get(style);
+        if (existing != null) {
+            return existing;
+        }
+        final YGStyle interned = new YGStyle(style);
+        final int id = styles.size();
+        styles.add(interned);
+        styleIds.put(interned, id);
+        return id;
+    }
+
+    private void grow() {
+        final int capacity = parent.length * 2;
+        parent = Arrays.copyOf(parent, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        lastChild = Arrays.copyOf(lastChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        styleId = Arrays.copyOf(styleId, capacity);
+        measureFuncs = Arrays.copyOf(measureFuncs, capacity);
+        contexts = Arrays.copyOf(contexts, capacity);
+        if (nodes != null) {
+            nodes = Arrays.copyOf(nodes, capacity);
+        }
+        layout = Arrays.copyOf(layout, capacity * LAYOUT_STRIDE);
+    }
+
+    private static void YGAssert(boolean condition, String message) {
+        GlobalMembers.YGAssert(condition, message);
+    }
+}
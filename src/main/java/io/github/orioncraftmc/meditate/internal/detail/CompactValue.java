@@ -6,26 +6,44 @@ package io.github.orioncraftmc.meditate.internal.detail;
 import io.github.orioncraftmc.meditate.internal.YGValue;
 import io.github.orioncraftmc.meditate.internal.enums.YGUnit;
 
-public class CompactValue //Type originates from: CompactValue.h
+/**
+ * An immutable style value packed into a single int, using the same NaN-boxing scheme as the C++ CompactValue:
+ * point and percent values are stored as float bits with their exponent shifted down by {@link #BIAS}, percent
+ * values additionally carry {@link #PERCENT_BIT}, and auto, undefined and the two zeros are reserved NaN patterns.
+ * <p>
+ * Instances are shared freely, so the constants returned by {@link #ofUndefined()}, {@link #ofAuto()} and
+ * {@link #ofZero()} are singletons.
+ */
+public final class CompactValue //Type originates from: CompactValue.h
 {
     public static final float LOWER_BOUND = 1.08420217e-19f;
     public static final float UPPER_BOUND_POINT = 36893485948395847680.0f;
     public static final float UPPER_BOUND_PERCENT = 18446742974197923840.0f;
-    private final Payload payload_;
-    private boolean undefined;
 
-    public CompactValue() {
-        undefined = true;
-        this.payload_ = new CompactValue.Payload(Float.NaN, YGUnit.YGUnitUndefined);
-    }
+    private static final int BIAS = 0x20000000;
+    private static final int PERCENT_BIT = 0x40000000;
+
+    // these are signaling NaNs with specific bit pattern as payload they will be
+    // silenced whenever going through an FPU operation on ARM + x86
+    private static final int AUTO_BITS = 0x7faaaaaa;
+    private static final int ZERO_BITS_POINT = 0x7f8f0f0f;
+    private static final int ZERO_BITS_PERCENT = 0x7f80f0f0;
+    private static final int UNDEFINED_BITS = 0x7fc00000;
+
+    private static final CompactValue UNDEFINED = new CompactValue(UNDEFINED_BITS);
+    private static final CompactValue AUTO = new CompactValue(AUTO_BITS);
+    private static final CompactValue ZERO_POINT = new CompactValue(ZERO_BITS_POINT);
+    private static final CompactValue ZERO_PERCENT = new CompactValue(ZERO_BITS_PERCENT);
 
-    private CompactValue(Payload data) {
-        this.payload_ = data;
+    private final int repr_;
+
+    private CompactValue(int repr) {
+        this.repr_ = repr;
     }
 
     public static  CompactValue of(float value, YGUnit Unit) {
-        if ((value < LOWER_BOUND && value > -LOWER_BOUND)) {
-            return new CompactValue(new Payload(0f, Unit));
+        if (value == 0.0f || (value < LOWER_BOUND && value > -LOWER_BOUND)) {
+            return Unit == YGUnit.YGUnitPercent ? ZERO_PERCENT : ZERO_POINT;
         }
 
         final float upperBound = Unit == YGUnit.YGUnitPercent ? UPPER_BOUND_PERCENT : UPPER_BOUND_POINT;
@@ -33,7 +51,10 @@ public class CompactValue //Type originates from: CompactValue.h
             value = Math.copySign(upperBound, value);
         }
 
-        CompactValue.Payload data = new Payload((value), Unit);
+        int data = Float.floatToRawIntBits(value) - BIAS;
+        if (Unit == YGUnit.YGUnitPercent) {
+            data |= PERCENT_BIT;
+        }
         return new CompactValue(data);
     }
 
@@ -42,15 +63,15 @@ public class CompactValue //Type originates from: CompactValue.h
     }
 
     public static  CompactValue ofZero() {
-        return new CompactValue(new Payload(0f, YGUnit.YGUnitPoint));
+        return ZERO_POINT;
     }
 
     public static  CompactValue ofUndefined() {
-        return new CompactValue();
+        return UNDEFINED;
     }
 
     public static  CompactValue ofAuto() {
-        return new CompactValue(new Payload(0f, YGUnit.YGUnitAuto));
+        return AUTO;
     }
 
     public static  CompactValue createCompactValue(final  YGValue x) {
@@ -77,42 +98,67 @@ public class CompactValue //Type originates from: CompactValue.h
 
     public static boolean equalsTo( CompactValue a,  CompactValue b) //Method definition originates from: CompactValue.h
     {
-        return a.payload_.unit.equals(b.payload_.unit) && a.payload_.value == b.payload_.value;
+        return a.repr_ == b.repr_;
     }
 
     public YGValue convertToYgValue() {
-        return new YGValue(payload_.value, payload_.unit);
-    }
+        return new YGValue(value(), unit());
+    }
+
+    /**
+     * Returns the unit without materialising a {@link YGValue}.
+     */
+    public YGUnit unit() {
+        switch (repr_) {
+            case AUTO_BITS:
+                return YGUnit.YGUnitAuto;
+            case ZERO_BITS_POINT:
+                return YGUnit.YGUnitPoint;
+            case ZERO_BITS_PERCENT:
+                return YGUnit.YGUnitPercent;
+        }
 
-    public final boolean isUndefined() {
-        return undefined || (!isAuto() && !isPoint() && !isPercent() && Float.isNaN(payload_.value));
+        if (Float.isNaN(Float.intBitsToFloat(repr_))) {
+            return YGUnit.YGUnitUndefined;
+        }
+
+        return (repr_ & PERCENT_BIT) != 0 ? YGUnit.YGUnitPercent : YGUnit.YGUnitPoint;
     }
 
-    private boolean isPercent() {
-        return payload_.unit.equals(YGUnit.YGUnitPercent);
+    /**
+     * Returns the numeric value without materialising a {@link YGValue}; undefined values are NaN, auto is 0.
+     */
+    public float value() {
+        switch (repr_) {
+            case AUTO_BITS:
+            case ZERO_BITS_POINT:
+            case ZERO_BITS_PERCENT:
+                return 0f;
+        }
+
+        if (Float.isNaN(Float.intBitsToFloat(repr_))) {
+            return Float.NaN;
+        }
+
+        return Float.intBitsToFloat((repr_ & ~PERCENT_BIT) + BIAS);
     }
 
-    private boolean isPoint() {
-        return payload_.unit.equals(YGUnit.YGUnitPoint);
+    public final boolean isUndefined() {
+        return repr_ != AUTO_BITS && repr_ != ZERO_BITS_POINT && repr_ != ZERO_BITS_PERCENT && Float.isNaN(
+                Float.intBitsToFloat(repr_));
     }
 
     public final boolean isAuto() {
-        return payload_.unit.equals(YGUnit.YGUnitAuto);
+        return repr_ == AUTO_BITS;
     }
 
-    private YGUnit repr() {
-        return (payload_.unit);
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CompactValue && ((CompactValue) o).repr_ == repr_;
     }
 
-    private static class Payload //Type originates from: CompactValue.h
-    {
-        public final float value;
-        public final YGUnit unit;
-
-        public Payload(float value, YGUnit unit) {
-            this.value = value;
-            this.unit = unit;
-        }
-
+    @Override
+    public int hashCode() {
+        return repr_;
     }
 }
@@ -0,0 +1,72 @@
+package io.github.orioncraftmc.meditate.internal.detail;
+
+import io.github.orioncraftmc.meditate.internal.GlobalMembers;
+import io.github.orioncraftmc.meditate.internal.YGNode;
+import io.github.orioncraftmc.meditate.internal.enums.YGEdge;
+import io.github.orioncraftmc.meditate.internal.enums.YGFlexDirection;
+
+/**
+ * Fixed size storage for the nine {@link YGEdge} values of margin, padding, border and position. Next to the raw
+ * edges it keeps the leading and trailing value of every flex direction, already resolved through the
+ * Start/End, Horizontal/Vertical and All fallbacks, and re-resolves them whenever an edge is set.
+ * Resolved values are undefined when no edge applies, callers supply their own default.
+ */
+public final class EdgeValues extends Values<YGEdge> {
+    private static final YGFlexDirection[] axes = YGFlexDirection.values();
+
+    private final CompactValue[] leading_ = new CompactValue[axes.length];
+    private final CompactValue[] trailing_ = new CompactValue[axes.length];
+
+    public EdgeValues() {
+        super(YGEdge.values().length);
+        resolve();
+    }
+
+    @Override
+    public void set(Integer i, CompactValue value) {
+        super.set(i, value);
+        resolve();
+    }
+
+    @Override
+    public void copyFrom(Values<YGEdge> other) {
+        super.copyFrom(other);
+        resolve();
+    }
+
+    public CompactValue leading(YGFlexDirection axis) {
+        return leading_[axis.ordinal()];
+    }
+
+    public CompactValue leading(YGFlexDirection axis, CompactValue defaultValue) {
+        CompactValue value = leading_[axis.ordinal()];
+        return value.isUndefined() ? defaultValue : value;
+    }
+
+    public CompactValue trailing(YGFlexDirection axis) {
+        return trailing_[axis.ordinal()];
+    }
+
+    public CompactValue trailing(YGFlexDirection axis, CompactValue defaultValue) {
+        CompactValue value = trailing_[axis.ordinal()];
+        return value.isUndefined() ? defaultValue : value;
+    }
+
+    private void resolve() {
+        for (YGFlexDirection axis : axes) {
+            YGEdge leadingEdge = GlobalMembers.leading.get(axis.getValue());
+            YGEdge trailingEdge = GlobalMembers.trailing.get(axis.getValue());
+            if (GlobalMembers.YGFlexDirectionIsRow(axis)) {
+                leading_[axis.ordinal()] = YGNode.computeEdgeValueForRow(this, YGEdge.YGEdgeStart, leadingEdge,
+                        CompactValue.ofUndefined());
+                trailing_[axis.ordinal()] = YGNode.computeEdgeValueForRow(this, YGEdge.YGEdgeEnd, trailingEdge,
+                        CompactValue.ofUndefined());
+            } else {
+                leading_[axis.ordinal()] = YGNode.computeEdgeValueForColumn(this, leadingEdge,
+                        CompactValue.ofUndefined());
+                trailing_[axis.ordinal()] = YGNode.computeEdgeValueForColumn(this, trailingEdge,
+                        CompactValue.ofUndefined());
+            }
+        }
+    }
+}
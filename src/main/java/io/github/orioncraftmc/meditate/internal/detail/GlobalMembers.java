@@ -4,8 +4,6 @@ import static io.github.orioncraftmc.meditate.internal.GlobalMembers.YGConfigGet
 import io.github.orioncraftmc.meditate.internal.YGConfig;
 import io.github.orioncraftmc.meditate.internal.YGNode;
 import io.github.orioncraftmc.meditate.internal.enums.YGLogLevel;
-import java.util.Arrays;
-import java.util.Map;
 
 public class GlobalMembers {
     public static void vlog( YGConfig config, YGNode node, YGLogLevel level, Object context, String format, Object... args) {
@@ -13,36 +11,44 @@ public class GlobalMembers {
         logConfig.log(logConfig, node, level, context, format, args);
     }
 
-    public static  Integer log2ceilFn(Integer n) {
+    public static int log2ceilFn(int n) {
         return n < 1 ? 0 : (1 + log2ceilFn(n / 2));
     }
 
-    public static int mask(Integer bitWidth, Integer index) {
+    public static int mask(int bitWidth, int index) {
         return ((1 << bitWidth) - 1) << index;
     }
 
     public static <E extends Enum<E>> int bitWidthFn( Class<E> e) {
-        return (log2ceilFn(e.getEnumConstants().length - 1));
+        return bitWidthFn(e.getEnumConstants());
     }
 
-    public static <E extends Enum<E>> E getEnumData( Class<E> e, Map<Object, Object> flags, Integer index) {
-        return (E) flags.getOrDefault(new StyleEnumFlagsKey(e, index),
-                Arrays.stream(e.getEnumConstants()).findFirst().get());
+    public static <E extends Enum<E>> int bitWidthFn( E[] values) {
+        return 32 - Integer.numberOfLeadingZeros(values.length - 1);
     }
 
+    /**
+     * Reads an enum packed into {@code flags} at bit {@code index}. {@code values} must be the cached
+     * {@code values()} array of the enum, the stored bits are its ordinal.
+     */
+    public static <E extends Enum<E>> E getEnumData( E[] values, int flags, int index) {
+        return values[(flags & mask(bitWidthFn(values), index)) >>> index];
+    }
 
-    public static <E extends Enum<E>> int setEnumData( Class<E> e, Map<Object, Object> flags, int index,  E newValue) {
-        flags.put(new StyleEnumFlagsKey(e, index), newValue);
-        return 0;
+    /**
+     * Packs {@code newValue} into {@code flags} at bit {@code index} and returns the updated flags.
+     */
+    public static <E extends Enum<E>> int setEnumData( E[] values, int flags, int index,  E newValue) {
+        int mask = mask(bitWidthFn(values), index);
+        return (flags & ~mask) | ((newValue.ordinal() << index) & mask);
     }
 
-    public static boolean getBooleanData(Map<Object, Object> flags, Integer index) {
-        return (boolean) flags.getOrDefault(index, false);
+    public static boolean getBooleanData(int flags, int index) {
+        return (flags & (1 << index)) != 0;
     }
 
-    public static int setBooleanData(Map<Object, Object> flags, int index, boolean value) {
-        flags.put(index, value);
-        return 0;
+    public static int setBooleanData(int flags, int index, boolean value) {
+        return value ? flags | (1 << index) : flags & ~(1 << index);
     }
 
     private boolean notEqualsTo( CompactValue a,  CompactValue b) {
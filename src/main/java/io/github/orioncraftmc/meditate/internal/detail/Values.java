@@ -2,49 +2,57 @@ package io.github.orioncraftmc.meditate.internal.detail;
 
 import io.github.orioncraftmc.meditate.internal.YGValue;
 import io.github.orioncraftmc.meditate.internal.enums.YGEdge;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 
 public class Values<T> //Type originates from: Yoga-internal.h
 {
-    private final ArrayList<CompactValue> values_;
+    private static final CompactValue[] EMPTY = new CompactValue[0];
+
+    // CompactValue is immutable, so reads hand out the stored instances. Indices past the end are undefined.
+    private CompactValue[] values_;
 
 
     public Values() {
-        values_ = new ArrayList<>();
+        values_ = EMPTY;
+    }
+
+    protected Values(int size) {
+        values_ = new CompactValue[size];
+        Arrays.fill(values_, CompactValue.ofUndefined());
     }
 
     public Values(final  YGValue defaultValue) {
-        values_ = new ArrayList<>();
-        values_.add(CompactValue.createCompactValue(defaultValue));
+        values_ = new CompactValue[] {CompactValue.createCompactValue(defaultValue)};
     }
 
     public Values(final  YGValue defaultValue, int size) {
-        values_ = new ArrayList<>(size);
-        values_.add(CompactValue.createCompactValue(defaultValue));
+        this(defaultValue);
     }
 
     public final  CompactValue get(Integer i) {
-        return CompactValue.createCompactValue(getValue(i).convertToYgValue());
+        return getValue(i);
     }
 
-    private CompactValue getValue(Integer i) {
-        while (values_.size() < (i + 1)) {
-            values_.add(CompactValue.ofUndefined());
-        }
-        return values_.get(i);
+    private CompactValue getValue(int i) {
+        return i < values_.length ? values_[i] : CompactValue.ofUndefined();
     }
 
-    public final void set(Integer i, CompactValue value) {
-        values_.set(i, value);
+    public void set(Integer i, CompactValue value) {
+        if (values_.length < i + 1) {
+            int oldLength = values_.length;
+            values_ = Arrays.copyOf(values_, i + 1);
+            Arrays.fill(values_, oldLength, values_.length, CompactValue.ofUndefined());
+        }
+        values_[i] = value;
     }
 
     public final  CompactValue getCompactValue( YGEdge edge) {
-        return getCompactValue(edge.getValue());
+        return getValue(edge.getValue());
     }
 
-    public final  CompactValue getCompactValue(Integer i) {
-        return CompactValue.createCompactValue(getValue(i).convertToYgValue());
+    public final  CompactValue getCompactValue(int i) {
+        return getValue(i);
     }
 
     public final YGValue get(int i) {
@@ -53,15 +61,34 @@ public class Values<T> //Type originates from: Yoga-internal.h
 
 
     public final void set(int i,  YGValue value) {
-        values_.set(i, CompactValue.createCompactValue(value));
+        set((Integer) i, CompactValue.createCompactValue(value));
+    }
+
+    /**
+     * Replaces the contents with a copy of {@code other}'s.
+     */
+    public void copyFrom(final  Values<T> other) {
+        values_ = other.values_.length == 0 ? EMPTY : other.values_.clone();
+    }
+
+    public int contentHashCode() {
+        int result = 1;
+        int length = values_.length;
+        while (length > 0 && values_[length - 1].isUndefined()) {
+            length--;
+        }
+        for (int i = 0; i < length; i++) {
+            result = 31 * result + values_[i].hashCode();
+        }
+        return result;
     }
 
     public boolean equalsTo(final  Values<T> other) {
-        for (int i = 0; i < values_.size(); ++i) {
-            if (getValue(i) != other.getValue(i)) {
+        for (int i = 0; i < Math.max(values_.length, other.values_.length); ++i) {
+            if (!CompactValue.equalsTo(getValue(i), other.getValue(i))) {
                 return false;
             }
         }
         return true;
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,8 @@
 package io.github.orioncraftmc.meditate.internal.enums;
 
 public enum YGExperimentalFeature {
-    YGExperimentalFeatureWebFlexBasis;
+    YGExperimentalFeatureWebFlexBasis,
+    YGExperimentalFeatureParallelSubtreeLayout;
 
     public static final int SIZE = java.lang.Integer.SIZE;
 
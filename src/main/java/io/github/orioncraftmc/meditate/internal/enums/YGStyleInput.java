@@ -0,0 +1,74 @@
+package io.github.orioncraftmc.meditate.internal.enums;
+
+/**
+ * Opcodes of a packed style buffer read by {@code YGNodeSetStyleInputs}, mirrored by the public
+ * {@code YogaStyleInputs} constants. Each opcode is followed by its operands: an edge for the edge based properties,
+ * then the value unless the opcode is one of the {@code *Auto} ones, which only take the edge if any.
+ */
+public enum YGStyleInput {
+    LayoutDirection(1),
+    FlexDirection(1),
+    Flex(1),
+    FlexGrow(1),
+    FlexShrink(1),
+    FlexBasis(1),
+    FlexBasisPercent(1),
+    FlexBasisAuto(0),
+    FlexWrap(1),
+    Width(1),
+    WidthPercent(1),
+    WidthAuto(0),
+    MinWidth(1),
+    MinWidthPercent(1),
+    MaxWidth(1),
+    MaxWidthPercent(1),
+    Height(1),
+    HeightPercent(1),
+    HeightAuto(0),
+    MinHeight(1),
+    MinHeightPercent(1),
+    MaxHeight(1),
+    MaxHeightPercent(1),
+    JustifyContent(1),
+    AlignItems(1),
+    AlignSelf(1),
+    AlignContent(1),
+    PositionType(1),
+    AspectRatio(1),
+    Overflow(1),
+    Display(1),
+    Margin(2),
+    MarginPercent(2),
+    MarginAuto(1),
+    Padding(2),
+    PaddingPercent(2),
+    Border(2),
+    Position(2),
+    PositionPercent(2),
+    IsReferenceBaseline(1);
+
+    private static final YGStyleInput[] VALUES = values();
+
+    public static final int COUNT = VALUES.length;
+
+    private final int operandCount;
+
+    YGStyleInput(int operandCount) {
+        this.operandCount = operandCount;
+    }
+
+    public static YGStyleInput forValue(int value) {
+        return VALUES[value];
+    }
+
+    public int getValue() {
+        return this.ordinal();
+    }
+
+    /**
+     * Number of floats that follow the opcode in a packed buffer.
+     */
+    public int getOperandCount() {
+        return operandCount;
+    }
+}
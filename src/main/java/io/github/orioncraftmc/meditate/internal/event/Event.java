@@ -2,64 +2,115 @@ package io.github.orioncraftmc.meditate.internal.event;
 
 import io.github.orioncraftmc.meditate.internal.YGNode;
 
-import java.util.ArrayDeque;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Consumer;
 
+/**
+ * Global event registry.
+ * <p>
+ * Listeners are stored per {@link Type} in an immutable snapshot that {@link #subscribe} and {@link #reset} replace
+ * under a lock, so the registry can be changed while layouts run on other threads. Call sites check
+ * {@link #isSubscribed(Type)} before building their payload; with no listeners that check is one volatile read and
+ * nothing is allocated.
+ */
 public class Event //Type originates from: event.h
 {
+    private static final Type[] types = Type.values();
+    private static final EmptyEventData EMPTY = new EmptyEventData();
 
-    private static final HashMap<Class<?>, Collection<Consumer<CallableEvent>>> listeners = new HashMap<>();
+    // indexed by Type ordinal, a null entry means no listeners
+    private static volatile Consumer<CallableEvent>[][] listeners = newListenerTable();
 
-    public static void reset() //Method definition originates from: event.cpp
+    @SuppressWarnings("unchecked")
+    private static Consumer<CallableEvent>[][] newListenerTable() {
+        return new Consumer[types.length][];
+    }
+
+    public static synchronized void reset() //Method definition originates from: event.cpp
     {
-        listeners.clear();
+        listeners = newListenerTable();
     }
 
 
-    public static <T extends CallableEvent> void subscribe(Class<T> clazz, Consumer<T> listener) //Method definition originates from: event.cpp
+    /**
+     * Subscribes {@code listener} to every event type whose payload is {@code clazz}.
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized <T extends CallableEvent> void subscribe(Class<T> clazz, Consumer<T> listener) //Method definition originates from: event.cpp
     {
-        listeners.computeIfAbsent(clazz, aClass -> new ArrayDeque<>()).add(
-                (Consumer<CallableEvent>) listener);
+        final Consumer<CallableEvent>[][] updated = listeners.clone();
+        for (Type type : types) {
+            if (type.dataClass != clazz) {
+                continue;
+            }
+            final Consumer<CallableEvent>[] existing = updated[type.ordinal()];
+            final int count = existing == null ? 0 : existing.length;
+            final Consumer<CallableEvent>[] typeListeners = new Consumer[count + 1];
+            if (existing != null) {
+                System.arraycopy(existing, 0, typeListeners, 0, count);
+            }
+            typeListeners[count] = (Consumer<CallableEvent>) listener;
+            updated[type.ordinal()] = typeListeners;
+        }
+        listeners = updated;
+    }
+
+    public static boolean isSubscribed(Type type) {
+        return listeners[type.ordinal()] != null;
     }
 
 
     public static void publish(final YGNode node) {
-        publish(node, new EmptyEventData());
+        publish(node, EMPTY);
     }
 
 
     public static void publish(final YGNode node, final  CallableEvent eventData) {
-        Collection<Consumer<CallableEvent>> listeners = Event.listeners.get(eventData.getClass());
-        if (listeners != null) {
-            for ( Consumer<CallableEvent> listener : listeners) {
-                listener.accept(eventData);
+        final Class<?> dataClass = eventData.getClass();
+        for (Type type : types) {
+            if (type.dataClass == dataClass) {
+                publish(node, type, eventData);
+                return;
             }
         }
     }
 
+    /**
+     * Publishes a payload-less event of the given type.
+     */
+    public static void publish(final YGNode node, Type eventType) {
+        publish(node, eventType, EMPTY);
+    }
 
-    private static void publish(final YGNode node, Type eventType, final  CallableEvent eventData) //Method definition originates from: event.cpp
+    public static void publish(final YGNode node, Type eventType, final  CallableEvent eventData) //Method definition originates from: event.cpp
     {
-        publish(node, eventData);
+        final Consumer<CallableEvent>[] typeListeners = listeners[eventType.ordinal()];
+        if (typeListeners != null) {
+            for (Consumer<CallableEvent> listener : typeListeners) {
+                listener.accept(eventData);
+            }
+        }
     }
 
     public enum Type //Type originates from: event.h
     {
-        NodeAllocation,
-        NodeDeallocation,
-        NodeLayout,
-        LayoutPassStart,
-        LayoutPassEnd,
-        MeasureCallbackStart,
-        MeasureCallbackEnd,
-        NodeBaselineStart,
-        NodeBaselineEnd;
+        NodeAllocation(NodeAllocationEventData.class),
+        NodeDeallocation(NodeDeallocationEventData.class),
+        NodeLayout(NodeLayoutEventData.class),
+        LayoutPassStart(LayoutPassStartEventData.class),
+        LayoutPassEnd(LayoutPassEndEventData.class),
+        MeasureCallbackStart(EmptyEventData.class),
+        MeasureCallbackEnd(MeasureCallbackEndEventData.class),
+        NodeBaselineStart(EmptyEventData.class),
+        NodeBaselineEnd(EmptyEventData.class);
 
         public static final int SIZE = java.lang.Integer.SIZE;
 
+        private final Class<? extends CallableEvent> dataClass;
+
+        Type(Class<? extends CallableEvent> dataClass) {
+            this.dataClass = dataClass;
+        }
+
         public static Type forValue(int value) {
             return values()[value];
         }
@@ -74,4 +125,4 @@ public class Event //Type originates from: event.h
     {
     }
 
-}
\ No newline at end of file
+}
@@ -10,6 +10,11 @@ public class LayoutData extends CallableEvent //Type originates from: event.h
     public int cachedLayouts;
     public int cachedMeasures;
     public int measureCallbacks;
+    public int measureCacheHits;
+    public int measureCacheMisses;
+    public int measureCacheEvictions;
+    public int sharedMeasureCacheHits;
+    public int batchedMeasureCallbacks;
     public final  ArrayList<Integer> measureCallbackReasonsCount = new ArrayList<>();
 
     public LayoutData() {
@@ -17,4 +22,24 @@ public class LayoutData extends CallableEvent //Type originates from: event.h
             measureCallbackReasonsCount.add(0);
         }
     }
+
+    /**
+     * Adds the counters collected by a forked subtree layout to this pass.
+     */
+    public void merge(LayoutData other) {
+        layouts += other.layouts;
+        measures += other.measures;
+        maxMeasureCache = Math.max(maxMeasureCache, other.maxMeasureCache);
+        cachedLayouts += other.cachedLayouts;
+        cachedMeasures += other.cachedMeasures;
+        measureCallbacks += other.measureCallbacks;
+        measureCacheHits += other.measureCacheHits;
+        measureCacheMisses += other.measureCacheMisses;
+        measureCacheEvictions += other.measureCacheEvictions;
+        sharedMeasureCacheHits += other.sharedMeasureCacheHits;
+        batchedMeasureCallbacks += other.batchedMeasureCallbacks;
+        for (int i = 0; i < measureCallbackReasonsCount.size(); i++) {
+            measureCallbackReasonsCount.set(i, measureCallbackReasonsCount.get(i) + other.measureCallbackReasonsCount.get(i));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package io.github.orioncraftmc.meditate.internal.interfaces;
+
+import io.github.orioncraftmc.meditate.internal.YGMeasureRequest;
+
+import java.util.List;
+
+@FunctionalInterface
+public
+interface YGBatchMeasureFunc {
+     void invoke(List<YGMeasureRequest> requests);
+}
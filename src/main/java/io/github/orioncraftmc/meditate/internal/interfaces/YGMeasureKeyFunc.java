@@ -0,0 +1,9 @@
+package io.github.orioncraftmc.meditate.internal.interfaces;
+
+import io.github.orioncraftmc.meditate.internal.YGNode;
+
+@FunctionalInterface
+public
+interface YGMeasureKeyFunc {
+     Object invoke(YGNode node);
+}
@@ -0,0 +1,119 @@
+package dev.lyze.flexbox;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import io.github.orioncraftmc.meditate.YogaNode;
+import io.github.orioncraftmc.meditate.enums.YogaEdge;
+import io.github.orioncraftmc.meditate.enums.YogaFlexDirection;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the cached bounds {@link FlexBox#layout()} gives actors against the position found by walking up the owner
+ * chain.
+ */
+public class FlexBoxBoundsTest {
+    private final List<YogaNode> actorNodes = new ArrayList<>();
+    private final List<Actor> actors = new ArrayList<>();
+
+    private Actor add(FlexBox flexBox, YogaNode parent, float size) {
+        Actor actor = new Actor();
+        actor.setSize(size, size);
+        YogaNode node = flexBox.addAsChild(parent, actor);
+        node.setPadding(YogaEdge.LEFT, 2).setPadding(YogaEdge.BOTTOM, 1);
+        actorNodes.add(node);
+        actors.add(actor);
+        return actor;
+    }
+
+    private void assertBounds(FlexBox flexBox) {
+        for (int i = 0; i < actors.size(); i++) {
+            YogaNode node = actorNodes.get(i);
+            Actor actor = actors.get(i);
+            float x = node.getLayoutX();
+            float y = node.getLayoutY();
+            for (YogaNode parent = node.getOwner(); parent != null; parent = parent.getOwner()) {
+                x += parent.getLayoutX();
+                y += parent.getLayoutY();
+            }
+            assertEquals(x + 2, actor.getX());
+            assertEquals(flexBox.getHeight() - y - node.getLayoutHeight() + 1, actor.getY());
+            assertEquals(node.getLayoutWidth() - 2, actor.getWidth());
+            assertEquals(node.getLayoutHeight() - 1, actor.getHeight());
+        }
+    }
+
+    @Test
+    public void nested_actors_follow_layout_changes() {
+        FlexBox flexBox = new FlexBox();
+        flexBox.setSize(400, 300);
+        flexBox.getRoot().setFlexDirection(YogaFlexDirection.ROW).setPadding(YogaEdge.ALL, 5);
+
+        YogaNode spacer = flexBox.add();
+        spacer.setWidth(10);
+        YogaNode panel = flexBox.add();
+        panel.setPadding(YogaEdge.ALL, 4);
+        YogaNode row = flexBox.addAsChild(panel);
+        row.setFlexDirection(YogaFlexDirection.ROW);
+        Actor first = add(flexBox, row, 40);
+        add(flexBox, row, 30);
+        add(flexBox, panel, 20);
+        add(flexBox, flexBox.getRoot(), 50);
+
+        flexBox.layout();
+        assertBounds(flexBox);
+
+        // Only the second leaf is relaid out, its sibling keeps a cached layout.
+        actorNodes.get(0).setWidth(80);
+        flexBox.layout();
+        assertBounds(flexBox);
+        assertEquals(80 - 2, first.getWidth());
+
+        // Moves the whole panel subtree without relaying it out.
+        spacer.setWidth(60);
+        flexBox.layout();
+        assertBounds(flexBox);
+
+        flexBox.setHeight(200);
+        flexBox.layout();
+        assertBounds(flexBox);
+
+        flexBox.remove(row);
+        actorNodes.subList(0, 2).clear();
+        actors.subList(0, 2).clear();
+        flexBox.layout();
+        assertBounds(flexBox);
+    }
+
+    @Test
+    public void percent_edges_survive_pref_size_measuring() {
+        FlexBox flexBox = new FlexBox();
+        flexBox.setSize(400, 300);
+
+        Actor actor = new Actor();
+        YogaNode node = flexBox.add(actor);
+        node.setWidth(100).setHeight(20).setPaddingPercent(YogaEdge.LEFT, 10);
+        Actor sibling = new Actor();
+        YogaNode siblingNode = flexBox.add(sibling);
+        siblingNode.setWidth(50).setHeight(20);
+
+        flexBox.layout();
+        assertEquals(40, actor.getX());
+        assertEquals(60, actor.getWidth());
+        assertEquals(300 - 20, actor.getY());
+
+        // the pref width is measured without an owner width, where percent edges resolve to 0
+        siblingNode.setWidth(80);
+        flexBox.invalidate();
+        flexBox.getPrefWidth();
+        flexBox.getPrefHeight();
+        flexBox.layout();
+        assertEquals(40, actor.getX());
+        assertEquals(60, actor.getWidth());
+        assertEquals(300 - 20, actor.getY());
+        assertEquals(80, sibling.getWidth());
+    }
+}
@@ -0,0 +1,103 @@
+package dev.lyze.flexbox;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.ui.Widget;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
+import io.github.orioncraftmc.meditate.YogaNode;
+import io.github.orioncraftmc.meditate.enums.YogaAlign;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that invalidating one child actor only relays out the nodes whose layout depends on it.
+ */
+public class FlexBoxInvalidationTest {
+
+    private static class SizedWidget extends Widget {
+        private float minWidth = 20;
+
+        @Override
+        public float getMinWidth() {
+            return minWidth;
+        }
+
+        @Override
+        public float getMinHeight() {
+            return 10;
+        }
+    }
+
+    private static class PlainLayoutActor extends Actor implements Layout {
+        private int prefWidthCalls;
+
+        @Override public void layout() { }
+        @Override public void invalidate() { }
+        @Override public void invalidateHierarchy() { }
+        @Override public void validate() { }
+        @Override public void pack() { }
+        @Override public void setFillParent(boolean fillParent) { }
+        @Override public void setLayoutEnabled(boolean enabled) { }
+        @Override public float getMinWidth() { return 10; }
+        @Override public float getMinHeight() { return 10; }
+        @Override public float getMaxWidth() { return 0; }
+        @Override public float getMaxHeight() { return 0; }
+        @Override public float getPrefHeight() { return 10; }
+
+        @Override
+        public float getPrefWidth() {
+            prefWidthCalls++;
+            return 30;
+        }
+    }
+
+    @Test
+    public void layout_actor_without_invalidation_state_keeps_its_measurements() {
+        FlexBox flexBox = new FlexBox();
+        flexBox.setSize(400, 1000);
+        flexBox.getRoot().setAlignItems(YogaAlign.FLEX_START);
+
+        PlainLayoutActor actor = new PlainLayoutActor();
+        flexBox.add(actor);
+        flexBox.layout();
+        assertEquals(30, actor.getWidth());
+
+        int calls = actor.prefWidthCalls;
+        flexBox.getPrefWidth();
+        flexBox.invalidate();
+        flexBox.layout();
+
+        assertEquals(calls, actor.prefWidthCalls);
+        assertFalse(flexBox.getRoot().getChildAt(0).isDirty());
+        assertEquals(30, actor.getWidth());
+    }
+
+    @Test
+    public void invalidated_child_relays_out_its_ancestor_chain_only() {
+        FlexBox flexBox = new FlexBox();
+        flexBox.setSize(400, 1000);
+        flexBox.getRoot().setAlignItems(YogaAlign.FLEX_START);
+
+        SizedWidget[] widgets = new SizedWidget[30];
+        for (int i = 0; i < widgets.length; i++) {
+            YogaNode row = flexBox.add();
+            widgets[i] = new SizedWidget();
+            flexBox.addAsChild(row, widgets[i]);
+        }
+        flexBox.layout();
+        flexBox.layout();
+        for (SizedWidget widget : widgets) {
+            widget.validate();
+        }
+        assertEquals(20, widgets[7].getWidth());
+
+        widgets[7].minWidth = 55;
+        widgets[7].invalidateHierarchy();
+        flexBox.layout();
+
+        assertEquals(55, widgets[7].getWidth());
+        assertEquals(20, widgets[8].getWidth());
+        assertTrue(flexBox.getRoot().getLastLayoutStats().getLayouts() <= 3,
+                flexBox.getRoot().getLastLayoutStats().toString());
+    }
+}
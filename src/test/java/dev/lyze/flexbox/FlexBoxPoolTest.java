@@ -0,0 +1,136 @@
+package dev.lyze.flexbox;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.ui.Widget;
+import io.github.orioncraftmc.meditate.YogaConfigFactory;
+import io.github.orioncraftmc.meditate.YogaNode;
+import io.github.orioncraftmc.meditate.YogaNodeFactory;
+import io.github.orioncraftmc.meditate.YogaNodePool;
+import io.github.orioncraftmc.meditate.YogaNodeWrapper;
+import io.github.orioncraftmc.meditate.enums.YogaEdge;
+import io.github.orioncraftmc.meditate.enums.YogaFlexDirection;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a {@link FlexBox} backed by a {@link YogaNodePool} frees whole subtrees to the pool and forgets them.
+ */
+public class FlexBoxPoolTest {
+    private final YogaNodePool pool = new YogaNodePool(YogaConfigFactory.create());
+    private final FlexBox flexBox = new FlexBox(pool);
+    private final List<YogaNode> subtree = new ArrayList<>();
+    private final List<Actor> actors = new ArrayList<>();
+
+    /**
+     * Adds a styled row with a Layout actor and a plain actor below {@code parent}.
+     */
+    private YogaNode addRow(YogaNode parent) {
+        YogaNode row = flexBox.addAsChild(parent);
+        row.setFlexDirection(YogaFlexDirection.ROW).setPadding(YogaEdge.ALL, 3);
+        row.setData("row");
+
+        Widget widget = new Widget();
+        YogaNode widgetNode = flexBox.addAsChild(row, widget);
+        widgetNode.setMinWidth(5);
+        assertTrue(widgetNode.isMeasureDefined());
+
+        Actor actor = new Actor();
+        actor.setSize(20, 10);
+        YogaNode actorNode = flexBox.addAsChild(row, actor);
+
+        subtree.add(row);
+        subtree.add(widgetNode);
+        subtree.add(actorNode);
+        actors.add(widget);
+        actors.add(actor);
+        return row;
+    }
+
+    private void assertForgotten() {
+        for (Actor actor : actors) {
+            assertNull(actor.getParent());
+            assertFalse(flexBox.getChildren().contains(actor, true));
+        }
+    }
+
+    private Actor addSquare(YogaNode parent) {
+        Actor square = new Actor();
+        square.setSize(15, 15);
+        flexBox.addAsChild(parent, square);
+        return square;
+    }
+
+    private void assertReset(YogaNode node) {
+        YogaNode fresh = YogaNodeFactory.create(pool.getConfig());
+        assertNull(node.getOwner());
+        assertEquals(0, node.getChildCount());
+        assertFalse(node.isMeasureDefined());
+        assertFalse(((YogaNodeWrapper) node).minWidthManuallySet);
+        assertNull(node.getData());
+        assertEquals(fresh.getFlexDirection(), node.getFlexDirection());
+        assertEquals(fresh.getWidth(), node.getWidth());
+        assertEquals(fresh.getHeight(), node.getHeight());
+        assertEquals(fresh.getMinWidth(), node.getMinWidth());
+        assertEquals(fresh.getPadding(YogaEdge.LEFT), node.getPadding(YogaEdge.LEFT));
+    }
+
+    private void assertReobtainedAreReset() {
+        for (int i = 0; i < subtree.size(); i++) {
+            YogaNode node = pool.obtain();
+            assertTrue(subtree.contains(node));
+            assertReset(node);
+        }
+    }
+
+    @Test
+    public void removing_a_nested_node_frees_its_subtree() {
+        flexBox.setSize(200, 200);
+        YogaNode panel = flexBox.add();
+        YogaNode row = addRow(panel);
+        Actor square = addSquare(flexBox.getRoot());
+        flexBox.layout();
+        for (Actor actor : actors) {
+            assertSame(flexBox, actor.getParent());
+        }
+        assertEquals(20, actors.get(1).getWidth());
+        assertEquals(200 - 16 - 15, square.getY());
+
+        flexBox.remove(row);
+        assertEquals(0, panel.getChildCount());
+        assertEquals(subtree.size(), pool.getFree());
+        assertEquals(1, flexBox.getChildren().size);
+        assertForgotten();
+
+        flexBox.layout();
+        assertEquals(200 - 15, square.getY());
+        assertEquals(15, square.getWidth());
+
+        assertReobtainedAreReset();
+    }
+
+    @Test
+    public void clearing_frees_every_node() {
+        flexBox.setSize(200, 200);
+        YogaNode panel = flexBox.add();
+        addRow(panel);
+        addRow(flexBox.getRoot());
+        subtree.add(panel);
+        flexBox.layout();
+
+        flexBox.clearChildren();
+        assertEquals(0, flexBox.getRoot().getChildCount());
+        assertEquals(subtree.size(), pool.getFree());
+        assertEquals(0, flexBox.getChildren().size);
+        assertForgotten();
+
+        assertReobtainedAreReset();
+        Actor square = addSquare(flexBox.getRoot());
+        flexBox.layout();
+        assertEquals(200 - 15, square.getY());
+        assertEquals(15, square.getWidth());
+    }
+}
@@ -0,0 +1,180 @@
+package dev.lyze.flexbox;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Widget;
+import com.badlogic.gdx.utils.Array;
+import io.github.orioncraftmc.meditate.YogaConstants;
+import io.github.orioncraftmc.meditate.YogaNode;
+import io.github.orioncraftmc.meditate.enums.YogaAlign;
+import io.github.orioncraftmc.meditate.enums.YogaFlexDirection;
+import io.github.orioncraftmc.meditate.enums.YogaMeasureMode;
+import io.github.orioncraftmc.meditate.internal.YGSize;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LayoutMeasureFunctionTest {
+    private static final String TEXT = "aaaa bbbb cccc dddd";
+
+    private static class SizedWidget extends Widget {
+        private float prefWidth = 80;
+        private int prefWidthCalls;
+
+        @Override
+        public float getMinWidth() {
+            return 20;
+        }
+
+        @Override
+        public float getMinHeight() {
+            return 10;
+        }
+
+        @Override
+        public float getPrefWidth() {
+            prefWidthCalls++;
+            return prefWidth;
+        }
+
+        @Override
+        public float getPrefHeight() {
+            return 30;
+        }
+    }
+
+    /**
+     * A monospaced font without textures: every glyph is 10 wide, lines are 12 apart. Glyphs are added after the font
+     * is created so that it never touches a texture region.
+     */
+    private static BitmapFont createFont() {
+        BitmapFontData data = new BitmapFontData();
+        Array<TextureRegion> regions = new Array<>();
+        regions.add(new TextureRegion());
+        BitmapFont font = new BitmapFont(data, regions, false);
+
+        for (char c = 'a'; c <= 'z'; c++) {
+            Glyph glyph = new Glyph();
+            glyph.id = c;
+            glyph.width = 10;
+            glyph.height = 10;
+            glyph.xadvance = 10;
+            data.setGlyph(c, glyph);
+        }
+        Glyph space = new Glyph();
+        space.id = ' ';
+        space.xadvance = 10;
+        data.setGlyph(' ', space);
+        data.spaceXadvance = 10;
+        data.capHeight = 10;
+        data.lineHeight = 12;
+        data.down = -12;
+        data.descent = -2;
+        return font;
+    }
+
+    private static Label createLabel(boolean wrap) {
+        Label label = new Label(TEXT, new Label.LabelStyle(createFont(), Color.WHITE));
+        label.setWrap(wrap);
+        return label;
+    }
+
+    @Test
+    public void measure_modes_map_onto_min_and_pref_sizes() {
+        LayoutMeasureFunction measureFunction = new LayoutMeasureFunction(new SizedWidget());
+
+        YGSize size = measureFunction.measure(null, YogaConstants.UNDEFINED, YogaMeasureMode.UNDEFINED, 5,
+                YogaMeasureMode.EXACTLY);
+        assertEquals(80, size.width);
+        assertEquals(5, size.height);
+
+        size = measureFunction.measure(null, 50, YogaMeasureMode.AT_MOST, 100, YogaMeasureMode.AT_MOST);
+        assertEquals(50, size.width);
+        assertEquals(30, size.height);
+
+        size = measureFunction.measure(null, 10, YogaMeasureMode.AT_MOST, 5, YogaMeasureMode.AT_MOST);
+        assertEquals(20, size.width);
+        assertEquals(10, size.height);
+
+        size = measureFunction.measure(null, 5, YogaMeasureMode.EXACTLY, YogaConstants.UNDEFINED,
+                YogaMeasureMode.UNDEFINED);
+        assertEquals(5, size.width);
+        assertEquals(30, size.height);
+    }
+
+    @Test
+    public void results_are_cached_until_invalidated() {
+        SizedWidget widget = new SizedWidget();
+        LayoutMeasureFunction measureFunction = new LayoutMeasureFunction(widget);
+
+        measureFunction.measure(null, 50, YogaMeasureMode.AT_MOST, 0, YogaMeasureMode.UNDEFINED);
+        measureFunction.measure(null, 50, YogaMeasureMode.AT_MOST, 100, YogaMeasureMode.EXACTLY);
+        measureFunction.measure(null, YogaConstants.UNDEFINED, YogaMeasureMode.UNDEFINED, 0,
+                YogaMeasureMode.UNDEFINED);
+        measureFunction.measure(null, YogaConstants.UNDEFINED, YogaMeasureMode.UNDEFINED, 0,
+                YogaMeasureMode.UNDEFINED);
+        assertEquals(2, widget.prefWidthCalls);
+
+        widget.prefWidth = 120;
+        measureFunction.invalidate();
+        assertEquals(120, measureFunction.measure(null, YogaConstants.UNDEFINED, YogaMeasureMode.UNDEFINED, 0,
+                YogaMeasureMode.UNDEFINED).width);
+        assertEquals(3, widget.prefWidthCalls);
+    }
+
+    @Test
+    public void wrapped_label_height_depends_on_width() {
+        Label label = createLabel(true);
+        LayoutMeasureFunction measureFunction = new LayoutMeasureFunction(label);
+
+        YGSize natural = measureFunction.measure(null, YogaConstants.UNDEFINED, YogaMeasureMode.UNDEFINED, 0,
+                YogaMeasureMode.UNDEFINED);
+        Label unwrapped = createLabel(false);
+        assertEquals(unwrapped.getPrefWidth(), natural.width);
+        assertEquals(unwrapped.getPrefHeight(), natural.height);
+
+        YGSize wrapped = measureFunction.measure(null, 100, YogaMeasureMode.AT_MOST, 0, YogaMeasureMode.UNDEFINED);
+        label.setWidth(100);
+        assertEquals(100, wrapped.width);
+        assertEquals(label.getPrefHeight(), wrapped.height);
+        assertTrue(wrapped.height > natural.height);
+    }
+
+    @Test
+    public void flexbox_lays_out_wrapped_label_below_its_lines() {
+        FlexBox flexBox = new FlexBox();
+        flexBox.setSize(100, 400);
+        flexBox.getRoot().setFlexDirection(YogaFlexDirection.COLUMN).setAlignItems(YogaAlign.STRETCH);
+
+        Label label = createLabel(true);
+        flexBox.add(label);
+        SizedWidget below = new SizedWidget();
+        YogaNode belowNode = flexBox.add(below);
+        flexBox.layout();
+
+        assertEquals(100, label.getWidth());
+        assertEquals(label.getPrefHeight(), label.getHeight());
+        assertEquals(label.getHeight(), belowNode.getLayoutY());
+
+        label.setText(TEXT + " " + TEXT);
+        flexBox.layout();
+
+        assertEquals(label.getPrefHeight(), label.getHeight());
+        assertEquals(label.getHeight(), belowNode.getLayoutY());
+    }
+
+    @Test
+    public void actor_node_with_nested_nodes_drops_its_measure_function() {
+        FlexBox flexBox = new FlexBox();
+        YogaNode node = flexBox.add(new SizedWidget());
+        assertTrue(node.isMeasureDefined());
+
+        flexBox.addAsChild(node);
+        assertFalse(node.isMeasureDefined());
+        assertEquals(1, node.getChildCount());
+    }
+}
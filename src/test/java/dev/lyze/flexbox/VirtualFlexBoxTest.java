@@ -0,0 +1,150 @@
+package dev.lyze.flexbox;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.ui.Widget;
+import io.github.orioncraftmc.meditate.YogaNode;
+import io.github.orioncraftmc.meditate.enums.YogaEdge;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a {@link VirtualFlexBox} only lays out and keeps actors for the rows around the visible area.
+ */
+public class VirtualFlexBoxTest {
+    private static final int ITEMS = 100_000;
+
+    private static class RowWidget extends Widget {
+        private int index = -1;
+
+        @Override
+        public float getPrefHeight() {
+            return 20 + index % 3 * 10;
+        }
+    }
+
+    private static class RowAdapter implements VirtualFlexBox.ItemAdapter<RowWidget> {
+        private int count = ITEMS;
+        private int created, bound;
+        private float padding;
+
+        @Override
+        public int getItemCount() {
+            return count;
+        }
+
+        @Override
+        public RowWidget create() {
+            created++;
+            return new RowWidget();
+        }
+
+        @Override
+        public void bind(RowWidget actor, int index, YogaNode node) {
+            bound++;
+            actor.index = index;
+            node.setPadding(YogaEdge.ALL, padding);
+        }
+    }
+
+    private static float rowHeight(int index) {
+        return 20 + index % 3 * 10;
+    }
+
+    private static VirtualFlexBox<RowWidget> createList(RowAdapter adapter) {
+        VirtualFlexBox<RowWidget> list = new VirtualFlexBox<>(adapter);
+        list.setEstimatedItemHeight(30);
+        list.setSize(200, list.getPrefHeight());
+        return list;
+    }
+
+    private static void scrollTo(VirtualFlexBox<?> list, float offset) {
+        list.setCullingArea(new Rectangle(0, list.getHeight() - offset - 300, 200, 300));
+        list.validate();
+    }
+
+    @Test
+    public void only_rows_around_the_visible_area_are_bound() {
+        RowAdapter adapter = new RowAdapter();
+        VirtualFlexBox<RowWidget> list = createList(adapter);
+        assertEquals(ITEMS * 30, list.getPrefHeight());
+
+        scrollTo(list, 0);
+        assertTrue(list.getBoundRowCount() <= 300 / 20 + 3, "bound " + list.getBoundRowCount());
+        assertEquals(list.getBoundRowCount(), list.getChildren().size);
+        for (int i = 0; i < 10; i++) {
+            RowWidget actor = list.getActor(i);
+            assertEquals(i, actor.index);
+            assertEquals(rowHeight(i), actor.getHeight());
+            assertEquals(list.getHeight() - list.getItemOffset(i) - rowHeight(i), actor.getY());
+            assertEquals(200, actor.getWidth());
+        }
+        assertNull(list.getActor(200));
+    }
+
+    @Test
+    public void scrolling_recycles_row_actors() {
+        RowAdapter adapter = new RowAdapter();
+        VirtualFlexBox<RowWidget> list = createList(adapter);
+        scrollTo(list, 0);
+        int created = adapter.created;
+
+        for (float offset = 0; offset < 20_000; offset += 97) {
+            scrollTo(list, offset);
+        }
+        scrollTo(list, ITEMS * 25);
+
+        assertTrue(adapter.created <= created + 3, "created " + adapter.created + " of " + created);
+        assertTrue(list.getBoundRowCount() <= 300 / 20 + 5, "bound " + list.getBoundRowCount());
+        assertTrue(adapter.bound > 600);
+    }
+
+    @Test
+    public void measured_rows_replace_the_estimate() {
+        RowAdapter adapter = new RowAdapter();
+        VirtualFlexBox<RowWidget> list = createList(adapter);
+        scrollTo(list, 0);
+
+        int bound = list.getBoundRowCount();
+        float measured = 0;
+        for (int i = 0; i < bound; i++) {
+            measured += rowHeight(i);
+        }
+        assertEquals(measured + (ITEMS - bound) * 30, list.getPrefHeight());
+        assertEquals(measured, list.getItemOffset(bound));
+    }
+
+    @Test
+    public void row_nodes_are_styled_by_the_adapter() {
+        RowAdapter adapter = new RowAdapter();
+        adapter.padding = 5;
+        VirtualFlexBox<RowWidget> list = createList(adapter);
+        scrollTo(list, 0);
+
+        RowWidget actor = list.getActor(1);
+        assertEquals(rowHeight(1), actor.getHeight());
+        assertEquals(190, actor.getWidth());
+        assertEquals(5, actor.getX());
+        assertEquals(rowHeight(0) + 10, list.getItemOffset(1));
+    }
+
+    @Test
+    public void changed_items_are_rebound() {
+        RowAdapter adapter = new RowAdapter();
+        VirtualFlexBox<RowWidget> list = createList(adapter);
+        scrollTo(list, 0);
+
+        RowWidget actor = list.getActor(3);
+        int bound = adapter.bound;
+        list.notifyItemChanged(3);
+        list.validate();
+        assertEquals(bound + 1, adapter.bound);
+        assertSame(actor, list.getActor(3));
+
+        adapter.count = 5;
+        list.notifyDataSetChanged();
+        scrollTo(list, 0);
+        assertEquals(5, list.getBoundRowCount());
+        assertNull(list.getActor(5));
+    }
+}
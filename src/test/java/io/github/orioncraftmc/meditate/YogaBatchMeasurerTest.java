@@ -0,0 +1,117 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.enums.YogaFlexDirection;
+import io.github.orioncraftmc.meditate.enums.YogaMeasureMode;
+import io.github.orioncraftmc.meditate.enums.YogaWrap;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YogaBatchMeasurerTest {
+
+    /**
+     * Builds rows of wrapping "text": each label is {@code length * 10} wide on one line and wraps onto more lines
+     * when its width is constrained.
+     */
+    private static YogaNode buildTree(YogaConfig config, AtomicInteger calls) {
+        final YogaNode root = YogaNodeFactory.create(config);
+        root.setFlexDirection(YogaFlexDirection.COLUMN);
+        for (int i = 0; i < 20; i++) {
+            final YogaNode row = YogaNodeFactory.create(config);
+            row.setFlexDirection(YogaFlexDirection.ROW);
+            row.setWrap(YogaWrap.WRAP);
+            for (int j = 0; j < 3; j++) {
+                final int length = 3 + (i * 7 + j * 5) % 11;
+                final YogaNode label = YogaNodeFactory.create(config);
+                label.setFlexShrink(1);
+                label.setMeasureFunction((node, width, widthMode, height, heightMode) -> {
+                    calls.incrementAndGet();
+                    final float natural = length * 10;
+                    final float lineWidth = widthMode == YogaMeasureMode.UNDEFINED ? natural : Math.min(natural,
+                            width);
+                    final int lines = (int) Math.ceil(natural / Math.max(10, lineWidth));
+                    return YogaMeasureOutput.make(lineWidth, lines * 12);
+                });
+                row.addChildAt(label, j);
+            }
+            root.addChildAt(row, i);
+        }
+        return root;
+    }
+
+    private static void assertSameLayout(YogaNode expected, YogaNode actual) {
+        assertEquals(expected.getLayoutX(), actual.getLayoutX());
+        assertEquals(expected.getLayoutY(), actual.getLayoutY());
+        assertEquals(expected.getLayoutWidth(), actual.getLayoutWidth());
+        assertEquals(expected.getLayoutHeight(), actual.getLayoutHeight());
+        assertEquals(expected.getChildCount(), actual.getChildCount());
+        for (int i = 0; i < expected.getChildCount(); i++) {
+            assertSameLayout(expected.getChildAt(i), actual.getChildAt(i));
+        }
+    }
+
+    @Test
+    public void batched_layout_matches_synchronous_layout() {
+        final YogaNode expected = buildTree(YogaConfigFactory.create(), new AtomicInteger());
+        expected.calculateLayout(150, YogaConstants.UNDEFINED);
+
+        final YogaConfig config = YogaConfigFactory.create();
+        final AtomicInteger batches = new AtomicInteger();
+        config.setBatchMeasurer(requests -> {
+            batches.incrementAndGet();
+            for (YogaMeasureRequest request : requests) {
+                request.measure();
+                assertTrue(request.isMeasured());
+            }
+        });
+        final YogaNode actual = buildTree(config, new AtomicInteger());
+        actual.calculateLayout(150, YogaConstants.UNDEFINED);
+
+        assertSameLayout(expected, actual);
+        assertTrue(batches.get() > 0);
+        final YogaLayoutStats stats = actual.getLastLayoutStats();
+        assertTrue(stats.getBatchedMeasureCallbacks() > 0);
+        assertEquals(0, stats.getMeasureCallbacks());
+    }
+
+    @Test
+    public void relayout_after_change_matches_synchronous_layout() {
+        final YogaNode expected = buildTree(YogaConfigFactory.create(), new AtomicInteger());
+        final YogaConfig config = YogaConfigFactory.create();
+        final YogaParallelMeasurer measurer = new YogaParallelMeasurer(4);
+        try {
+            config.setBatchMeasurer(measurer);
+            final YogaNode actual = buildTree(config, new AtomicInteger());
+            expected.calculateLayout(150, YogaConstants.UNDEFINED);
+            actual.calculateLayout(150, YogaConstants.UNDEFINED);
+
+            expected.getChildAt(3).getChildAt(1).setWidth(40);
+            actual.getChildAt(3).getChildAt(1).setWidth(40);
+            expected.calculateLayout(220, YogaConstants.UNDEFINED);
+            actual.calculateLayout(220, YogaConstants.UNDEFINED);
+
+            assertSameLayout(expected, actual);
+        } finally {
+            measurer.dispose();
+        }
+    }
+
+    @Test
+    public void unmeasured_requests_fall_back_to_synchronous_measuring() {
+        final YogaNode expected = buildTree(YogaConfigFactory.create(), new AtomicInteger());
+        expected.calculateLayout(150, YogaConstants.UNDEFINED);
+
+        final YogaConfig config = YogaConfigFactory.create();
+        config.setBatchMeasurer(requests -> {
+        });
+        final AtomicInteger calls = new AtomicInteger();
+        final YogaNode actual = buildTree(config, calls);
+        actual.calculateLayout(150, YogaConstants.UNDEFINED);
+
+        assertSameLayout(expected, actual);
+        assertEquals(0, actual.getLastLayoutStats().getBatchedMeasureCallbacks());
+        assertEquals(calls.get(), actual.getLastLayoutStats().getMeasureCallbacks());
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.enums.YogaEdge;
+import io.github.orioncraftmc.meditate.enums.YogaFlexDirection;
+import io.github.orioncraftmc.meditate.enums.YogaWrap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YogaLayoutBatchTest {
+    private static final int ROOT_COUNT = 100;
+    private static final int CHILD_COUNT = 30;
+
+    private static YogaNode buildTree(int seed) {
+        final YogaNode root = YogaNodeFactory.create();
+        root.setFlexDirection(YogaFlexDirection.ROW);
+        root.setWrap(YogaWrap.WRAP);
+        for (int i = 0; i < CHILD_COUNT; i++) {
+            final YogaNode child = YogaNodeFactory.create();
+            child.setWidth(15 + (seed * 13 + i * 29) % 80);
+            child.setHeight(10 + (seed + i * 3) % 30);
+            child.setMargin(YogaEdge.ALL, i % 4);
+            child.setFlexGrow(i % 3);
+            root.addChildAt(child, i);
+        }
+        return root;
+    }
+
+    private static float[] snapshot(YogaNode root) {
+        final float[] result = new float[(root.getChildCount() + 1) * 4];
+        for (int i = 0; i <= root.getChildCount(); i++) {
+            final YogaNode node = i == 0 ? root : root.getChildAt(i - 1);
+            result[i * 4] = node.getLayoutX();
+            result[i * 4 + 1] = node.getLayoutY();
+            result[i * 4 + 2] = node.getLayoutWidth();
+            result[i * 4 + 3] = node.getLayoutHeight();
+        }
+        return result;
+    }
+
+    @Test
+    public void batch_matches_sequential_layout() {
+        final List<YogaNode> roots = new ArrayList<>();
+        final List<float[]> expected = new ArrayList<>();
+        for (int i = 0; i < ROOT_COUNT; i++) {
+            final YogaNode sequential = buildTree(i);
+            sequential.calculateLayout(400, YogaConstants.UNDEFINED);
+            expected.add(snapshot(sequential));
+            roots.add(buildTree(i));
+        }
+
+        final YogaLayoutBatch batch = new YogaLayoutBatch(4);
+        try {
+            batch.calculateLayout(roots, 400, YogaConstants.UNDEFINED);
+        } finally {
+            batch.dispose();
+        }
+
+        for (int i = 0; i < ROOT_COUNT; i++) {
+            assertArrayEquals(expected.get(i), snapshot(roots.get(i)));
+        }
+    }
+
+    @Test
+    public void rejects_non_root_nodes() {
+        final YogaNode root = buildTree(0);
+        final YogaLayoutBatch batch = new YogaLayoutBatch(2);
+        try {
+            assertThrows(IllegalArgumentException.class,
+                    () -> batch.calculateLayout(Collections.singletonList(root.getChildAt(0)), 100, 100));
+        } finally {
+            batch.dispose();
+        }
+    }
+}
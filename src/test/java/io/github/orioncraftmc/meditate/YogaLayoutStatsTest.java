@@ -0,0 +1,102 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.enums.LayoutPassReason;
+import io.github.orioncraftmc.meditate.enums.YogaAlign;
+import io.github.orioncraftmc.meditate.enums.YogaFlexDirection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YogaLayoutStatsTest {
+
+    private static YogaNode buildTree() {
+        return buildTree(YogaConfigFactory.create());
+    }
+
+    private static YogaNode buildTree(YogaConfig config) {
+        final YogaNode root = YogaNodeFactory.create(config);
+        root.setFlexDirection(YogaFlexDirection.ROW);
+        for (int i = 0; i < 3; i++) {
+            final YogaNode text = YogaNodeFactory.create(config);
+            text.setMeasureFunction((node, width, widthMode, height, heightMode) -> YogaMeasureOutput.make(20, 10));
+            root.addChildAt(text, i);
+        }
+        return root;
+    }
+
+    @Test
+    public void no_stats_before_the_first_layout() {
+        final YogaNode root = buildTree();
+        assertNull(root.getLastLayoutStats());
+        assertNull(root.getCumulativeLayoutStats());
+    }
+
+    @Test
+    public void last_and_cumulative_stats() {
+        final YogaNode root = buildTree();
+        root.calculateLayout(200, 100);
+
+        final YogaLayoutStats first = root.getLastLayoutStats();
+        assertEquals(1, first.getPassCount());
+        assertEquals(4, first.getLayouts() + first.getCachedLayouts());
+        assertEquals(first.getMeasureCallbacks(), sumOfReasons(first));
+        assertTrue(first.getMeasureCallbacks() >= 3);
+        assertTrue(first.getDurationNanos() >= 0);
+
+        root.calculateLayout(200, 100);
+        assertEquals(1, root.getCumulativeLayoutStats().getPassCount());
+
+        root.calculateLayout(300, 100);
+        final YogaLayoutStats second = root.getLastLayoutStats();
+        final YogaLayoutStats total = root.getCumulativeLayoutStats();
+        assertEquals(2, total.getPassCount());
+        assertEquals(first.getLayouts() + second.getLayouts(), total.getLayouts());
+        assertEquals(first.getMeasureCallbacks() + second.getMeasureCallbacks(), total.getMeasureCallbacks());
+        assertEquals(first.getDurationNanos() + second.getDurationNanos(), total.getDurationNanos());
+        assertTrue(total.getCacheHitRatio() >= 0 && total.getCacheHitRatio() <= 1);
+    }
+
+    /**
+     * Lays out a row with a single text that takes all the width it gets at two alternating widths, so each width
+     * evicts the measurement of the other when the cache has only one slot.
+     */
+    private static YogaLayoutStats alternateWidths(int measurementCacheCapacity) {
+        final YogaConfig config = YogaConfigFactory.create();
+        config.setMeasurementCacheCapacity(measurementCacheCapacity);
+        final YogaNode root = YogaNodeFactory.create(config);
+        root.setFlexDirection(YogaFlexDirection.ROW);
+        root.setAlignItems(YogaAlign.FLEX_START);
+        final YogaNode text = YogaNodeFactory.create(config);
+        text.setMeasureFunction((node, width, widthMode, height, heightMode) -> YogaMeasureOutput.make(width, 10));
+        root.addChildAt(text, 0);
+        for (int i = 0; i < 4; i++) {
+            root.calculateLayout(i % 2 == 0 ? 200 : 300, 100);
+        }
+        return root.getCumulativeLayoutStats();
+    }
+
+    @Test
+    public void measure_cache_counters() {
+        // every pass measures the text twice at its width, the second measurement is always a hit
+        final YogaLayoutStats single = alternateWidths(1);
+        assertEquals(4, single.getPassCount());
+        assertEquals(4, single.getMeasureCacheHits());
+        assertEquals(4, single.getMeasureCacheMisses());
+        assertEquals(3, single.getMeasureCacheEvictions());
+        assertEquals(4, single.getMeasureCallbacks());
+
+        final YogaLayoutStats both = alternateWidths(2);
+        assertEquals(6, both.getMeasureCacheHits());
+        assertEquals(2, both.getMeasureCacheMisses());
+        assertEquals(0, both.getMeasureCacheEvictions());
+        assertEquals(2, both.getMeasureCallbacks());
+    }
+
+    private static int sumOfReasons(YogaLayoutStats stats) {
+        int sum = 0;
+        for (LayoutPassReason reason : LayoutPassReason.values()) {
+            sum += stats.getMeasureCallbacks(reason);
+        }
+        return sum;
+    }
+}
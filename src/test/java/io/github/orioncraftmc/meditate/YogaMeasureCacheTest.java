@@ -0,0 +1,92 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.enums.YogaFlexDirection;
+import io.github.orioncraftmc.meditate.interfaces.YogaMeasureKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YogaMeasureCacheTest {
+
+    private static final class Label implements YogaMeasureKey {
+        private final String text;
+
+        Label(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public Object getMeasureKey() {
+            return text;
+        }
+    }
+
+    private static YogaNode buildList(YogaConfig config, AtomicInteger calls, String... texts) {
+        final YogaNode root = YogaNodeFactory.create(config);
+        root.setFlexDirection(YogaFlexDirection.COLUMN);
+        for (int i = 0; i < texts.length; i++) {
+            final String text = texts[i];
+            final YogaNode row = YogaNodeFactory.create(config);
+            row.setData(new Label(text));
+            row.setMeasureFunction((node, width, widthMode, height, heightMode) -> {
+                calls.incrementAndGet();
+                return YogaMeasureOutput.make(text.length() * 10, 10);
+            });
+            root.addChildAt(row, i);
+        }
+        return root;
+    }
+
+    @Test
+    public void rows_with_equal_content_share_measurements() {
+        final YogaConfig config = YogaConfigFactory.create();
+        final YogaMeasureCache cache = new YogaMeasureCache(16);
+        config.setSharedMeasureCache(cache);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final YogaNode root = buildList(config, calls, "a", "bb", "a", "bb", "a");
+        root.calculateLayout(200, YogaConstants.UNDEFINED);
+
+        final YogaNode uncachedRoot = buildList(YogaConfigFactory.create(), new AtomicInteger(), "a", "bb", "a", "bb",
+                "a");
+        uncachedRoot.calculateLayout(200, YogaConstants.UNDEFINED);
+
+        for (int i = 0; i < root.getChildCount(); i++) {
+            assertEquals(uncachedRoot.getChildAt(i).getLayoutHeight(), root.getChildAt(i).getLayoutHeight());
+            assertEquals(uncachedRoot.getChildAt(i).getLayoutY(), root.getChildAt(i).getLayoutY());
+        }
+        assertTrue(cache.getHits() > 0);
+        assertEquals(cache.getMisses(), calls.get());
+        assertEquals(cache.getHits(), root.getLastLayoutStats().getSharedMeasureCacheHits());
+    }
+
+    @Test
+    public void evicts_least_recently_used_entries() {
+        final YogaConfig config = YogaConfigFactory.create();
+        final YogaMeasureCache cache = new YogaMeasureCache(1);
+        config.setSharedMeasureCache(cache);
+
+        buildList(config, new AtomicInteger(), "a", "bb", "ccc").calculateLayout(200, YogaConstants.UNDEFINED);
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.getEvictions() >= 2);
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void nodes_without_a_key_are_not_cached() {
+        final YogaConfig config = YogaConfigFactory.create();
+        final YogaMeasureCache cache = new YogaMeasureCache(16);
+        config.setSharedMeasureCache(cache);
+
+        final YogaNode root = buildList(config, new AtomicInteger(), "a");
+        root.getChildAt(0).setData(null);
+        root.calculateLayout(200, YogaConstants.UNDEFINED);
+
+        assertEquals(0, cache.getHits() + cache.getMisses());
+        assertThrows(IllegalArgumentException.class, () -> new YogaMeasureCache(0));
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.enums.*;
+import io.github.orioncraftmc.meditate.internal.YGSize;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YogaMeasuredSizeTest {
+
+    private static YogaNode buildRow(AtomicInteger measureCalls) {
+        final YogaNode root = YogaNodeFactory.create();
+        root.setFlexDirection(YogaFlexDirection.ROW);
+        root.setWrap(YogaWrap.WRAP);
+        root.setPadding(YogaEdge.ALL, 5);
+        for (int i = 0; i < 4; i++) {
+            final YogaNode child = YogaNodeFactory.create();
+            child.setMeasureFunction((node, width, widthMode, height, heightMode) -> {
+                measureCalls.incrementAndGet();
+                return YogaMeasureOutput.make(40, 20);
+            });
+            root.addChildAt(child, i);
+        }
+        return root;
+    }
+
+    @Test
+    public void matches_the_size_of_a_layout() {
+        final YogaNode root = buildRow(new AtomicInteger());
+
+        final YGSize natural = root.calculateMeasuredSize(0, YogaMeasureMode.UNDEFINED, 0, YogaMeasureMode.UNDEFINED);
+        assertEquals(4 * 40 + 10, natural.width);
+        assertEquals(20 + 10, natural.height);
+
+        final YGSize wrapped = root.calculateMeasuredSize(100, YogaMeasureMode.AT_MOST, 0, YogaMeasureMode.UNDEFINED);
+        // a container wrapping onto several lines takes all the width it may use
+        assertEquals(100, wrapped.width);
+        assertEquals(2 * 20 + 10, wrapped.height);
+
+        root.calculateLayout(90, YogaConstants.UNDEFINED);
+        assertEquals(wrapped.height, root.getLayoutHeight());
+    }
+
+    @Test
+    public void leaves_the_layout_untouched() {
+        final YogaNode root = buildRow(new AtomicInteger());
+        root.calculateLayout(400, YogaConstants.UNDEFINED);
+        final YogaNode last = root.getChildAt(3);
+        assertEquals(125, last.getLayoutX());
+        assertEquals(30, root.getLayoutHeight());
+
+        root.calculateMeasuredSize(50, YogaMeasureMode.AT_MOST, 0, YogaMeasureMode.UNDEFINED);
+
+        assertEquals(125, last.getLayoutX());
+        assertEquals(5, last.getLayoutY());
+        assertEquals(400, root.getLayoutWidth());
+        assertEquals(30, root.getLayoutHeight());
+        assertFalse(root.isDirty());
+    }
+
+    @Test
+    public void keeps_percent_edges_of_the_last_layout() {
+        final YogaNode root = YogaNodeFactory.create();
+        final YogaNode child = YogaNodeFactory.create();
+        child.setPaddingPercent(YogaEdge.LEFT, 10);
+        child.setMarginPercent(YogaEdge.TOP, 5);
+        child.setHeight(20);
+        root.addChildAt(child, 0);
+        root.calculateLayout(400, YogaConstants.UNDEFINED);
+        assertEquals(40, child.getLayoutPadding(YogaEdge.LEFT));
+        assertEquals(20, child.getLayoutMargin(YogaEdge.TOP));
+
+        // percent edges resolve to 0 without an owner width
+        root.calculateMeasuredSize(0, YogaMeasureMode.UNDEFINED, 0, YogaMeasureMode.UNDEFINED);
+        assertEquals(40, child.getLayoutPadding(YogaEdge.LEFT));
+        assertEquals(20, child.getLayoutMargin(YogaEdge.TOP));
+
+        // a clean tree at the same size keeps its layout
+        root.calculateLayout(400, YogaConstants.UNDEFINED);
+        assertEquals(40, child.getLayoutPadding(YogaEdge.LEFT));
+        assertEquals(20, child.getLayoutMargin(YogaEdge.TOP));
+        assertEquals(20, child.getLayoutY());
+    }
+
+    @Test
+    public void keeps_the_last_layout_when_a_measure_function_throws() {
+        final YogaNode root = YogaNodeFactory.create();
+        final YogaNode child = YogaNodeFactory.create();
+        final boolean[] fail = {false};
+        child.setPaddingPercent(YogaEdge.LEFT, 10);
+        child.setMeasureFunction((node, width, widthMode, height, heightMode) -> {
+            if (fail[0]) {
+                throw new IllegalStateException("measure failed");
+            }
+            return YogaMeasureOutput.make(width, 20);
+        });
+        root.addChildAt(child, 0);
+        root.calculateLayout(400, YogaConstants.UNDEFINED);
+        assertEquals(40, child.getLayoutPadding(YogaEdge.LEFT));
+
+        fail[0] = true;
+        assertThrows(IllegalStateException.class,
+                () -> root.calculateMeasuredSize(0, YogaMeasureMode.UNDEFINED, 0, YogaMeasureMode.UNDEFINED));
+        assertEquals(40, child.getLayoutPadding(YogaEdge.LEFT));
+        assertEquals(400, root.getLayoutWidth());
+    }
+
+    @Test
+    public void dirty_tree_stays_dirty_and_clean_tree_is_cached() {
+        final AtomicInteger measureCalls = new AtomicInteger();
+        final YogaNode root = buildRow(measureCalls);
+
+        root.calculateMeasuredSize(200, YogaMeasureMode.AT_MOST, 0, YogaMeasureMode.UNDEFINED);
+        assertTrue(root.isDirty());
+        root.calculateLayout(200, YogaConstants.UNDEFINED);
+
+        final int calls = measureCalls.get();
+        final YGSize first = root.calculateMeasuredSize(0, YogaMeasureMode.UNDEFINED, 0, YogaMeasureMode.UNDEFINED);
+        final YGSize second = root.calculateMeasuredSize(0, YogaMeasureMode.UNDEFINED, 0, YogaMeasureMode.UNDEFINED);
+        assertEquals(first.width, second.width);
+        assertEquals(first.height, second.height);
+        final int afterMeasure = measureCalls.get();
+        assertTrue(afterMeasure - calls <= 4);
+
+        root.calculateMeasuredSize(0, YogaMeasureMode.UNDEFINED, 0, YogaMeasureMode.UNDEFINED);
+        assertEquals(afterMeasure, measureCalls.get());
+    }
+}
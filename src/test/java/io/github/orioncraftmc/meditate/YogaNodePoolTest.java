@@ -0,0 +1,118 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.enums.*;
+import io.github.orioncraftmc.meditate.internal.YGNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YogaNodePoolTest {
+
+    private static void dirty(YogaNode node) {
+        node.setFlexDirection(YogaFlexDirection.ROW);
+        node.setWrap(YogaWrap.WRAP);
+        node.setAlignItems(YogaAlign.CENTER);
+        node.setFlexGrow(2);
+        node.setWidthPercent(50);
+        node.setMaxHeight(400);
+        node.setAspectRatio(1.5f);
+        node.setMargin(YogaEdge.LEFT, 4);
+        node.setPadding(YogaEdge.ALL, 3);
+        node.setPosition(YogaEdge.TOP, 7);
+        node.setData("data");
+        node.setIsReferenceBaseline(true);
+    }
+
+    private static YogaNode layoutWith(YogaNode child) {
+        final YogaNode root = YogaNodeFactory.create();
+        root.setWidth(200);
+        root.setHeight(100);
+        root.addChildAt(child, 0);
+        child.setFlexGrow(1);
+        child.setMargin(YogaEdge.ALL, 5);
+        root.calculateLayout(YogaConstants.UNDEFINED, YogaConstants.UNDEFINED);
+        return root;
+    }
+
+    private static void assertSameNode(YogaNode expected, YogaNode actual) {
+        final YGNode expectedNative = ((YogaNodeWrapper) expected).mNativePointer;
+        final YGNode actualNative = ((YogaNodeWrapper) actual).mNativePointer;
+        assertEquals(expectedNative.getStyle(), actualNative.getStyle());
+        assertTrue(expectedNative.getLayout().equalsTo(actualNative.getLayout()));
+        assertEquals(expectedNative.getFlags(), actualNative.getFlags());
+        assertSame(expectedNative.getConfig(), actualNative.getConfig());
+        assertEquals(expected.getData(), actual.getData());
+        assertEquals(expected.isMeasureDefined(), actual.isMeasureDefined());
+        assertEquals(expected.isBaselineDefined(), actual.isBaselineDefined());
+        assertEquals(expected.getChildCount(), actual.getChildCount());
+        assertEquals(expected.getOwner(), actual.getOwner());
+    }
+
+    @Test
+    public void recycled_node_behaves_like_a_fresh_one() {
+        final YogaConfig config = YogaConfigFactory.create();
+        final YogaNodePool pool = new YogaNodePool(config);
+
+        final YogaNode used = pool.obtain();
+        dirty(used);
+        used.setMeasureFunction((node, width, widthMode, height, heightMode) -> YogaMeasureOutput.make(10, 10));
+        layoutWith(used).removeChildAt(0);
+        pool.free(used);
+
+        final YogaNode recycled = pool.obtain();
+        assertSame(used, recycled);
+        final YogaNode fresh = YogaNodeFactory.create(config);
+        assertSameNode(fresh, recycled);
+
+        final YogaNode freshRoot = layoutWith(fresh);
+        final YogaNode recycledRoot = layoutWith(recycled);
+        assertEquals(fresh.getLayoutX(), recycled.getLayoutX());
+        assertEquals(fresh.getLayoutY(), recycled.getLayoutY());
+        assertEquals(fresh.getLayoutWidth(), recycled.getLayoutWidth());
+        assertEquals(fresh.getLayoutHeight(), recycled.getLayoutHeight());
+        assertEquals(freshRoot.getLayoutHeight(), recycledRoot.getLayoutHeight());
+    }
+
+    @Test
+    public void recycled_node_keeps_web_defaults_of_its_config() {
+        final YogaConfig config = YogaConfigFactory.create();
+        config.setUseWebDefaults(true);
+        final YogaNodePool pool = new YogaNodePool(config);
+
+        final YogaNode used = pool.obtain();
+        used.setFlexDirection(YogaFlexDirection.COLUMN);
+        pool.free(used);
+
+        assertSameNode(YogaNodeFactory.create(config), pool.obtain());
+    }
+
+    @Test
+    public void free_subtree_recycles_every_node() {
+        final YogaNodePool pool = new YogaNodePool(YogaConfigFactory.create());
+        final YogaNode root = pool.obtain();
+        final YogaNode child = pool.obtain();
+        final YogaNode grandChild = pool.obtain();
+        root.addChildAt(child, 0);
+        child.addChildAt(grandChild, 0);
+        root.calculateLayout(100, 100);
+
+        pool.freeSubtree(child);
+        assertEquals(0, root.getChildCount());
+        assertEquals(2, pool.getFree());
+        assertNull(child.getOwner());
+        assertEquals(0, child.getChildCount());
+    }
+
+    @Test
+    public void attached_or_foreign_nodes_are_rejected() {
+        final YogaNodePool pool = new YogaNodePool(YogaConfigFactory.create());
+        final YogaNode root = pool.obtain();
+        final YogaNode child = pool.obtain();
+        root.addChildAt(child, 0);
+
+        assertThrows(IllegalStateException.class, () -> pool.free(root));
+        assertThrows(IllegalStateException.class, () -> pool.free(child));
+        assertThrows(IllegalArgumentException.class, () -> pool.free(YogaNodeFactory.create()));
+        assertEquals(0, pool.getFree());
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.internal.YGNode;
+import io.github.orioncraftmc.meditate.internal.event.Event;
+import io.github.orioncraftmc.meditate.internal.event.LayoutPassStartEventData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YogaNodeWrapperIndexTest {
+    private final List<Object> layoutContexts = new ArrayList<>();
+
+    private static class CountingInputs implements YogaNode.Inputs {
+        int freezes;
+        YogaNode lastParent;
+
+        @Override
+        public void freeze(YogaNode node, YogaNode parent) {
+            freezes++;
+            lastParent = parent;
+        }
+    }
+
+    private static YogaNode node(CountingInputs inputs) {
+        final YogaNode node = YogaNodeFactory.create();
+        node.setData(inputs);
+        node.setWidth(10);
+        node.setHeight(10);
+        return node;
+    }
+
+    @BeforeEach
+    public void subscribe() {
+        Event.subscribe(LayoutPassStartEventData.class, e -> layoutContexts.add(e.layoutContext));
+    }
+
+    @AfterEach
+    public void reset() {
+        Event.reset();
+    }
+
+    private Set<YGNode> lastContext() {
+        return new HashSet<>(Arrays.asList((YGNode[]) layoutContexts.get(layoutContexts.size() - 1)));
+    }
+
+    @Test
+    public void clean_root_skips_freezing() {
+        final CountingInputs rootInputs = new CountingInputs();
+        final CountingInputs childInputs = new CountingInputs();
+        final YogaNode root = YogaNodeFactory.create();
+        root.setData(rootInputs);
+        root.addChildAt(node(childInputs), 0);
+
+        root.calculateLayout(100, 100);
+        assertEquals(1, rootInputs.freezes);
+        assertEquals(1, childInputs.freezes);
+        assertSame(root, childInputs.lastParent);
+
+        root.calculateLayout(100, 100);
+        assertEquals(1, rootInputs.freezes);
+        assertEquals(1, childInputs.freezes);
+
+        root.getChildAt(0).setWidth(20);
+        root.calculateLayout(100, 100);
+        assertEquals(2, rootInputs.freezes);
+        assertEquals(2, childInputs.freezes);
+        assertEquals(20, root.getChildAt(0).getLayoutWidth());
+    }
+
+    @Test
+    public void index_follows_structural_changes() {
+        final YogaNode root = YogaNodeFactory.create();
+        final YogaNode a = node(null);
+        final YogaNode b = node(null);
+        final YogaNode grandChild = node(null);
+        b.addChildAt(grandChild, 0);
+        root.addChildAt(a, 0);
+        root.calculateLayout(100, 100);
+
+        final CountingInputs inputs = new CountingInputs();
+        b.setData(inputs);
+        root.addChildAt(b, 1);
+        root.calculateLayout(100, 100);
+        assertEquals(1, inputs.freezes);
+        assertEquals(4, lastContext().size());
+        assertTrue(lastContext().contains(((YogaNodeWrapper) grandChild).mNativePointer));
+
+        root.removeChildAt(1);
+        root.calculateLayout(100, 100);
+        assertEquals(1, inputs.freezes);
+        assertEquals(2, lastContext().size());
+        assertFalse(lastContext().contains(((YogaNodeWrapper) grandChild).mNativePointer));
+
+        final YogaNode c = node(null);
+        ((YogaNodeWrapper) root).swapChildAt(c, 0);
+        assertTrue(root.isDirty());
+        assertNull(a.getOwner());
+        root.calculateLayout(100, 100);
+        assertEquals(new HashSet<>(Arrays.asList(((YogaNodeWrapper) root).mNativePointer,
+                ((YogaNodeWrapper) c).mNativePointer)), lastContext());
+    }
+
+    @Test
+    public void cloning_leaves_the_original_tree_alone() {
+        final YogaNode root = YogaNodeFactory.create();
+        final YogaNode child = YogaNodeFactory.create();
+        child.setWidth(40);
+        child.setHeight(30);
+        root.addChildAt(child, 0);
+        root.calculateLayout(100, 100);
+
+        final YogaNode clone = root.cloneWithChildren();
+        assertNotSame(child, clone.getChildAt(0));
+        assertEquals(40, child.getLayoutWidth());
+        assertSame(root, child.getOwner());
+        assertSame(child, root.getChildAt(0));
+
+        final YogaNode empty = root.cloneWithoutChildren();
+        assertEquals(0, empty.getChildCount());
+        assertEquals(1, root.getChildCount());
+        assertSame(root, child.getOwner());
+
+        root.calculateLayout(100, 100);
+        assertEquals(40, child.getLayoutWidth());
+        assertEquals(30, child.getLayoutHeight());
+
+        clone.calculateLayout(100, 100);
+        assertEquals(40, clone.getChildAt(0).getLayoutWidth());
+        assertSame(clone, clone.getChildAt(0).getOwner());
+    }
+}
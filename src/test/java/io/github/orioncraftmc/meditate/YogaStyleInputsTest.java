@@ -0,0 +1,104 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.enums.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YogaStyleInputsTest {
+
+    @Test
+    public void applies_the_same_style_as_the_setters() {
+        final YogaNode expected = YogaNodeFactory.create();
+        expected.setFlexDirection(YogaFlexDirection.ROW);
+        expected.setWrap(YogaWrap.WRAP);
+        expected.setAlignItems(YogaAlign.CENTER);
+        expected.setFlexGrow(2);
+        expected.setFlexBasisPercent(30);
+        expected.setWidthPercent(50);
+        expected.setMaxHeight(400);
+        expected.setAspectRatio(1.5f);
+        expected.setMargin(YogaEdge.LEFT, 4);
+        expected.setMarginAuto(YogaEdge.RIGHT);
+        expected.setPaddingPercent(YogaEdge.ALL, 10);
+        expected.setBorder(YogaEdge.TOP, 2);
+        expected.setPosition(YogaEdge.BOTTOM, 7);
+        expected.setDisplay(YogaDisplay.NONE);
+
+        final YogaNode actual = YogaNodeFactory.create();
+        new YogaStyleInputs.Builder(4)
+                .flexDirection(YogaFlexDirection.ROW)
+                .wrap(YogaWrap.WRAP)
+                .alignItems(YogaAlign.CENTER)
+                .flexGrow(2)
+                .flexBasisPercent(30)
+                .widthPercent(50)
+                .maxHeight(400)
+                .aspectRatio(1.5f)
+                .margin(YogaEdge.LEFT, 4)
+                .marginAuto(YogaEdge.RIGHT)
+                .paddingPercent(YogaEdge.ALL, 10)
+                .border(YogaEdge.TOP, 2)
+                .position(YogaEdge.BOTTOM, 7)
+                .display(YogaDisplay.NONE)
+                .applyTo(actual);
+
+        assertEquals(expected.getFlexDirection(), actual.getFlexDirection());
+        assertEquals(expected.getWrap(), actual.getWrap());
+        assertEquals(expected.getAlignItems(), actual.getAlignItems());
+        assertEquals(expected.getFlexGrow(), actual.getFlexGrow());
+        assertEquals(expected.getFlexBasis(), actual.getFlexBasis());
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getMaxHeight(), actual.getMaxHeight());
+        assertEquals(expected.getAspectRatio(), actual.getAspectRatio());
+        assertEquals(expected.getMargin(YogaEdge.LEFT), actual.getMargin(YogaEdge.LEFT));
+        assertEquals(expected.getMargin(YogaEdge.RIGHT), actual.getMargin(YogaEdge.RIGHT));
+        assertEquals(expected.getPadding(YogaEdge.ALL), actual.getPadding(YogaEdge.ALL));
+        assertEquals(expected.getBorder(YogaEdge.TOP), actual.getBorder(YogaEdge.TOP));
+        assertEquals(expected.getPosition(YogaEdge.BOTTOM), actual.getPosition(YogaEdge.BOTTOM));
+        assertEquals(expected.getDisplay(), actual.getDisplay());
+    }
+
+    @Test
+    public void dirties_only_when_something_changed() {
+        final YogaNode root = YogaNodeFactory.create();
+        final YogaNode child = YogaNodeFactory.create();
+        root.addChildAt(child, 0);
+        final YogaStyleInputs.Builder style = new YogaStyleInputs.Builder().width(20).heightPercent(50);
+        style.applyTo(child);
+        root.calculateLayout(100, 100);
+        assertFalse(child.isDirty());
+
+        style.applyTo(child);
+        assertFalse(child.isDirty());
+        assertFalse(root.isDirty());
+
+        style.reset().width(30).height(10).alignSelf(YogaAlign.CENTER).applyTo(child);
+        assertTrue(child.isDirty());
+        assertTrue(root.isDirty());
+
+        root.calculateLayout(100, 100);
+        assertEquals(30, child.getLayoutWidth());
+        assertEquals(10, child.getLayoutHeight());
+    }
+
+    @Test
+    public void rejects_truncated_buffers() {
+        final YogaNode node = YogaNodeFactory.create();
+        final YogaStyleInputs.Builder style = new YogaStyleInputs.Builder().margin(YogaEdge.TOP, 5);
+        assertThrows(RuntimeException.class, () -> node.applyStyleInputs(style.getBuffer(), 2));
+    }
+
+    @Test
+    public void malformed_buffers_apply_nothing() {
+        final YogaNode node = YogaNodeFactory.create();
+        final YogaStyleInputs.Builder style = new YogaStyleInputs.Builder().width(20).margin(YogaEdge.TOP, 5);
+        assertThrows(RuntimeException.class, () -> node.applyStyleInputs(style.getBuffer(), style.getLength() - 1));
+        assertEquals(YogaNodeFactory.create().getWidth(), node.getWidth());
+
+        final float[] unknown = {YogaStyleInputs.WIDTH, 20, 1000};
+        assertThrows(RuntimeException.class, () -> node.applyStyleInputs(unknown, unknown.length));
+        assertEquals(YogaNodeFactory.create().getWidth(), node.getWidth());
+        assertFalse(node.isDirty());
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.orioncraftmc.meditate;
+
+import io.github.orioncraftmc.meditate.enums.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YogaTreeStoreTest {
+
+    private static YogaNode buildList(List<YogaNode> measuredNodes) {
+        final YogaNode root = YogaNodeFactory.create();
+        root.setWidth(200);
+        for (int i = 0; i < 3; i++) {
+            final YogaNode row = YogaNodeFactory.create();
+            row.setData("row " + i);
+            row.setMeasureFunction((node, width, widthMode, height, heightMode) -> {
+                measuredNodes.add(node);
+                return YogaMeasureOutput.make(width, ((String) node.getData()).length() * 2);
+            });
+            root.addChildAt(row, i);
+        }
+        return root;
+    }
+
+    @Test
+    public void copy_measures_with_the_data_of_the_original_nodes() {
+        final List<YogaNode> measuredNodes = new ArrayList<>();
+        final YogaNode root = buildList(measuredNodes);
+        root.calculateLayout(YogaConstants.UNDEFINED, YogaConstants.UNDEFINED);
+        final YogaTreeStore store = YogaTreeStore.copyOf(root);
+        measuredNodes.clear();
+
+        store.calculateLayout(0, YogaConstants.UNDEFINED, YogaConstants.UNDEFINED);
+        assertEquals(root.getLayoutHeight(), store.getLayoutHeight(0));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(root.getChildAt(i).getLayoutY(), store.getLayoutY(i + 1));
+            assertEquals(root.getChildAt(i).getLayoutHeight(), store.getLayoutHeight(i + 1));
+        }
+
+        assertFalse(measuredNodes.isEmpty());
+        for (YogaNode node : measuredNodes) {
+            for (int i = 0; i < 3; i++) {
+                assertNotSame(root.getChildAt(i), node);
+            }
+            assertTrue(((String) node.getData()).startsWith("row "));
+        }
+    }
+
+    @Test
+    public void kept_nodes_are_only_relaid_out_where_changed() {
+        final List<YogaNode> measuredNodes = new ArrayList<>();
+        final YogaTreeStore store = YogaTreeStore.copyOf(buildList(measuredNodes));
+        store.calculateLayout(0, YogaConstants.UNDEFINED, YogaConstants.UNDEFINED);
+        final int firstLayoutMeasures = measuredNodes.size();
+        assertTrue(firstLayoutMeasures > 0);
+
+        store.calculateLayout(0, YogaConstants.UNDEFINED, YogaConstants.UNDEFINED);
+        assertEquals(firstLayoutMeasures, measuredNodes.size());
+
+        store.setStyle(2, new YogaStyleInputs.Builder().margin(YogaEdge.TOP, 10));
+        store.calculateLayout(0, YogaConstants.UNDEFINED, YogaConstants.UNDEFINED);
+        // only the restyled row is measured again
+        assertEquals(firstLayoutMeasures + 1, measuredNodes.size());
+        assertEquals(store.getLayoutHeight(1) + 10, store.getLayoutY(2));
+
+        final int child = store.addNode(0);
+        store.setStyle(child, new YogaStyleInputs.Builder().height(30));
+        store.calculateLayout(0, YogaConstants.UNDEFINED, YogaConstants.UNDEFINED);
+        assertEquals(store.getLayoutY(3) + store.getLayoutHeight(3), store.getLayoutY(child));
+        assertEquals(store.getLayoutY(child) + 30, store.getLayoutHeight(0));
+
+        store.releaseNodes();
+        final float height = store.getLayoutHeight(0);
+        store.calculateLayout(0, YogaConstants.UNDEFINED, YogaConstants.UNDEFINED);
+        assertEquals(height, store.getLayoutHeight(0));
+        assertTrue(measuredNodes.size() > firstLayoutMeasures + 1);
+    }
+}
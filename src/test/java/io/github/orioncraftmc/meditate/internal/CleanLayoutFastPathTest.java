@@ -0,0 +1,80 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
+import io.github.orioncraftmc.meditate.internal.event.Event;
+import io.github.orioncraftmc.meditate.internal.event.LayoutPassStartEventData;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CleanLayoutFastPathTest {
+
+    private static YGNode buildTree() {
+        final YGConfig config = GlobalMembers.YGConfigNew();
+        final YGNode root = GlobalMembers.YGNodeNewWithConfig(config);
+        final YGNode child = GlobalMembers.YGNodeNewWithConfig(config);
+        GlobalMembers.YGNodeStyleSetFlexGrow(child, 1);
+        GlobalMembers.YGNodeInsertChild(root, child, 0);
+        return root;
+    }
+
+    @Test
+    public void clean_root_with_same_constraints_is_skipped() {
+        final AtomicInteger passes = new AtomicInteger();
+        Event.subscribe(LayoutPassStartEventData.class, e -> passes.incrementAndGet());
+        try {
+            final YGNode root = buildTree();
+            GlobalMembers.YGNodeCalculateLayout(root, 100, 100, YGDirection.YGDirectionLTR);
+            GlobalMembers.YGNodeCalculateLayout(root, 100, 100, YGDirection.YGDirectionLTR);
+            GlobalMembers.YGNodeCalculateLayout(root, 100, 100, YGDirection.YGDirectionLTR);
+
+            assertEquals(1, passes.get());
+            assertEquals(3, GlobalMembers.YGNodeGetLayoutCalculationCount(root));
+            assertEquals(2, GlobalMembers.YGNodeGetSkippedLayoutCount(root));
+            assertEquals(100, GlobalMembers.YGNodeLayoutGetWidth(root.getChild(0)));
+        } finally {
+            Event.reset();
+        }
+    }
+
+    @Test
+    public void changed_constraints_or_dirty_tree_run_a_full_pass() {
+        final YGNode root = buildTree();
+        GlobalMembers.YGNodeCalculateLayout(root, 100, 100, YGDirection.YGDirectionLTR);
+
+        GlobalMembers.YGNodeCalculateLayout(root, 200, 100, YGDirection.YGDirectionLTR);
+        assertEquals(200, GlobalMembers.YGNodeLayoutGetWidth(root.getChild(0)));
+
+        GlobalMembers.YGNodeCalculateLayout(root, 200, 100, YGDirection.YGDirectionRTL);
+
+        GlobalMembers.YGNodeStyleSetWidth(root.getChild(0), 50);
+        GlobalMembers.YGNodeCalculateLayout(root, 200, 100, YGDirection.YGDirectionRTL);
+        assertEquals(50, GlobalMembers.YGNodeLayoutGetWidth(root.getChild(0)));
+
+        root.getConfig().pointScaleFactor = 2;
+        GlobalMembers.YGNodeCalculateLayout(root, 200, 100, YGDirection.YGDirectionRTL);
+
+        assertEquals(5, GlobalMembers.YGNodeGetLayoutCalculationCount(root));
+        assertEquals(0, GlobalMembers.YGNodeGetSkippedLayoutCount(root));
+    }
+
+    @Test
+    public void attaching_to_an_owner_drops_the_root_state() {
+        final YGNode root = buildTree();
+        final YGNode subtree = root.getChild(0);
+        GlobalMembers.YGNodeRemoveChild(root, subtree);
+        GlobalMembers.YGNodeCalculateLayout(subtree, 40, 40, YGDirection.YGDirectionLTR);
+        assertEquals(1, GlobalMembers.YGNodeGetLayoutCalculationCount(subtree));
+
+        GlobalMembers.YGNodeInsertChild(root, subtree, 0);
+        GlobalMembers.YGNodeCalculateLayout(root, 100, 100, YGDirection.YGDirectionLTR);
+        GlobalMembers.YGNodeRemoveChild(root, subtree);
+        assertEquals(0, GlobalMembers.YGNodeGetLayoutCalculationCount(subtree));
+
+        GlobalMembers.YGNodeCalculateLayout(subtree, 40, 40, YGDirection.YGDirectionLTR);
+        assertEquals(0, GlobalMembers.YGNodeGetSkippedLayoutCount(subtree));
+        assertEquals(40, GlobalMembers.YGNodeLayoutGetWidth(subtree));
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
+import io.github.orioncraftmc.meditate.internal.enums.YGEdge;
+import io.github.orioncraftmc.meditate.internal.enums.YGFlexDirection;
+import io.github.orioncraftmc.meditate.internal.enums.YGWrap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class ConcurrentLayoutTest {
+    private static final int TREE_COUNT = 64;
+    private static final int CHILD_COUNT = 40;
+    private static final int ROUNDS = 5;
+
+    private static YGNode buildTree(int seed) {
+        final YGConfig config = GlobalMembers.YGConfigNew();
+        final YGNode root = GlobalMembers.YGNodeNewWithConfig(config);
+        GlobalMembers.YGNodeStyleSetFlexDirection(root, YGFlexDirection.YGFlexDirectionRow);
+        GlobalMembers.YGNodeStyleSetFlexWrap(root, YGWrap.YGWrapWrap);
+        GlobalMembers.YGNodeStyleSetPadding(root, YGEdge.YGEdgeAll, seed % 7);
+
+        for (int i = 0; i < CHILD_COUNT; i++) {
+            final YGNode child = GlobalMembers.YGNodeNewWithConfig(config);
+            GlobalMembers.YGNodeStyleSetWidth(child, 20 + (seed * 31 + i * 17) % 90);
+            GlobalMembers.YGNodeStyleSetHeight(child, 10 + (seed + i * 7) % 40);
+            GlobalMembers.YGNodeStyleSetMargin(child, YGEdge.YGEdgeAll, i % 3);
+            GlobalMembers.YGNodeStyleSetFlexGrow(child, i % 4);
+            GlobalMembers.YGNodeInsertChild(root, child, i);
+        }
+        return root;
+    }
+
+    private static float[] layout(YGNode root) {
+        GlobalMembers.YGNodeCalculateLayout(root, 500 + root.getChildren().size(), Float.NaN,
+                YGDirection.YGDirectionLTR);
+
+        final int childCount = root.getChildren().size();
+        final float[] result = new float[(childCount + 1) * 4];
+        for (int i = 0; i <= childCount; i++) {
+            final YGNode node = i == 0 ? root : root.getChild(i - 1);
+            result[i * 4] = GlobalMembers.YGNodeLayoutGetLeft(node);
+            result[i * 4 + 1] = GlobalMembers.YGNodeLayoutGetTop(node);
+            result[i * 4 + 2] = GlobalMembers.YGNodeLayoutGetWidth(node);
+            result[i * 4 + 3] = GlobalMembers.YGNodeLayoutGetHeight(node);
+        }
+        return result;
+    }
+
+    @Test
+    public void disjoint_trees_layout_concurrently() throws Exception {
+        final float[][] expected = new float[TREE_COUNT][];
+        for (int i = 0; i < TREE_COUNT; i++) {
+            expected[i] = layout(buildTree(i));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                final List<Future<float[]>> futures = new ArrayList<>();
+                for (int i = 0; i < TREE_COUNT; i++) {
+                    final int seed = i;
+                    futures.add(executor.submit(() -> layout(buildTree(seed))));
+                }
+                for (int i = 0; i < TREE_COUNT; i++) {
+                    assertArrayEquals(expected[i], futures.get(i).get());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
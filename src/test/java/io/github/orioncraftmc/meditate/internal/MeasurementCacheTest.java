@@ -0,0 +1,61 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MeasurementCacheTest {
+
+    @Test
+    public void fills_free_slots_before_evicting() {
+        final YGLayout layout = new YGLayout();
+        final YGCachedMeasurement first = layout.nextCachedMeasurement(3);
+        final YGCachedMeasurement second = layout.nextCachedMeasurement(3);
+        final YGCachedMeasurement third = layout.nextCachedMeasurement(3);
+
+        assertNotSame(first, second);
+        assertNotSame(second, third);
+        assertEquals(3, layout.nextCachedMeasurementsIndex);
+
+        assertSame(first, layout.nextCachedMeasurement(3));
+        assertEquals(3, layout.nextCachedMeasurementsIndex);
+    }
+
+    @Test
+    public void recently_hit_entry_survives_eviction() {
+        final YGLayout layout = new YGLayout();
+        final YGCachedMeasurement first = layout.nextCachedMeasurement(2);
+        final YGCachedMeasurement second = layout.nextCachedMeasurement(2);
+
+        layout.touchCachedMeasurement(first);
+
+        assertSame(second, layout.nextCachedMeasurement(2));
+        assertSame(first, layout.nextCachedMeasurement(2));
+    }
+
+    @Test
+    public void entries_are_allocated_on_demand() {
+        final YGLayout layout = new YGLayout();
+        assertEquals(0, layout.cachedMeasurements.size());
+        layout.nextCachedMeasurement(YGLayout.YG_MAX_CACHED_RESULT_COUNT);
+        assertEquals(1, layout.cachedMeasurements.size());
+    }
+
+    @Test
+    public void capacity_above_default_grows_the_cache() {
+        final YGLayout layout = new YGLayout();
+        for (int i = 0; i < YGLayout.YG_MAX_CACHED_RESULT_COUNT + 4; i++) {
+            layout.nextCachedMeasurement(YGLayout.YG_MAX_CACHED_RESULT_COUNT + 4);
+        }
+        assertEquals(YGLayout.YG_MAX_CACHED_RESULT_COUNT + 4, layout.nextCachedMeasurementsIndex);
+        assertEquals(YGLayout.YG_MAX_CACHED_RESULT_COUNT + 4, layout.cachedMeasurements.size());
+    }
+
+    @Test
+    public void capacity_must_be_positive() {
+        final YGConfig config = GlobalMembers.YGConfigNew();
+        assertThrows(RuntimeException.class, () -> GlobalMembers.YGConfigSetMeasurementCacheCapacity(config, 0));
+        GlobalMembers.YGConfigSetMeasurementCacheCapacity(config, 2);
+        assertEquals(2, config.measurementCacheCapacity);
+    }
+}
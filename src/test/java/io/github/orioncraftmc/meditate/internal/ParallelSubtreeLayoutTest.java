@@ -0,0 +1,99 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
+import io.github.orioncraftmc.meditate.internal.enums.YGEdge;
+import io.github.orioncraftmc.meditate.internal.enums.YGExperimentalFeature;
+import io.github.orioncraftmc.meditate.internal.enums.YGFlexDirection;
+import io.github.orioncraftmc.meditate.internal.enums.YGWrap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class ParallelSubtreeLayoutTest {
+    private static final int PANEL_COUNT = 6;
+    private static final int ROWS_PER_PANEL = 8;
+    private static final int CELLS_PER_ROW = 6;
+
+    private static YGNode buildDashboard(YGConfig config) {
+        final YGNode root = GlobalMembers.YGNodeNewWithConfig(config);
+        GlobalMembers.YGNodeStyleSetFlexDirection(root, YGFlexDirection.YGFlexDirectionRow);
+        GlobalMembers.YGNodeStyleSetWidth(root, 1280);
+        GlobalMembers.YGNodeStyleSetHeight(root, 720);
+
+        for (int p = 0; p < PANEL_COUNT; p++) {
+            final YGNode panel = GlobalMembers.YGNodeNewWithConfig(config);
+            GlobalMembers.YGNodeStyleSetFlexGrow(panel, 1 + p % 2);
+            GlobalMembers.YGNodeStyleSetPadding(panel, YGEdge.YGEdgeAll, 4);
+            for (int r = 0; r < ROWS_PER_PANEL; r++) {
+                final YGNode row = GlobalMembers.YGNodeNewWithConfig(config);
+                GlobalMembers.YGNodeStyleSetFlexDirection(row, YGFlexDirection.YGFlexDirectionRow);
+                GlobalMembers.YGNodeStyleSetFlexWrap(row, YGWrap.YGWrapWrap);
+                GlobalMembers.YGNodeStyleSetFlexGrow(row, r % 3);
+                for (int c = 0; c < CELLS_PER_ROW; c++) {
+                    final YGNode cell = GlobalMembers.YGNodeNewWithConfig(config);
+                    GlobalMembers.YGNodeStyleSetWidth(cell, 10 + (p * 7 + r * 5 + c * 11) % 40);
+                    GlobalMembers.YGNodeStyleSetHeight(cell, 8 + (r + c) % 12);
+                    GlobalMembers.YGNodeStyleSetFlexGrow(cell, c % 2);
+                    GlobalMembers.YGNodeStyleSetMargin(cell, YGEdge.YGEdgeAll, 1);
+                    GlobalMembers.YGNodeInsertChild(row, cell, c);
+                }
+                GlobalMembers.YGNodeInsertChild(panel, row, r);
+            }
+            GlobalMembers.YGNodeInsertChild(root, panel, p);
+        }
+        return root;
+    }
+
+    private static void collect(YGNode node, List<Float> out) {
+        out.add(GlobalMembers.YGNodeLayoutGetLeft(node));
+        out.add(GlobalMembers.YGNodeLayoutGetTop(node));
+        out.add(GlobalMembers.YGNodeLayoutGetWidth(node));
+        out.add(GlobalMembers.YGNodeLayoutGetHeight(node));
+        for (YGNode child : node.getChildren()) {
+            collect(child, out);
+        }
+    }
+
+    private static Object[] layout(YGConfig config) {
+        final YGNode root = buildDashboard(config);
+        GlobalMembers.YGNodeCalculateLayout(root, Float.NaN, Float.NaN, YGDirection.YGDirectionLTR);
+        final List<Float> out = new ArrayList<>();
+        collect(root, out);
+        return out.toArray();
+    }
+
+    @Test
+    public void parallel_subtree_layout_matches_sequential_layout() {
+        final Object[] expected = layout(GlobalMembers.YGConfigNew());
+
+        final AsyncExecutor executor = new AsyncExecutor(3);
+        try {
+            final YGConfig config = GlobalMembers.YGConfigNew();
+            GlobalMembers.YGConfigSetExperimentalFeatureEnabled(config,
+                    YGExperimentalFeature.YGExperimentalFeatureParallelSubtreeLayout, true);
+            GlobalMembers.YGConfigSetParallelLayoutExecutor(config, executor);
+            GlobalMembers.YGConfigSetParallelLayoutThreshold(config, CELLS_PER_ROW);
+
+            for (int i = 0; i < 10; i++) {
+                assertArrayEquals(expected, layout(config));
+            }
+        } finally {
+            executor.dispose();
+        }
+    }
+
+    @Test
+    public void feature_without_executor_lays_out_sequentially() {
+        final Object[] expected = layout(GlobalMembers.YGConfigNew());
+
+        final YGConfig config = GlobalMembers.YGConfigNew();
+        GlobalMembers.YGConfigSetExperimentalFeatureEnabled(config,
+                YGExperimentalFeature.YGExperimentalFeatureParallelSubtreeLayout, true);
+
+        assertArrayEquals(expected, layout(config));
+    }
+}
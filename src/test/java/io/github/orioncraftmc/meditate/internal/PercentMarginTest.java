@@ -0,0 +1,62 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
+import io.github.orioncraftmc.meditate.internal.enums.YGEdge;
+import io.github.orioncraftmc.meditate.internal.enums.YGFlexDirection;
+import io.github.orioncraftmc.meditate.internal.enums.YGMeasureMode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Percent margins against an owner without a definite size resolve to 0, like percent paddings.
+ */
+public class PercentMarginTest {
+
+    private static YGNode buildRow() {
+        final YGNode root = GlobalMembers.YGNodeNew();
+        GlobalMembers.YGNodeStyleSetFlexDirection(root, YGFlexDirection.YGFlexDirectionRow);
+        final YGNode child = GlobalMembers.YGNodeNew();
+        GlobalMembers.YGNodeStyleSetMarginPercent(child, YGEdge.YGEdgeLeft, 10);
+        GlobalMembers.YGNodeStyleSetMarginPercent(child, YGEdge.YGEdgeTop, 10);
+        GlobalMembers.YGNodeSetMeasureFunc(child,
+                (node, width, widthMode, height, heightMode) -> new YGSize(Float.isNaN(width) ? 50 : Math.min(50, width), 20));
+        GlobalMembers.YGNodeInsertChild(root, child, 0);
+        return root;
+    }
+
+    @Test
+    public void resolve_to_zero_without_an_owner_size() {
+        final YGNode root = buildRow();
+        final YGNode child = GlobalMembers.YGNodeGetChild(root, 0);
+        GlobalMembers.YGNodeCalculateLayout(root, Float.NaN, Float.NaN, YGDirection.YGDirectionLTR);
+
+        assertEquals(0, GlobalMembers.YGNodeLayoutGetMargin(child, YGEdge.YGEdgeLeft));
+        assertEquals(0, GlobalMembers.YGNodeLayoutGetLeft(child));
+        assertEquals(50, GlobalMembers.YGNodeLayoutGetWidth(child));
+        assertEquals(50, GlobalMembers.YGNodeLayoutGetWidth(root));
+        assertEquals(20, GlobalMembers.YGNodeLayoutGetHeight(root));
+    }
+
+    @Test
+    public void resolve_against_a_definite_owner_size() {
+        final YGNode root = buildRow();
+        final YGNode child = GlobalMembers.YGNodeGetChild(root, 0);
+        GlobalMembers.YGNodeCalculateLayout(root, 300, Float.NaN, YGDirection.YGDirectionLTR);
+
+        assertEquals(30, GlobalMembers.YGNodeLayoutGetMargin(child, YGEdge.YGEdgeLeft));
+        assertEquals(30, GlobalMembers.YGNodeLayoutGetLeft(child));
+        assertEquals(30, GlobalMembers.YGNodeLayoutGetTop(child));
+        assertEquals(50, GlobalMembers.YGNodeLayoutGetWidth(child));
+    }
+
+    @Test
+    public void measuring_without_an_owner_size() {
+        final YGNode root = buildRow();
+        final YGSize size = GlobalMembers.YGNodeCalculateMeasuredSize(root, Float.NaN,
+                YGMeasureMode.YGMeasureModeUndefined, Float.NaN, YGMeasureMode.YGMeasureModeUndefined,
+                YGDirection.YGDirectionLTR, null);
+        assertEquals(50, size.width);
+        assertEquals(20, size.height);
+    }
+}
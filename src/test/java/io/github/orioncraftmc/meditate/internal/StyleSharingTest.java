@@ -0,0 +1,65 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import io.github.orioncraftmc.meditate.internal.enums.YGEdge;
+import io.github.orioncraftmc.meditate.internal.enums.YGFlexDirection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StyleSharingTest {
+
+    @Test
+    public void copied_style_is_copied_on_first_write() {
+        final YGNode src = GlobalMembers.YGNodeNew();
+        GlobalMembers.YGNodeStyleSetWidth(src, 10);
+        GlobalMembers.YGNodeStyleSetMargin(src, YGEdge.YGEdgeLeft, 3);
+        final YGNode dst = GlobalMembers.YGNodeNew();
+
+        GlobalMembers.YGNodeCopyStyle(dst, src);
+        assertSame(src.getStyle(), dst.getStyle());
+
+        GlobalMembers.YGNodeStyleSetWidth(dst, 20);
+        GlobalMembers.YGNodeStyleSetFlexDirection(src, YGFlexDirection.YGFlexDirectionRow);
+
+        assertNotSame(src.getStyle(), dst.getStyle());
+        assertEquals(10, GlobalMembers.YGNodeStyleGetWidth(src).value);
+        assertEquals(20, GlobalMembers.YGNodeStyleGetWidth(dst).value);
+        assertEquals(YGFlexDirection.YGFlexDirectionColumn, GlobalMembers.YGNodeStyleGetFlexDirection(dst));
+        assertEquals(3, GlobalMembers.YGNodeStyleGetMargin(dst, YGEdge.YGEdgeLeft).value);
+        assertEquals(3, dst.getStyle().margin().leading(YGFlexDirection.YGFlexDirectionRow).value());
+    }
+
+    @Test
+    public void equal_styles_are_interned_once() {
+        final YGStyleTable table = new YGStyleTable();
+        final YGNode[] nodes = new YGNode[5];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = GlobalMembers.YGNodeNew();
+            GlobalMembers.YGNodeStyleSetPadding(nodes[i], YGEdge.YGEdgeAll, 4);
+            GlobalMembers.YGNodeStyleSetFlexGrow(nodes[i], i % 2);
+            GlobalMembers.YGNodeInternStyle(nodes[i], table);
+        }
+
+        assertEquals(2, table.size());
+        assertSame(nodes[0].getStyle(), nodes[2].getStyle());
+        assertSame(nodes[1].getStyle(), nodes[3].getStyle());
+        assertNotSame(nodes[0].getStyle(), nodes[1].getStyle());
+
+        final YGStyle interned = nodes[0].getStyle();
+        GlobalMembers.YGNodeStyleSetFlexGrow(nodes[0], 5);
+        assertEquals(0, interned.flexGrow().unwrap());
+        assertSame(interned, nodes[4].getStyle());
+    }
+
+    @Test
+    public void cloned_node_does_not_write_through_to_the_original() {
+        final YGNode original = GlobalMembers.YGNodeNew();
+        GlobalMembers.YGNodeStyleSetHeight(original, 15);
+        final YGNode clone = GlobalMembers.YGNodeClone(original);
+
+        GlobalMembers.YGNodeStyleSetHeight(clone, 30);
+
+        assertEquals(15, GlobalMembers.YGNodeStyleGetHeight(original).value);
+        assertEquals(30, GlobalMembers.YGNodeStyleGetHeight(clone).value);
+    }
+}
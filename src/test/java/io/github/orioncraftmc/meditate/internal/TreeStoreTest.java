@@ -0,0 +1,92 @@
+package io.github.orioncraftmc.meditate.internal;
+
+import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
+import io.github.orioncraftmc.meditate.internal.enums.YGEdge;
+import io.github.orioncraftmc.meditate.internal.enums.YGFlexDirection;
+import io.github.orioncraftmc.meditate.internal.enums.YGStyleInput;
+import io.github.orioncraftmc.meditate.internal.enums.YGWrap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TreeStoreTest {
+
+    private static YGNode buildTree() {
+        final YGNode root = GlobalMembers.YGNodeNew();
+        GlobalMembers.YGNodeStyleSetFlexDirection(root, YGFlexDirection.YGFlexDirectionRow);
+        GlobalMembers.YGNodeStyleSetFlexWrap(root, YGWrap.YGWrapWrap);
+        GlobalMembers.YGNodeStyleSetPadding(root, YGEdge.YGEdgeAll, 5);
+        for (int i = 0; i < 6; i++) {
+            final YGNode row = GlobalMembers.YGNodeNew();
+            GlobalMembers.YGNodeStyleSetWidth(row, 90);
+            GlobalMembers.YGNodeStyleSetMargin(row, YGEdge.YGEdgeAll, 2);
+            for (int j = 0; j < 3; j++) {
+                final YGNode label = GlobalMembers.YGNodeNew();
+                final int length = i + j + 1;
+                GlobalMembers.YGNodeSetMeasureFunc(label,
+                        (node, width, widthMode, height, heightMode) -> new YGSize(Math.min(length * 7, width), 12));
+                GlobalMembers.YGNodeInsertChild(row, label, j);
+            }
+            GlobalMembers.YGNodeInsertChild(root, row, i);
+        }
+        return root;
+    }
+
+    private static int assertSameLayout(YGNode node, YGTreeStore store, int id) {
+        assertEquals(GlobalMembers.YGNodeLayoutGetLeft(node), store.getLayoutLeft(id));
+        assertEquals(GlobalMembers.YGNodeLayoutGetTop(node), store.getLayoutTop(id));
+        assertEquals(GlobalMembers.YGNodeLayoutGetWidth(node), store.getLayoutWidth(id));
+        assertEquals(GlobalMembers.YGNodeLayoutGetHeight(node), store.getLayoutHeight(id));
+        int next = id + 1;
+        for (int i = 0; i < GlobalMembers.YGNodeGetChildCount(node); i++) {
+            next = assertSameLayout(GlobalMembers.YGNodeGetChild(node, i), store, next);
+        }
+        return next;
+    }
+
+    @Test
+    public void copied_tree_lays_out_like_the_original() {
+        final YGNode root = buildTree();
+        final YGTreeStore store = YGTreeStore.copyOf(root);
+        assertEquals(25, store.size());
+
+        GlobalMembers.YGNodeCalculateLayout(root, 300, Float.NaN, YGDirection.YGDirectionLTR);
+        store.calculateLayout(0, 300, Float.NaN, YGDirection.YGDirectionLTR);
+
+        assertEquals(25, assertSameLayout(root, store, 0));
+        assertTrue(store.getLayoutHeight(0) > 0);
+    }
+
+    @Test
+    public void equal_styles_are_stored_once() {
+        final YGTreeStore store = YGTreeStore.copyOf(buildTree());
+        // default, root, rows; the labels keep the default style
+        assertEquals(3, store.getStyleCount());
+        assertSame(store.getStyle(1), store.getStyle(5));
+        assertSame(store.getStyle(2), store.getStyle(24));
+        assertNotSame(store.getStyle(0), store.getStyle(1));
+    }
+
+    @Test
+    public void style_inputs_and_links() {
+        final YGTreeStore store = new YGTreeStore(GlobalMembers.YGConfigGetDefault(), 1);
+        final int root = store.addNode(YGTreeStore.NO_NODE);
+        store.setStyleInputs(root, new float[]{YGStyleInput.Width.getValue(), 200,
+                YGStyleInput.FlexDirection.getValue(), YGFlexDirection.YGFlexDirectionRow.getValue()}, 4);
+        final int first = store.addNode(root);
+        final int second = store.addNode(root);
+        store.setStyleInputs(first, new float[]{YGStyleInput.FlexGrow.getValue(), 1}, 2);
+        store.setStyleInputs(second, new float[]{YGStyleInput.FlexGrow.getValue(), 3}, 2);
+
+        assertEquals(root, store.getParent(second));
+        assertEquals(first, store.getFirstChild(root));
+        assertEquals(second, store.getNextSibling(first));
+        assertEquals(YGTreeStore.NO_NODE, store.getNextSibling(second));
+
+        store.calculateLayout(root, Float.NaN, Float.NaN, YGDirection.YGDirectionLTR);
+        assertEquals(200, store.getLayoutWidth(root));
+        assertEquals(50, store.getLayoutWidth(first));
+        assertEquals(50, store.getLayoutLeft(second));
+        assertEquals(150, store.getLayoutWidth(second));
+    }
+}
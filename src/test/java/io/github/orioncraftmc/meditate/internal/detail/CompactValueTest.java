@@ -0,0 +1,69 @@
+package io.github.orioncraftmc.meditate.internal.detail;
+
+import io.github.orioncraftmc.meditate.internal.YGValue;
+import io.github.orioncraftmc.meditate.internal.enums.YGUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactValueTest {
+
+    @Test
+    public void round_trips_points_and_percentages() {
+        float[] values = {1f, -1f, 0.5f, 123.456f, -9876.5f, CompactValue.LOWER_BOUND, 1e18f};
+        for (float value : values) {
+            assertValue(value, YGUnit.YGUnitPoint, CompactValue.of(value, YGUnit.YGUnitPoint).convertToYgValue());
+            assertValue(value, YGUnit.YGUnitPercent, CompactValue.of(value, YGUnit.YGUnitPercent).convertToYgValue());
+        }
+    }
+
+    @Test
+    public void values_below_lower_bound_are_zero() {
+        assertValue(0f, YGUnit.YGUnitPoint, CompactValue.of(1e-20f, YGUnit.YGUnitPoint).convertToYgValue());
+        assertValue(0f, YGUnit.YGUnitPercent, CompactValue.of(-1e-20f, YGUnit.YGUnitPercent).convertToYgValue());
+        assertSame(CompactValue.ofZero(), CompactValue.of(0f, YGUnit.YGUnitPoint));
+    }
+
+    @Test
+    public void values_above_upper_bound_are_clamped() {
+        assertValue(CompactValue.UPPER_BOUND_POINT, YGUnit.YGUnitPoint,
+                CompactValue.of(1e30f, YGUnit.YGUnitPoint).convertToYgValue());
+        assertValue(-CompactValue.UPPER_BOUND_PERCENT, YGUnit.YGUnitPercent,
+                CompactValue.of(-1e30f, YGUnit.YGUnitPercent).convertToYgValue());
+    }
+
+    @Test
+    public void special_values_are_shared_constants() {
+        assertSame(CompactValue.ofUndefined(), CompactValue.ofMaybe(Float.NaN, YGUnit.YGUnitPoint));
+        assertSame(CompactValue.ofAuto(), CompactValue.createCompactValue(new YGValue(0, YGUnit.YGUnitAuto)));
+        assertTrue(CompactValue.ofUndefined().isUndefined());
+        assertFalse(CompactValue.ofUndefined().isAuto());
+        assertTrue(CompactValue.ofAuto().isAuto());
+        assertFalse(CompactValue.ofAuto().isUndefined());
+        assertFalse(CompactValue.ofZero().isUndefined());
+        assertEquals(YGUnit.YGUnitUndefined, CompactValue.ofUndefined().unit());
+        assertTrue(Float.isNaN(CompactValue.ofUndefined().value()));
+    }
+
+    @Test
+    public void equality_compares_unit_and_value() {
+        assertTrue(CompactValue.equalsTo(CompactValue.of(10f, YGUnit.YGUnitPoint), CompactValue.of(10f, YGUnit.YGUnitPoint)));
+        assertFalse(CompactValue.equalsTo(CompactValue.of(10f, YGUnit.YGUnitPoint), CompactValue.of(10f, YGUnit.YGUnitPercent)));
+        assertTrue(CompactValue.equalsTo(CompactValue.ofUndefined(), CompactValue.ofUndefined()));
+    }
+
+    @Test
+    public void values_reads_do_not_copy() {
+        Values<?> values = new Values<>();
+        CompactValue ten = CompactValue.of(10f, YGUnit.YGUnitPoint);
+        values.set(3, ten);
+        assertSame(ten, values.getCompactValue(3));
+        assertSame(CompactValue.ofUndefined(), values.getCompactValue(0));
+        assertSame(CompactValue.ofUndefined(), values.getCompactValue(8));
+    }
+
+    private static void assertValue(float expectedValue, YGUnit expectedUnit, YGValue actual) {
+        assertEquals(expectedUnit, actual.unit);
+        assertEquals(expectedValue, actual.value);
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.orioncraftmc.meditate.internal.detail;
+
+import io.github.orioncraftmc.meditate.internal.enums.YGEdge;
+import io.github.orioncraftmc.meditate.internal.enums.YGFlexDirection;
+import io.github.orioncraftmc.meditate.internal.enums.YGUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EdgeValuesTest {
+
+    @Test
+    public void unset_edges_resolve_to_undefined() {
+        EdgeValues edges = new EdgeValues();
+        for (YGFlexDirection axis : YGFlexDirection.values()) {
+            assertTrue(edges.leading(axis).isUndefined());
+            assertTrue(edges.trailing(axis).isUndefined());
+            assertSame(CompactValue.ofZero(), edges.leading(axis, CompactValue.ofZero()));
+        }
+    }
+
+    @Test
+    public void resolution_follows_edge_fallbacks() {
+        EdgeValues edges = new EdgeValues();
+        edges.set(YGEdge.YGEdgeAll.getValue(), CompactValue.of(1, YGUnit.YGUnitPoint));
+        edges.set(YGEdge.YGEdgeVertical.getValue(), CompactValue.of(2, YGUnit.YGUnitPoint));
+        edges.set(YGEdge.YGEdgeLeft.getValue(), CompactValue.of(3, YGUnit.YGUnitPoint));
+        edges.set(YGEdge.YGEdgeEnd.getValue(), CompactValue.of(4, YGUnit.YGUnitPercent));
+
+        assertEquals(2, edges.leading(YGFlexDirection.YGFlexDirectionColumn).value());
+        assertEquals(2, edges.trailing(YGFlexDirection.YGFlexDirectionColumnReverse).value());
+        assertEquals(3, edges.leading(YGFlexDirection.YGFlexDirectionRow).value());
+        assertEquals(1, edges.leading(YGFlexDirection.YGFlexDirectionRowReverse).value());
+        assertEquals(4, edges.trailing(YGFlexDirection.YGFlexDirectionRow).value());
+        assertEquals(YGUnit.YGUnitPercent, edges.trailing(YGFlexDirection.YGFlexDirectionRow).unit());
+    }
+
+    @Test
+    public void setting_an_edge_updates_resolved_values() {
+        EdgeValues edges = new EdgeValues();
+        edges.set(YGEdge.YGEdgeAll.getValue(), CompactValue.of(1, YGUnit.YGUnitPoint));
+        assertEquals(1, edges.leading(YGFlexDirection.YGFlexDirectionRow).value());
+
+        edges.set(YGEdge.YGEdgeStart.getValue(), CompactValue.of(5, YGUnit.YGUnitPoint));
+        assertEquals(5, edges.leading(YGFlexDirection.YGFlexDirectionRow).value());
+
+        edges.set(YGEdge.YGEdgeStart.getValue(), CompactValue.ofUndefined());
+        assertEquals(1, edges.leading(YGFlexDirection.YGFlexDirectionRow).value());
+    }
+}
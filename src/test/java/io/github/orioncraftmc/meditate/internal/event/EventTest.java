@@ -0,0 +1,62 @@
+package io.github.orioncraftmc.meditate.internal.event;
+
+import io.github.orioncraftmc.meditate.internal.GlobalMembers;
+import io.github.orioncraftmc.meditate.internal.YGConfig;
+import io.github.orioncraftmc.meditate.internal.YGNode;
+import io.github.orioncraftmc.meditate.internal.YGSize;
+import io.github.orioncraftmc.meditate.internal.enums.YGDirection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventTest {
+
+    @AfterEach
+    public void reset() {
+        Event.reset();
+    }
+
+    @Test
+    public void nothing_is_subscribed_by_default() {
+        for (Event.Type type : Event.Type.values()) {
+            assertFalse(Event.isSubscribed(type));
+        }
+    }
+
+    @Test
+    public void subscribing_to_a_payload_class_covers_its_types() {
+        Event.subscribe(Event.EmptyEventData.class, e -> {
+        });
+
+        assertTrue(Event.isSubscribed(Event.Type.MeasureCallbackStart));
+        assertTrue(Event.isSubscribed(Event.Type.NodeBaselineStart));
+        assertTrue(Event.isSubscribed(Event.Type.NodeBaselineEnd));
+        assertFalse(Event.isSubscribed(Event.Type.NodeLayout));
+
+        Event.reset();
+        assertFalse(Event.isSubscribed(Event.Type.MeasureCallbackStart));
+    }
+
+    @Test
+    public void layout_publishes_to_subscribers() {
+        final List<Object> events = new ArrayList<>();
+        Event.subscribe(Event.EmptyEventData.class, events::add);
+        Event.subscribe(MeasureCallbackEndEventData.class, events::add);
+        Event.subscribe(LayoutPassEndEventData.class, events::add);
+
+        final YGConfig config = GlobalMembers.YGConfigNew();
+        final YGNode root = GlobalMembers.YGNodeNewWithConfig(config);
+        GlobalMembers.YGNodeSetMeasureFunc(root,
+                (node, width, widthMode, height, heightMode) -> new YGSize(10, 10));
+        GlobalMembers.YGNodeCalculateLayout(root, Float.NaN, Float.NaN, YGDirection.YGDirectionLTR);
+
+        assertEquals(3, events.size());
+        assertTrue(events.get(0) instanceof Event.EmptyEventData);
+        assertEquals(10, ((MeasureCallbackEndEventData) events.get(1)).measuredWidth);
+        assertEquals(1, ((LayoutPassEndEventData) events.get(2)).layoutData.measureCallbacks);
+    }
+}